@@ -0,0 +1,123 @@
+package com.codeitsolution.desafiotecnicocodegroup.benchmarks;
+
+import com.codeitsolution.desafiotecnicocodegroup.DesafioTecnicoCodeGroupApplication;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.PessoaRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.ProjetoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// Ida e volta completa pelo Spring MVC (filtros, conversão JSON, serviços, cache e JPA) contra um
+// H2 em memória. Ficam de fora as rotas que usam SQL exclusivo do PostgreSQL (atualização,
+// exclusão e mudança de status com RETURNING, inclusão de membros com ON CONFLICT).
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EndpointsBenchmark {
+
+    private static final int QUANTIDADE_PROJETOS = 500;
+
+    private ConfigurableApplicationContext contexto;
+    private MockMvc mockMvc;
+    private long projetoId;
+    private String corpoCriacao;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // Argumentos de linha de comando, para prevalecer sobre o application.properties da aplicação.
+        contexto = new SpringApplicationBuilder(DesafioTecnicoCodeGroupApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--desafio-tecnico.reativo.url=r2dbc:h2:mem:///benchmark-reativo",
+                "--logging.level.root=WARN");
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) contexto).build();
+
+        Pessoa gerente = new Pessoa();
+        gerente.setNome("Gerente");
+        gerente.setAtribuicao("gerente");
+        gerente.setFuncionario(true);
+        gerente = contexto.getBean(PessoaRepository.class).save(gerente);
+
+        corpoCriacao = SerializacaoBenchmark.CORPO_CRIACAO.replace("\"id\": 1", "\"id\": " + gerente.getId());
+
+        ProjetoService projetoService = contexto.getBean(ProjetoService.class);
+        for (int i = 0; i < QUANTIDADE_PROJETOS; i++) {
+            Projeto projeto = new Projeto();
+            projeto.setNome("Projeto " + i + (i % 10 == 0 ? " de integração" : ""));
+            projeto.setDescricao("Descrição do projeto " + i);
+            projeto.setOrcamento(1000f * i);
+            projeto.setGerente(gerente);
+            projetoId = projetoService.save(projeto).getId();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public MvcResult listarProjetos() throws Exception {
+        return mockMvc.perform(get("/projetos").param("tamanho", "20")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult buscarProjetoPorId() throws Exception {
+        return mockMvc.perform(get("/projetos/{id}", projetoId)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult obterRisco() throws Exception {
+        return mockMvc.perform(get("/projetos/{id}/risco", projetoId)).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult buscarTexto() throws Exception {
+        return mockMvc.perform(get("/projetos/search").param("q", "integração")).andReturn();
+    }
+
+    @Benchmark
+    public MvcResult obterEstatisticas() throws Exception {
+        return mockMvc.perform(get("/projetos/stats")).andReturn();
+    }
+
+    // Cada chamada insere um projeto; a tabela cresce ao longo das iterações.
+    @Benchmark
+    public MvcResult criarProjeto() throws Exception {
+        return mockMvc.perform(post("/projetos")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corpoCriacao))
+                .andReturn();
+    }
+
+}
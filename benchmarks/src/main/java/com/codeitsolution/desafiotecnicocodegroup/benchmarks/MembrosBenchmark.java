@@ -0,0 +1,137 @@
+package com.codeitsolution.desafiotecnicocodegroup.benchmarks;
+
+import com.codeitsolution.desafiotecnicocodegroup.DesafioTecnicoCodeGroupApplication;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.PessoaRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.ProjetoService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+// Inclusão de "quantidade" membros em um projeto novo: uma requisição por pessoa em
+// POST /projetos/{id}/membros contra uma única requisição em POST /projetos/{id}/membros/batch.
+// Roda sobre um PostgreSQL embutido, porque a inclusão usa INSERT ... ON CONFLICT ... RETURNING.
+// O tempo é por invocação, ou seja, por grupo de "quantidade" membros nos dois casos.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MembrosBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int quantidade;
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext contexto;
+    private MockMvc mockMvc;
+    private ProjetoService projetoService;
+    private Pessoa gerente;
+    private List<Long> funcionarioIds;
+    private String corpoLote;
+    private long projetoId;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        contexto = new SpringApplicationBuilder(DesafioTecnicoCodeGroupApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                "--spring.datasource.username=postgres",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--desafio-tecnico.reativo.url=r2dbc:h2:mem:///membros-reativo",
+                "--logging.level.root=WARN");
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) contexto).build();
+        projetoService = contexto.getBean(ProjetoService.class);
+
+        PessoaRepository pessoaRepository = contexto.getBean(PessoaRepository.class);
+        gerente = new Pessoa();
+        gerente.setNome("Gerente");
+        gerente.setAtribuicao("gerente");
+        gerente = pessoaRepository.save(gerente);
+
+        funcionarioIds = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            Pessoa funcionario = new Pessoa();
+            funcionario.setNome("Funcionário " + i);
+            funcionario.setAtribuicao("funcionario");
+            funcionarioIds.add(pessoaRepository.save(funcionario).getId());
+        }
+        corpoLote = funcionarioIds.stream().map(String::valueOf)
+                .collect(Collectors.joining(", ", "{\"pessoaIds\": [", "]}"));
+    }
+
+    // Cada invocação parte de um projeto sem membros, para que todas as pessoas sejam de fato incluídas.
+    @Setup(Level.Invocation)
+    public void criarProjeto() {
+        Projeto projeto = new Projeto();
+        projeto.setNome("Projeto de membros");
+        projeto.setOrcamento(1000f);
+        projeto.setGerente(gerente);
+        projetoId = projetoService.save(projeto).getId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        contexto.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public MvcResult umPorVez() throws Exception {
+        MvcResult resultado = null;
+        for (Long pessoaId : funcionarioIds) {
+            resultado = confirmar(mockMvc.perform(post("/projetos/{id}/membros", projetoId)
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("{\"pessoaId\": " + pessoaId + "}"))
+                    .andReturn());
+        }
+        return resultado;
+    }
+
+    @Benchmark
+    public MvcResult emLote() throws Exception {
+        return confirmar(mockMvc.perform(post("/projetos/{id}/membros/batch", projetoId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corpoLote))
+                .andReturn());
+    }
+
+    // Uma resposta de erro mediria outro caminho; melhor interromper o benchmark.
+    private static MvcResult confirmar(MvcResult resultado) {
+        if (resultado.getResponse().getStatus() != 200) {
+            throw new IllegalStateException("Resposta inesperada: " + resultado.getResponse().getStatus());
+        }
+        return resultado;
+    }
+
+}
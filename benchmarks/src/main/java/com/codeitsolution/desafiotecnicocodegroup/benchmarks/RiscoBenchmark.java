@@ -0,0 +1,48 @@
+package com.codeitsolution.desafiotecnicocodegroup.benchmarks;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.ProjetoServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+// Classificação de risco pelo orçamento, uma faixa por parâmetro.
+// determinarRisco não usa as dependências injetadas, por isso o serviço é instanciado diretamente.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RiscoBenchmark {
+
+    @Param({"50000", "250000", "750000"})
+    private float orcamento;
+
+    private ProjetoServiceImpl projetoService;
+    private Projeto projeto;
+
+    @Setup
+    public void setUp() {
+        projetoService = new ProjetoServiceImpl();
+        projeto = new Projeto();
+        projeto.setOrcamento(orcamento);
+    }
+
+    @Benchmark
+    public Risco determinarRisco() {
+        return projetoService.determinarRisco(projeto);
+    }
+
+}
@@ -0,0 +1,107 @@
+package com.codeitsolution.desafiotecnicocodegroup.benchmarks;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Serialização das entidades como o Spring MVC as escreve nas respostas e leitura do corpo
+// enviado ao createProjeto. O ObjectMapper vem do mesmo construtor usado pelo Spring Boot.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializacaoBenchmark {
+
+    // Mesmo corpo do exemplo em api.http.
+    static final String CORPO_CRIACAO = """
+            {
+              "nome": "Projeto 2",
+              "dataInicio": "2023-08-01",
+              "dataPrevisaoFim": "2023-12-01",
+              "descricao": "Descrição detalhada do projeto",
+              "orcamento": 150000.0,
+              "risco": "BAIXO",
+              "gerente": {
+                "id": 1
+              },
+              "status": "EM_ANALISE"
+            }
+            """;
+
+    private ObjectWriter escritorProjeto;
+    private ObjectWriter escritorPessoa;
+    private ObjectReader leitorProjeto;
+
+    private Projeto projeto;
+    private Pessoa pessoa;
+    private byte[] corpoCriacao;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        escritorProjeto = objectMapper.writerFor(Projeto.class);
+        escritorPessoa = objectMapper.writerFor(Pessoa.class);
+        leitorProjeto = objectMapper.readerFor(Projeto.class);
+
+        pessoa = new Pessoa();
+        pessoa.setId(1L);
+        pessoa.setNome("Maria da Silva");
+        pessoa.setDataNascimento(new Date(0));
+        pessoa.setCpf("123.456.789-00");
+        pessoa.setFuncionario(true);
+        pessoa.setAtribuicao("gerente");
+
+        projeto = new Projeto();
+        projeto.setId(1L);
+        projeto.setNome("Criação de serviços de integração");
+        projeto.setDataInicio(new Date(1690848000000L));
+        projeto.setDataPrevisaoFim(new Date(1701388800000L));
+        projeto.setDescricao("Descrição detalhada do projeto");
+        projeto.setOrcamento(150000f);
+        projeto.setRisco(Risco.MEDIO);
+        projeto.setStatus(StatusProjeto.EM_ANALISE);
+        projeto.setVersao(3L);
+        projeto.setGerente(pessoa);
+
+        corpoCriacao = CORPO_CRIACAO.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] serializarProjeto() throws JsonProcessingException {
+        return escritorProjeto.writeValueAsBytes(projeto);
+    }
+
+    @Benchmark
+    public byte[] serializarPessoa() throws JsonProcessingException {
+        return escritorPessoa.writeValueAsBytes(pessoa);
+    }
+
+    @Benchmark
+    public Projeto desserializarCriacaoProjeto() throws IOException {
+        return leitorProjeto.readValue(corpoCriacao);
+    }
+
+}
@@ -0,0 +1,51 @@
+#!/usr/bin/env bash
+# Compara threads de plataforma e threads virtuais nos endpoints de leitura.
+#
+# Sobe a aplicação duas vezes (desafio-tecnico.threads.virtuais=false e true) contra o mesmo
+# PostgreSQL e dispara a mesma carga com o hey (https://github.com/rakyll/hey) em cada endpoint.
+# Os relatórios ficam em target/comparacao-threads/<modo>/<endpoint>.txt.
+#
+# Uso: scripts/comparar-threads.sh [concorrencia] [duracao] [id-do-projeto]
+#      scripts/comparar-threads.sh 400 30s 1
+set -euo pipefail
+
+CONCORRENCIA="${1:-400}"
+DURACAO="${2:-30s}"
+PROJETO_ID="${3:-1}"
+PORTA="${PORTA:-8080}"
+BASE="http://localhost:${PORTA}"
+SAIDA="target/comparacao-threads"
+
+command -v hey >/dev/null || { echo "O hey não foi encontrado no PATH." >&2; exit 1; }
+
+declare -A ENDPOINTS=(
+  [listar]="/projetos?tamanho=20"
+  [buscar-por-id]="/projetos/${PROJETO_ID}"
+  [risco]="/projetos/${PROJETO_ID}/risco"
+  [membros]="/projetos/${PROJETO_ID}/membros?tamanho=50"
+)
+
+cd "$(dirname "$0")/.."
+./mvnw -q -DskipTests package
+
+for virtuais in false true; do
+  modo=$([ "$virtuais" = true ] && echo virtuais || echo plataforma)
+  mkdir -p "${SAIDA}/${modo}"
+
+  java -jar target/*.war --server.port="${PORTA}" --desafio-tecnico.threads.virtuais="${virtuais}" \
+    > "${SAIDA}/${modo}/aplicacao.log" 2>&1 &
+  pid=$!
+  trap 'kill ${pid} 2>/dev/null || true' EXIT
+
+  until curl -sf "${BASE}/actuator/health" >/dev/null; do sleep 1; done
+
+  for nome in "${!ENDPOINTS[@]}"; do
+    # Aquecimento curto para JIT e caches, descartado.
+    hey -z 5s -c "${CONCORRENCIA}" "${BASE}${ENDPOINTS[$nome]}" >/dev/null
+    hey -z "${DURACAO}" -c "${CONCORRENCIA}" "${BASE}${ENDPOINTS[$nome]}" > "${SAIDA}/${modo}/${nome}.txt"
+    echo "${modo} ${nome}: $(grep -m1 'Requests/sec' "${SAIDA}/${modo}/${nome}.txt")"
+  done
+
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+done
@@ -0,0 +1,123 @@
+package com.codeitsolution.desafiotecnicocodegroup.carga;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Cenários reproduzidos pelo gerador, com o peso de cada um no total de chegadas.
+// Seguem as requisições de api.http.
+enum Cenario {
+
+    CRIAR_PROJETO("POST /projetos", 15) {
+        @Override
+        HttpRequest requisicao(URI base, EstadoCarga estado) {
+            ThreadLocalRandom aleatorio = ThreadLocalRandom.current();
+            return json(base.resolve("/projetos"), "POST", """
+                    {"nome": "Projeto de carga %d", "descricao": "Integração de serviços e relatórios",
+                     "orcamento": %d, "gerente": {"id": %d}}
+                    """.formatted(aleatorio.nextInt(1_000_000), aleatorio.nextInt(1_000_000), estado.gerenteId()));
+        }
+
+        @Override
+        void concluir(EstadoCarga estado, HttpResponse<String> resposta) {
+            // POST /projetos responde 201 Created.
+            if (resposta.statusCode() / 100 == 2) {
+                estado.projetoCriado(resposta.body());
+            }
+        }
+    },
+
+    ADICIONAR_MEMBROS("POST /projetos/{id}/membros/batch", 10) {
+        @Override
+        HttpRequest requisicao(URI base, EstadoCarga estado) {
+            return json(base.resolve("/projetos/" + estado.projetoQualquer() + "/membros/batch"), "POST",
+                    "{\"pessoaIds\": [%d, %d, %d]}".formatted(
+                            estado.funcionarioQualquer(), estado.funcionarioQualquer(), estado.funcionarioQualquer()));
+        }
+    },
+
+    LISTAR_PROJETOS("GET /projetos", 30) {
+        @Override
+        HttpRequest requisicao(URI base, EstadoCarga estado) {
+            return HttpRequest.newBuilder(base.resolve("/projetos?tamanho=20")).GET().build();
+        }
+    },
+
+    OBTER_RISCO("GET /projetos/{id}/risco", 25) {
+        @Override
+        HttpRequest requisicao(URI base, EstadoCarga estado) {
+            return HttpRequest.newBuilder(base.resolve("/projetos/" + estado.projetoQualquer() + "/risco")).GET().build();
+        }
+    },
+
+    MUDAR_STATUS("PATCH /projetos/{id}/status", 10) {
+        @Override
+        HttpRequest requisicao(URI base, EstadoCarga estado) {
+            Long id = estado.proximoEmAnalise();
+            if (id == null) {
+                return null;
+            }
+            return json(base.resolve("/projetos/" + id + "/status"), "PATCH", "{\"status\": \"ANALISE_REALIZADA\"}");
+        }
+    },
+
+    EXCLUIR_PROJETO("DELETE /projetos/{id}", 10) {
+        @Override
+        HttpRequest requisicao(URI base, EstadoCarga estado) {
+            Long id = estado.proximoParaExcluir();
+            if (id == null) {
+                return null;
+            }
+            return HttpRequest.newBuilder(base.resolve("/projetos/" + id)).DELETE().build();
+        }
+    };
+
+    private static final int PESO_TOTAL;
+
+    static {
+        int total = 0;
+        for (Cenario cenario : values()) {
+            total += cenario.peso;
+        }
+        PESO_TOTAL = total;
+    }
+
+    private final String rotulo;
+    private final int peso;
+
+    Cenario(String rotulo, int peso) {
+        this.rotulo = rotulo;
+        this.peso = peso;
+    }
+
+    String rotulo() {
+        return rotulo;
+    }
+
+    // Requisição a enviar, ou null quando o estado atual não permite o cenário
+    // (por exemplo, nenhum projeto em análise para mudar de status).
+    abstract HttpRequest requisicao(URI base, EstadoCarga estado);
+
+    void concluir(EstadoCarga estado, HttpResponse<String> resposta) {
+    }
+
+    static Cenario sortear() {
+        int sorteio = ThreadLocalRandom.current().nextInt(PESO_TOTAL);
+        for (Cenario cenario : values()) {
+            sorteio -= cenario.peso;
+            if (sorteio < 0) {
+                return cenario;
+            }
+        }
+        throw new IllegalStateException("Pesos inconsistentes");
+    }
+
+    private static HttpRequest json(URI uri, String metodo, String corpo) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method(metodo, HttpRequest.BodyPublishers.ofString(corpo))
+                .build();
+    }
+
+}
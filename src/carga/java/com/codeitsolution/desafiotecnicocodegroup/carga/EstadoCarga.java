@@ -0,0 +1,64 @@
+package com.codeitsolution.desafiotecnicocodegroup.carga;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Dados compartilhados pelos cenários durante a carga. Os projetos criados entram na fila de
+// análise; depois de mudar de status passam para a fila de exclusão, de modo que cada projeto
+// percorre criação, transição e exclusão uma única vez.
+final class EstadoCarga {
+
+    private static final Pattern ID = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+
+    private final long gerenteId;
+    private final long[] funcionarios;
+    private final long menorProjeto;
+    private final AtomicLong maiorProjeto;
+    private final ConcurrentLinkedQueue<Long> emAnalise = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Long> paraExcluir = new ConcurrentLinkedQueue<>();
+
+    EstadoCarga(long gerenteId, long[] funcionarios, long menorProjeto, long maiorProjeto) {
+        this.gerenteId = gerenteId;
+        this.funcionarios = funcionarios;
+        this.menorProjeto = menorProjeto;
+        this.maiorProjeto = new AtomicLong(maiorProjeto);
+    }
+
+    long gerenteId() {
+        return gerenteId;
+    }
+
+    long funcionarioQualquer() {
+        return funcionarios[ThreadLocalRandom.current().nextInt(funcionarios.length)];
+    }
+
+    // Projetos excluídos no meio do intervalo resultam em 404, contabilizados à parte no relatório.
+    long projetoQualquer() {
+        return ThreadLocalRandom.current().nextLong(menorProjeto, maiorProjeto.get() + 1);
+    }
+
+    void projetoCriado(String corpo) {
+        Matcher matcher = ID.matcher(corpo);
+        if (matcher.find()) {
+            long id = Long.parseLong(matcher.group(1));
+            maiorProjeto.accumulateAndGet(id, Math::max);
+            emAnalise.add(id);
+        }
+    }
+
+    Long proximoEmAnalise() {
+        Long id = emAnalise.poll();
+        if (id != null) {
+            paraExcluir.add(id);
+        }
+        return id;
+    }
+
+    Long proximoParaExcluir() {
+        return paraExcluir.poll();
+    }
+
+}
@@ -0,0 +1,225 @@
+package com.codeitsolution.desafiotecnicocodegroup.carga;
+
+import com.codeitsolution.desafiotecnicocodegroup.DesafioTecnicoCodeGroupApplication;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.PessoaRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.ProjetoService;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+// Gerador de carga em modelo aberto: as chegadas seguem um processo de Poisson com a taxa
+// configurada, independentemente de as respostas anteriores já terem voltado. A latência é
+// medida a partir do instante em que a requisição deveria ter saído, para que atrasos do próprio
+// gerador não escondam filas do servidor (omissão coordenada).
+//
+// Executado pelo perfil Maven "carga":
+//     ./mvnw -Pcarga -Dcarga.taxa=300 -Dcarga.duracao=120
+//
+// A aplicação sobe no Tomcat embutido sobre um PostgreSQL embutido. O H2 não serve aqui porque
+// a mudança de status, a exclusão e a inclusão de membros usam UPDATE/DELETE ... RETURNING e
+// INSERT ... ON CONFLICT, exclusivos do PostgreSQL.
+public final class GeradorCarga {
+
+    private static final int FUNCIONARIOS = 200;
+    private static final int PROJETOS_INICIAIS = 500;
+
+    private final URI base;
+    private final EstadoCarga estado;
+    private final HttpClient cliente;
+    private final Map<Cenario, Recorder> latencias = new EnumMap<>(Cenario.class);
+    private final Map<Cenario, LongAdder> respostas4xx = new EnumMap<>(Cenario.class);
+    private final Map<Cenario, LongAdder> falhas = new EnumMap<>(Cenario.class);
+    // Sorteios do cenário trocados por LISTAR_PROJETOS porque o estado não permitia executá-lo.
+    private final Map<Cenario, LongAdder> substituidos = new EnumMap<>(Cenario.class);
+    private final AtomicInteger pendentes = new AtomicInteger();
+
+    private GeradorCarga(URI base, EstadoCarga estado, ExecutorService executor) {
+        this.base = base;
+        this.estado = estado;
+        this.cliente = HttpClient.newBuilder().executor(executor).build();
+        for (Cenario cenario : Cenario.values()) {
+            latencias.put(cenario, new Recorder(3));
+            respostas4xx.put(cenario, new LongAdder());
+            falhas.put(cenario, new LongAdder());
+            substituidos.put(cenario, new LongAdder());
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        double taxa = Double.parseDouble(System.getProperty("carga.taxa", "200"));
+        long aquecimento = Long.getLong("carga.aquecimento", 15);
+        long duracao = Long.getLong("carga.duracao", 60);
+        Path saida = Path.of(System.getProperty("carga.saida", "target/carga"));
+
+        try (EmbeddedPostgres postgres = EmbeddedPostgres.builder().start()) {
+            ConfigurableApplicationContext contexto = new SpringApplicationBuilder(DesafioTecnicoCodeGroupApplication.class)
+                    .run("--server.port=0",
+                            "--spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres"),
+                            "--spring.datasource.username=postgres",
+                            "--spring.datasource.password=",
+                            "--desafio-tecnico.reativo.url=r2dbc:pool:postgresql://localhost:" + postgres.getPort() + "/postgres",
+                            "--logging.level.root=WARN");
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                int porta = ((WebServerApplicationContext) contexto).getWebServer().getPort();
+                GeradorCarga gerador = new GeradorCarga(URI.create("http://localhost:" + porta), popular(contexto), executor);
+
+                System.out.printf("Aquecimento: %d s a %.0f req/s%n", aquecimento, taxa);
+                gerador.executar(taxa, TimeUnit.SECONDS.toNanos(aquecimento));
+                gerador.descartarMedicoes();
+
+                System.out.printf("Medição: %d s a %.0f req/s%n", duracao, taxa);
+                gerador.executar(taxa, TimeUnit.SECONDS.toNanos(duracao));
+                gerador.relatar(duracao, saida);
+            } finally {
+                contexto.close();
+            }
+        }
+    }
+
+    private static EstadoCarga popular(ConfigurableApplicationContext contexto) {
+        PessoaRepository pessoaRepository = contexto.getBean(PessoaRepository.class);
+        Pessoa gerente = new Pessoa();
+        gerente.setNome("Gerente de carga");
+        gerente.setAtribuicao("gerente");
+        gerente = pessoaRepository.save(gerente);
+
+        List<Pessoa> pessoas = new ArrayList<>();
+        for (int i = 0; i < FUNCIONARIOS; i++) {
+            Pessoa pessoa = new Pessoa();
+            pessoa.setNome("Funcionário " + i);
+            pessoa.setFuncionario(true);
+            pessoa.setAtribuicao("funcionario");
+            pessoas.add(pessoa);
+        }
+        long[] funcionarios = pessoaRepository.saveAll(pessoas).stream().mapToLong(Pessoa::getId).toArray();
+
+        ProjetoService projetoService = contexto.getBean(ProjetoService.class);
+        long menor = Long.MAX_VALUE;
+        long maior = Long.MIN_VALUE;
+        for (int i = 0; i < PROJETOS_INICIAIS; i++) {
+            Projeto projeto = new Projeto();
+            projeto.setNome("Projeto inicial " + i);
+            projeto.setDescricao("Projeto pré-carregado para o teste de carga");
+            projeto.setOrcamento((float) ThreadLocalRandom.current().nextInt(1_000_000));
+            projeto.setGerente(gerente);
+            long id = projetoService.save(projeto).getId();
+            menor = Math.min(menor, id);
+            maior = Math.max(maior, id);
+        }
+        return new EstadoCarga(gerente.getId(), funcionarios, menor, maior);
+    }
+
+    private void executar(double taxa, long duracaoNanos) throws InterruptedException {
+        double intervaloMedioNanos = TimeUnit.SECONDS.toNanos(1) / taxa;
+        long inicio = System.nanoTime();
+        long fim = inicio + duracaoNanos;
+        long proximaChegada = inicio;
+
+        while (proximaChegada < fim) {
+            long espera = proximaChegada - System.nanoTime();
+            if (espera > 0) {
+                LockSupport.parkNanos(espera);
+            }
+            disparar(Cenario.sortear(), proximaChegada);
+            // Intervalos exponenciais entre chegadas.
+            proximaChegada += (long) (-Math.log(1 - ThreadLocalRandom.current().nextDouble()) * intervaloMedioNanos);
+        }
+
+        long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (pendentes.get() > 0 && System.nanoTime() < limite) {
+            Thread.sleep(50);
+        }
+    }
+
+    private void disparar(Cenario cenario, long agendadoEm) {
+        HttpRequest requisicao = cenario.requisicao(base, estado);
+        if (requisicao == null) {
+            substituidos.get(cenario).increment();
+            cenario = Cenario.LISTAR_PROJETOS;
+            requisicao = cenario.requisicao(base, estado);
+        }
+        Cenario executado = cenario;
+        pendentes.incrementAndGet();
+        cliente.sendAsync(requisicao, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((resposta, erro) -> {
+                    latencias.get(executado).recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - agendadoEm));
+                    if (erro != null || resposta.statusCode() >= 500) {
+                        falhas.get(executado).increment();
+                    } else if (resposta.statusCode() >= 400) {
+                        respostas4xx.get(executado).increment();
+                    } else {
+                        executado.concluir(estado, resposta);
+                    }
+                    pendentes.decrementAndGet();
+                });
+    }
+
+    private void descartarMedicoes() {
+        latencias.values().forEach(Recorder::reset);
+        respostas4xx.values().forEach(LongAdder::reset);
+        falhas.values().forEach(LongAdder::reset);
+        substituidos.values().forEach(LongAdder::reset);
+    }
+
+    // Uma linha por endpoint na saída padrão (latências em ms) e a distribuição completa de cada
+    // um no formato .hgrm do HdrHistogram, que pode ser aberta no HistogramLogAnalyzer ou no plotter.
+    // A coluna "subst." conta os sorteios do cenário executados como listagem por falta de estado.
+    private void relatar(long duracao, Path saida) throws IOException {
+        Files.createDirectories(saida);
+        System.out.printf("%-36s %9s %9s %9s %9s %9s %9s %9s %7s %7s %7s%n",
+                "Endpoint", "Total", "req/s", "p50", "p95", "p99", "p99.9", "máx", "4xx", "falhas", "subst.");
+        long totalSubstituidos = 0;
+        for (Cenario cenario : Cenario.values()) {
+            Histogram histograma = latencias.get(cenario).getIntervalHistogram();
+            totalSubstituidos += substituidos.get(cenario).sum();
+            System.out.printf("%-36s %9d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f %7d %7d %7d%n",
+                    cenario.rotulo(),
+                    histograma.getTotalCount(),
+                    (double) histograma.getTotalCount() / duracao,
+                    histograma.getValueAtPercentile(50) / 1000d,
+                    histograma.getValueAtPercentile(95) / 1000d,
+                    histograma.getValueAtPercentile(99) / 1000d,
+                    histograma.getValueAtPercentile(99.9) / 1000d,
+                    histograma.getMaxValue() / 1000d,
+                    respostas4xx.get(cenario).sum(),
+                    falhas.get(cenario).sum(),
+                    substituidos.get(cenario).sum());
+
+            try (PrintStream arquivo = new PrintStream(
+                    Files.newOutputStream(saida.resolve(cenario.name().toLowerCase() + ".hgrm")))) {
+                histograma.outputPercentileDistribution(arquivo, 1000d);
+            }
+        }
+        if (totalSubstituidos > 0) {
+            System.out.printf("Atenção: %d sorteios foram executados como %s; a mistura medida difere da configurada.%n",
+                    totalSubstituidos, Cenario.LISTAR_PROJETOS.rotulo());
+        }
+        System.out.println("Distribuições em " + saida.toAbsolutePath());
+    }
+
+}
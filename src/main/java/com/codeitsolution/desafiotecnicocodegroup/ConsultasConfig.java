@@ -0,0 +1,155 @@
+package com.codeitsolution.desafiotecnicocodegroup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.List;
+
+// Contagem dos comandos SQL de cada requisição. O DataSource é envolvido por um proxy que registra
+// cada execução em ContadorConsultas; o filtro abre o contador no início da requisição e, ao final,
+// registra um aviso quando a quantidade passa de desafio-tecnico.consultas.orcamento.
+// Com desafio-tecnico.consultas.cabecalho=true (desenvolvimento), a resposta traz também
+// X-Consultas-SQL e X-Tempo-SQL-Ms. As leituras reativas (R2DBC) não passam por aqui.
+@Configuration
+public class ConsultasConfig {
+
+    public static final String CABECALHO_QUANTIDADE = "X-Consultas-SQL";
+    public static final String CABECALHO_TEMPO = "X-Tempo-SQL-Ms";
+
+    // static: o pós-processador precisa existir antes dos demais beans da configuração.
+    @Bean
+    public static BeanPostProcessor contadorConsultasDataSource() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(new ContagemListener())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<OrcamentoConsultasFilter> orcamentoConsultasFilter(
+            @Value("${desafio-tecnico.consultas.orcamento:10}") int orcamento,
+            @Value("${desafio-tecnico.consultas.cabecalho:false}") boolean cabecalho) {
+        FilterRegistrationBean<OrcamentoConsultasFilter> registro =
+                new FilterRegistrationBean<>(new OrcamentoConsultasFilter(orcamento, cabecalho));
+        // Logo depois do limite de concorrência, quando habilitado.
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+        return registro;
+    }
+
+    static class ContagemListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            ContadorConsultas.registrar(execInfo.getElapsedTime());
+        }
+    }
+
+    static class OrcamentoConsultasFilter extends OncePerRequestFilter {
+
+        private static final Logger log = LoggerFactory.getLogger(OrcamentoConsultasFilter.class);
+
+        private final int orcamento;
+        private final boolean cabecalho;
+
+        OrcamentoConsultasFilter(int orcamento, boolean cabecalho) {
+            this.orcamento = orcamento;
+            this.cabecalho = cabecalho;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            ContadorConsultas contador = ContadorConsultas.iniciar();
+            HttpServletResponse resposta = cabecalho ? new CabecalhoConsultasResponse(response, contador) : response;
+            try {
+                chain.doFilter(request, resposta);
+            } finally {
+                ContadorConsultas.encerrar();
+                if (cabecalho && !response.isCommitted()) {
+                    escreverCabecalhos(response, contador);
+                }
+                if (contador.getQuantidade() > orcamento) {
+                    Object endpoint = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+                    log.warn("{} {} executou {} comandos SQL em {} ms (orçamento: {})", request.getMethod(),
+                            endpoint != null ? endpoint : request.getRequestURI(),
+                            contador.getQuantidade(), contador.getTempoMs(), orcamento);
+                }
+            }
+        }
+
+        private static void escreverCabecalhos(HttpServletResponse response, ContadorConsultas contador) {
+            response.setHeader(CABECALHO_QUANTIDADE, String.valueOf(contador.getQuantidade()));
+            response.setHeader(CABECALHO_TEMPO, String.valueOf(contador.getTempoMs()));
+        }
+
+        // Os cabeçalhos precisam sair antes do corpo: são gravados quando a resposta começa a ser
+        // escrita, momento em que o controller já terminou de consultar o banco.
+        private static class CabecalhoConsultasResponse extends HttpServletResponseWrapper {
+
+            private final ContadorConsultas contador;
+
+            CabecalhoConsultasResponse(HttpServletResponse response, ContadorConsultas contador) {
+                super(response);
+                this.contador = contador;
+            }
+
+            @Override
+            public ServletOutputStream getOutputStream() throws IOException {
+                antesDoCorpo();
+                return super.getOutputStream();
+            }
+
+            @Override
+            public PrintWriter getWriter() throws IOException {
+                antesDoCorpo();
+                return super.getWriter();
+            }
+
+            @Override
+            public void flushBuffer() throws IOException {
+                antesDoCorpo();
+                super.flushBuffer();
+            }
+
+            private void antesDoCorpo() {
+                if (!isCommitted()) {
+                    escreverCabecalhos((HttpServletResponse) getResponse(), contador);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package com.codeitsolution.desafiotecnicocodegroup;
+
+// Quantidade e tempo dos comandos SQL executados pela thread atual entre iniciar() e encerrar().
+// Alimentado pelo proxy do DataSource (ConsultasConfig); cada execução conta uma vez, inclusive
+// um lote JDBC inteiro. Também serve aos testes para verificar a quantidade exata de comandos.
+public final class ContadorConsultas {
+
+    private static final ThreadLocal<ContadorConsultas> ATUAL = new ThreadLocal<>();
+
+    private int quantidade;
+    private long tempoMs;
+
+    private ContadorConsultas() {
+    }
+
+    public static ContadorConsultas iniciar() {
+        ContadorConsultas contador = new ContadorConsultas();
+        ATUAL.set(contador);
+        return contador;
+    }
+
+    public static ContadorConsultas encerrar() {
+        ContadorConsultas contador = ATUAL.get();
+        ATUAL.remove();
+        return contador != null ? contador : new ContadorConsultas();
+    }
+
+    static void registrar(long tempoMs) {
+        ContadorConsultas contador = ATUAL.get();
+        if (contador != null) {
+            contador.quantidade++;
+            contador.tempoMs += tempoMs;
+        }
+    }
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    public long getTempoMs() {
+        return tempoMs;
+    }
+
+}
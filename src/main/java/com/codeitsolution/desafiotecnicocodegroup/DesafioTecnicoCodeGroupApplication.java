@@ -2,8 +2,16 @@ package com.codeitsolution.desafiotecnicocodegroup;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcTransactionManagerAutoConfiguration;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.Ordered;
 
-@SpringBootApplication
+// O cache envolve a transação: as remoções de @CacheEvict acontecem depois do commit, e um acerto
+// no cache não abre transação.
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+// As leituras reativas configuram o próprio R2DBC (ReativoConfig); transações ficam só com o JPA.
+@SpringBootApplication(exclude = { R2dbcAutoConfiguration.class, R2dbcTransactionManagerAutoConfiguration.class })
 public class DesafioTecnicoCodeGroupApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,20 @@
+package com.codeitsolution.desafiotecnicocodegroup;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Habilita o @Timed nos serviços. O Spring Boot só o aplica por conta própria nos controllers.
+@Configuration
+public class MetricasConfig {
+
+    // Nome comum dos temporizadores de serviço; as tags class e method identificam cada um.
+    public static final String TEMPO_SERVICOS = "desafio.servicos";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry registry) {
+        return new TimedAspect(registry);
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.codeitsolution.desafiotecnicocodegroup;
+
+import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoReativoRepository;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.impls.ProjetoReativoRepositoryImpl;
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.publisher.Mono;
+
+// Conexões R2DBC do caminho de leitura reativo. A ConnectionFactory não é exposta como bean:
+// assim a autoconfiguração R2DBC do Spring Boot (excluída na aplicação) não cria um segundo
+// gerenciador de transações concorrendo com o do JPA, que continua responsável pelas gravações.
+@Configuration
+public class ReativoConfig implements DisposableBean {
+
+    private ConnectionFactory connectionFactory;
+
+    @Bean
+    public ProjetoReativoRepository projetoReativoRepository(
+            @Value("${desafio-tecnico.reativo.url}") String url,
+            @Value("${spring.datasource.username}") String usuario,
+            @Value("${spring.datasource.password}") String senha) {
+        connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(url).mutate()
+                .option(ConnectionFactoryOptions.USER, usuario)
+                .option(ConnectionFactoryOptions.PASSWORD, senha)
+                .build());
+        return new ProjetoReativoRepositoryImpl(connectionFactory);
+    }
+
+    @Override
+    public void destroy() {
+        if (connectionFactory instanceof Closeable pool) {
+            Mono.from(pool.close()).block();
+        }
+    }
+
+}
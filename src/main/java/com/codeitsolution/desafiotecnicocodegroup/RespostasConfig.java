@@ -0,0 +1,60 @@
+package com.codeitsolution.desafiotecnicocodegroup;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+// Permite que os controllers devolvam um ByteBuffer como corpo, escrito na resposta como está e
+// com o Content-Type definido pelo controller. Usado pelo JSON de projetos já serializado
+// (RespostaProjetoService), que pode estar fora do heap.
+@Configuration
+public class RespostasConfig implements WebMvcConfigurer {
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        converters.add(0, new ByteBufferHttpMessageConverter());
+    }
+
+    static class ByteBufferHttpMessageConverter extends AbstractHttpMessageConverter<ByteBuffer> {
+
+        ByteBufferHttpMessageConverter() {
+            super(MediaType.APPLICATION_OCTET_STREAM, MediaType.ALL);
+        }
+
+        @Override
+        protected boolean supports(Class<?> clazz) {
+            return ByteBuffer.class.isAssignableFrom(clazz);
+        }
+
+        @Override
+        protected ByteBuffer readInternal(Class<? extends ByteBuffer> clazz, HttpInputMessage inputMessage) throws IOException {
+            return ByteBuffer.wrap(inputMessage.getBody().readAllBytes());
+        }
+
+        @Override
+        protected Long getContentLength(ByteBuffer corpo, MediaType contentType) {
+            return (long) corpo.remaining();
+        }
+
+        // O canal não é fechado: isso fecharia a resposta antes do flush feito pela classe base.
+        @Override
+        protected void writeInternal(ByteBuffer corpo, HttpOutputMessage outputMessage) throws IOException {
+            WritableByteChannel canal = Channels.newChannel(outputMessage.getBody());
+            ByteBuffer restante = corpo.duplicate();
+            while (restante.hasRemaining()) {
+                canal.write(restante);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.codeitsolution.desafiotecnicocodegroup;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
+
+// Encaminha as transações somente leitura às réplicas (em rodízio) e todo o resto ao primário.
+// Depois de uma transação de escrita, as leituras do mesmo cliente ficam no primário durante a janela
+// de atraso de replicação (janelaMs), para que vejam o que acabou de ser gravado. O cliente é quem a
+// thread está atendendo: o filtro de requisições informa em iniciar() até quando o cliente está preso
+// (vindo de um cookie) e recebe o novo prazo a cada escrita, para devolvê-lo ao cliente. Threads
+// fora de requisições (tarefas agendadas) ficam presas elas mesmas pela mesma janela.
+// Precisa ficar atrás de um LazyConnectionDataSourceProxy: o gerenciador de transações pede a
+// conexão antes de marcar a transação como somente leitura.
+public class RoteamentoDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARIO = "primario";
+
+    private static final ThreadLocal<Fixacao> FIXACAO = new ThreadLocal<>();
+
+    // Se a última conexão obtida pela thread foi de uma réplica (ver leuDaReplica()).
+    private static final ThreadLocal<Boolean> LEU_DA_REPLICA = new ThreadLocal<>();
+
+    private final int replicas;
+    private final long janelaMs;
+    private final Clock relogio;
+    private final AtomicInteger proximaReplica = new AtomicInteger();
+
+    // Prazo, em milissegundos desde a época, até o qual as leituras vão ao primário.
+    private static final class Fixacao {
+        private long presoAte;
+        private LongConsumer aoEscrever;
+
+        private Fixacao(long presoAte, LongConsumer aoEscrever) {
+            this.presoAte = presoAte;
+            this.aoEscrever = aoEscrever;
+        }
+    }
+
+    public RoteamentoDataSource(DataSource primario, List<? extends DataSource> replicas, long janelaMs) {
+        this(primario, replicas, janelaMs, Clock.systemUTC());
+    }
+
+    RoteamentoDataSource(DataSource primario, List<? extends DataSource> replicas, long janelaMs, Clock relogio) {
+        Map<Object, Object> destinos = new HashMap<>();
+        destinos.put(PRIMARIO, primario);
+        for (int i = 0; i < replicas.size(); i++) {
+            destinos.put(i, replicas.get(i));
+        }
+        setTargetDataSources(destinos);
+        setDefaultTargetDataSource(primario);
+        this.replicas = replicas.size();
+        this.janelaMs = janelaMs;
+        this.relogio = relogio;
+        afterPropertiesSet();
+    }
+
+    // Início do atendimento de um cliente: "presoAte" é o prazo que ele trouxe (0 se nenhum) e
+    // "aoEscrever" recebe o novo prazo na primeira escrita.
+    public static void iniciar(long presoAte, LongConsumer aoEscrever) {
+        FIXACAO.set(new Fixacao(presoAte, aoEscrever));
+        LEU_DA_REPLICA.remove();
+    }
+
+    public static void liberar() {
+        FIXACAO.remove();
+        LEU_DA_REPLICA.remove();
+    }
+
+    // Se o que a thread acabou de ler veio de uma réplica. Os caches alimentados por leituras não devem
+    // guardar esse resultado: lido de uma réplica atrasada logo depois de a escrita descartar a entrada,
+    // ele seria servido também ao cliente que escreveu, cujas leituras estão presas ao primário.
+    public static boolean leuDaReplica() {
+        return LEU_DA_REPLICA.get() != null;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        boolean leitura = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        if (!leitura) {
+            // Conexões fora de transação (DDL, leitura das propriedades padrão pelo proxy) não prendem.
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                fixar();
+            }
+            LEU_DA_REPLICA.remove();
+            return PRIMARIO;
+        }
+        if (replicas == 0 || fixado()) {
+            LEU_DA_REPLICA.remove();
+            return PRIMARIO;
+        }
+        LEU_DA_REPLICA.set(Boolean.TRUE);
+        return Math.floorMod(proximaReplica.getAndIncrement(), replicas);
+    }
+
+    private void fixar() {
+        long presoAte = relogio.millis() + janelaMs;
+        Fixacao fixacao = FIXACAO.get();
+        if (fixacao == null) {
+            FIXACAO.set(new Fixacao(presoAte, null));
+            return;
+        }
+        fixacao.presoAte = presoAte;
+        if (fixacao.aoEscrever != null) {
+            LongConsumer aoEscrever = fixacao.aoEscrever;
+            fixacao.aoEscrever = null;
+            aoEscrever.accept(presoAte);
+        }
+    }
+
+    // Um prazo além da janela não foi emitido aqui (cookie adulterado ou relógio alterado) e é ignorado.
+    private boolean fixado() {
+        Fixacao fixacao = FIXACAO.get();
+        if (fixacao == null) {
+            return false;
+        }
+        long restante = fixacao.presoAte - relogio.millis();
+        return restante > 0 && restante <= janelaMs;
+    }
+
+}
@@ -0,0 +1,139 @@
+package com.codeitsolution.desafiotecnicocodegroup;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+// Réplicas de leitura, habilitadas com desafio-tecnico.replicas.habilitado=true. O primário continua
+// configurado em spring.datasource.* e spring.datasource.hikari.*; cada réplica é um pool Hikari
+// próprio em desafio-tecnico.replicas.pools[n].* (jdbc-url, maximum-pool-size, ...), com usuário e
+// senha do primário quando omitidos. As transações @Transactional(readOnly = true) vão às réplicas,
+// exceto as de um cliente que gravou há menos de desafio-tecnico.replicas.janela-primario-ms.
+// Os pools não são beans (o DataSource exposto é só o roteador), por isso as métricas do Hikari
+// são registradas aqui e os pools são fechados no destroy().
+@Configuration
+@ConditionalOnProperty(name = "desafio-tecnico.replicas.habilitado", havingValue = "true")
+public class RoteamentoDataSourceConfig implements DisposableBean {
+
+    private final List<HikariDataSource> pools = new ArrayList<>();
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties propriedades, Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                 @Value("${desafio-tecnico.replicas.janela-primario-ms}") long janelaMs) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primario = propriedades.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primario));
+        if (primario.getPoolName() == null) {
+            primario.setPoolName(RoteamentoDataSource.PRIMARIO);
+        }
+        registrar(primario, meterRegistry);
+
+        List<HikariDataSource> replicas = binder.bind("desafio-tecnico.replicas.pools",
+                Bindable.listOf(HikariDataSource.class)).orElse(List.of());
+        for (int i = 0; i < replicas.size(); i++) {
+            HikariDataSource replica = replicas.get(i);
+            if (replica.getUsername() == null) {
+                replica.setUsername(primario.getUsername());
+                replica.setPassword(primario.getPassword());
+            }
+            if (replica.getPoolName() == null) {
+                replica.setPoolName("replica-" + (i + 1));
+            }
+            registrar(replica, meterRegistry);
+        }
+
+        return new LazyConnectionDataSourceProxy(new RoteamentoDataSource(primario, replicas, janelaMs));
+    }
+
+    @Bean
+    public FilterRegistrationBean<FixacaoPrimarioFilter> fixacaoPrimarioFilter(
+            @Value("${desafio-tecnico.replicas.janela-primario-ms}") long janelaMs) {
+        FilterRegistrationBean<FixacaoPrimarioFilter> registro = new FilterRegistrationBean<>(new FixacaoPrimarioFilter(janelaMs));
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+        return registro;
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+
+    private void registrar(HikariDataSource pool, ObjectProvider<MeterRegistry> meterRegistry) {
+        meterRegistry.ifAvailable(registry -> pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry)));
+        pools.add(pool);
+    }
+
+    // A fixação no primário acompanha o cliente num cookie com o prazo (milissegundos desde a época),
+    // gravado na primeira escrita da requisição e lido no início das seguintes. A resposta já enviada
+    // (transmissões) não recebe mais o cookie; nesse caso só a própria requisição fica no primário.
+    static class FixacaoPrimarioFilter extends OncePerRequestFilter {
+
+        static final String COOKIE = "primario-ate";
+
+        private final long janelaMs;
+
+        FixacaoPrimarioFilter(long janelaMs) {
+            this.janelaMs = janelaMs;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            RoteamentoDataSource.iniciar(prazo(request), presoAte -> {
+                Cookie cookie = new Cookie(COOKIE, Long.toString(presoAte));
+                cookie.setPath("/");
+                cookie.setHttpOnly(true);
+                cookie.setMaxAge((int) Math.max(1, (janelaMs + 999) / 1000));
+                response.addCookie(cookie);
+            });
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                RoteamentoDataSource.liberar();
+            }
+        }
+
+        private static long prazo(HttpServletRequest request) {
+            if (request.getCookies() == null) {
+                return 0L;
+            }
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    try {
+                        return Long.parseLong(cookie.getValue());
+                    } catch (NumberFormatException e) {
+                        return 0L;
+                    }
+                }
+            }
+            return 0L;
+        }
+    }
+
+}
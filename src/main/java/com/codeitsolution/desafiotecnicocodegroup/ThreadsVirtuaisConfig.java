@@ -0,0 +1,94 @@
+package com.codeitsolution.desafiotecnicocodegroup;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Modo opcional em que cada requisição (e as tarefas assíncronas, como a exportação em streaming)
+// roda em uma thread virtual. Habilitado com desafio-tecnico.threads.virtuais=true; vale para o
+// Tomcat embutido, não para o war implantado em um servidor externo.
+//
+// Threads virtuais não limitam a concorrência: sem o filtro abaixo, um pico de requisições viraria
+// uma fila de espera no pool do Hikari, com cada requisição aguardando até o connection-timeout.
+// O filtro admite no máximo desafio-tecnico.threads.limite-requisicoes requisições simultâneas
+// (algumas vezes o tamanho do pool, já que parte do tempo de cada uma não usa o banco) e responde
+// 503 às que não conseguem entrar dentro de desafio-tecnico.threads.espera-admissao-ms.
+@Configuration
+@ConditionalOnProperty(name = "desafio-tecnico.threads.virtuais", havingValue = "true")
+public class ThreadsVirtuaisConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> executorVirtualTomcat() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    // Substitui o executor padrão, usado pelo Spring MVC nas respostas assíncronas.
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    @Bean
+    public FilterRegistrationBean<LimiteConcorrenciaFilter> limiteConcorrenciaFilter(
+            @Value("${desafio-tecnico.threads.limite-requisicoes:200}") int limite,
+            @Value("${desafio-tecnico.threads.espera-admissao-ms:1000}") long esperaMs) {
+        FilterRegistrationBean<LimiteConcorrenciaFilter> registro =
+                new FilterRegistrationBean<>(new LimiteConcorrenciaFilter(limite, esperaMs));
+        registro.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registro;
+    }
+
+    static class LimiteConcorrenciaFilter extends OncePerRequestFilter {
+
+        private final Semaphore vagas;
+        private final long esperaMs;
+
+        LimiteConcorrenciaFilter(int limite, long esperaMs) {
+            this.vagas = new Semaphore(limite, true);
+            this.esperaMs = esperaMs;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+                throws ServletException, IOException {
+            boolean admitida;
+            try {
+                admitida = vagas.tryAcquire(esperaMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                admitida = false;
+            }
+            if (!admitida) {
+                response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+                response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+                return;
+            }
+
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                vagas.release();
+            }
+        }
+    }
+
+}
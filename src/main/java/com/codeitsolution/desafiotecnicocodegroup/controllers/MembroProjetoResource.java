@@ -4,6 +4,7 @@ import com.codeitsolution.desafiotecnicocodegroup.entities.MembroProjeto;
 import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
 import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
 import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MembroProjetoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MembroProjetoLoteDTO;
 import com.codeitsolution.desafiotecnicocodegroup.services.PessoaService;
 import com.codeitsolution.desafiotecnicocodegroup.services.ProjetoService;
 import com.codeitsolution.desafiotecnicocodegroup.services.impls.MembroProjetoServiceImpl;
@@ -13,5 +14,11 @@ import org.springframework.web.bind.annotation.*;
 
 public interface MembroProjetoResource {
     ResponseEntity<?> adicionarMembro(@PathVariable Long projetoId, @RequestBody MembroProjetoDTO membroDTO);
+
+    ResponseEntity<?> adicionarMembrosEmLote(@PathVariable Long projetoId, @RequestBody MembroProjetoLoteDTO loteDTO);
+
+    ResponseEntity<?> getMembrosDoProjeto(@PathVariable Long projetoId, @RequestParam String after, @RequestParam Integer tamanho);
+
+    ResponseEntity<?> getProjetosDoMembro(@PathVariable Long pessoaId, @RequestParam String after, @RequestParam Integer tamanho);
 }
 
@@ -2,12 +2,19 @@ package com.codeitsolution.desafiotecnicocodegroup.controllers;
 
 import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
 
+import java.io.InputStream;
+
 public interface PessoaResource {
 
     ResponseEntity<?> createMembro(@RequestBody Pessoa pessoa);
 
+    ResponseEntity<?> createMembrosEmLote(InputStream corpo);
+
+    ResponseEntity<?> getMembroById(@PathVariable Long id);
+
 }
 
 
@@ -0,0 +1,17 @@
+package com.codeitsolution.desafiotecnicocodegroup.controllers;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoFiltroDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import reactor.core.publisher.Mono;
+
+public interface ProjetoReativoResource {
+
+    ResponseEntity<?> getAllProjetos(String after, ProjetoFiltroDTO filtro);
+
+    Mono<ResponseEntity<Projeto>> getProjetoById(@PathVariable Long id);
+
+    Mono<ResponseEntity<Risco>> getRiscoDoProjeto(@PathVariable Long id);
+}
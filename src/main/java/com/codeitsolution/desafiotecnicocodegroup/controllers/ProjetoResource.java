@@ -1,6 +1,10 @@
 package com.codeitsolution.desafiotecnicocodegroup.controllers;
 
 import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.EstatisticasProjetosDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MudancaStatusDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MudancaStatusLoteDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoFiltroDTO;
 import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
 import com.codeitsolution.desafiotecnicocodegroup.services.impls.ProjetoServiceImpl;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -8,23 +12,36 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
 
 import java.util.List;
 
 public interface ProjetoResource {
 
-    ResponseEntity<?> getAllProjetos();
+    ResponseEntity<?> getAllProjetos(@RequestParam String after, @RequestParam Integer tamanho, ProjetoFiltroDTO filtro);
 
-    ResponseEntity<?> getProjetoById(@PathVariable Long id);
+    ResponseEntity<EstatisticasProjetosDTO> getEstatisticas();
+
+    ResponseEntity<?> exportarProjetos(@RequestParam String format);
+
+    ResponseEntity<ResponseBodyEmitter> acompanharProjetos(@RequestHeader String lastEventId);
+
+    ResponseEntity<?> buscarProjetos(@RequestParam String q, @RequestParam String after, @RequestParam Integer tamanho);
+
+    ResponseEntity<?> getProjetoById(@PathVariable Long id, @RequestHeader String ifNoneMatch);
 
     ResponseEntity<?> createProjeto(@RequestBody Projeto projeto);
 
-    ResponseEntity<?> updateProjeto(@PathVariable Long id, @RequestBody Projeto projeto);
+    ResponseEntity<?> updateProjeto(@PathVariable Long id, @RequestBody Projeto projeto, @RequestHeader String ifMatch);
 
-    ResponseEntity<?> deleteProjeto(@PathVariable Long id);
+    ResponseEntity<?> deleteProjeto(@PathVariable Long id, @RequestHeader String ifMatch);
 
     ResponseEntity<Risco> getRiscoDoProjeto(@PathVariable Long id);
 
+    ResponseEntity<?> mudarStatus(@PathVariable Long id, @RequestBody MudancaStatusDTO mudancaStatusDTO);
+
+    ResponseEntity<?> mudarStatusEmLote(@RequestBody MudancaStatusLoteDTO mudancaStatusLoteDTO);
+
     ResponseEntity<String> handleIllegalStateException(IllegalStateException e);
 
 }
@@ -1,50 +1,53 @@
 package com.codeitsolution.desafiotecnicocodegroup.controllers.impls;
 
 import com.codeitsolution.desafiotecnicocodegroup.controllers.MembroProjetoResource;
-import com.codeitsolution.desafiotecnicocodegroup.entities.MembroProjeto;
-import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
-import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
 import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MembroProjetoDTO;
-import com.codeitsolution.desafiotecnicocodegroup.services.PessoaService;
-import com.codeitsolution.desafiotecnicocodegroup.services.ProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MembroProjetoLoteDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.PaginaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoMembroDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.ResultadoAssociacao;
 import com.codeitsolution.desafiotecnicocodegroup.services.impls.MembroProjetoServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Tag(name = "Projeto", description = "Gerenciamento de Membro Projeto")
 @RestController
 public class MembroProjetoController implements MembroProjetoResource {
 
-    @Autowired
-    private MembroProjetoServiceImpl membroProjetoService;
-
-    @Autowired
-    private ProjetoService projetoService;
+    // Quantidade máxima de pessoas aceitas em uma única requisição de associação em lote.
+    private static final int MAXIMO_POR_LOTE = 1000;
 
     @Autowired
-    private PessoaService pessoaService;
+    private MembroProjetoServiceImpl membroProjetoService;
 
     // O sistema deve permitir associar membros aos projetos que tem atribuição funcionário
     @Operation(
             summary = "Adiciona um membro ao projeto",
-            description = "Associa um membro com atribuição de 'funcionário' a um projeto específico."
+            description = "Associa um membro com atribuição de 'funcionário' a um projeto específico. " +
+                    "Repetir a associação não cria duplicatas: a resposta informa que a pessoa já é membro."
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
-                    description = "Membro adicionado com sucesso ao projeto.",
+                    description = "Membro adicionado ao projeto, ou já associado anteriormente.",
                     content = {
-                            @Content(schema = @Schema(implementation = MembroProjeto.class), mediaType = "application/json")
+                            @Content(schema = @Schema(implementation = ResultadoMembroDTO.class), mediaType = "application/json")
                     }
             ),
             @ApiResponse(
@@ -65,27 +68,122 @@ public class MembroProjetoController implements MembroProjetoResource {
     })
     @PostMapping("/projetos/{projetoId}/membros")
     public ResponseEntity<?> adicionarMembro(@PathVariable Long projetoId, @RequestBody MembroProjetoDTO membroDTO) {
-        Projeto projeto = projetoService.findById(projetoId);
-        if (projeto == null) {
+        if (membroDTO == null || membroDTO.getPessoaId() == null) {
+            return ResponseEntity.badRequest().body("Informe o ID da pessoa.");
+        }
+
+        try {
+            ResultadoMembroDTO resultado = membroProjetoService.adicionarMembro(projetoId, membroDTO.getPessoaId());
+            if (resultado.getResultado() == ResultadoAssociacao.ADICIONADO
+                    || resultado.getResultado() == ResultadoAssociacao.JA_MEMBRO) {
+                return ResponseEntity.ok(resultado);
+            }
+            return ResponseEntity.badRequest().body(resultado.getMensagem());
+        } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
+    }
 
-        Pessoa pessoa = pessoaService.findById(membroDTO.getPessoaId());
-        if (pessoa == null) {
-            return ResponseEntity.badRequest().body("Pessoa não encontrada com ID: " + membroDTO.getPessoaId());
+    @Operation(
+            summary = "Adiciona vários membros ao projeto",
+            description = "Associa uma lista de pessoas com atribuição de 'funcionário' a um projeto em uma única transação. " +
+                    "Retorna o resultado individual de cada ID informado."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Lote processado; cada ID traz o seu resultado.",
+                    content = {
+                            @Content(array = @ArraySchema(schema = @Schema(implementation = ResultadoMembroDTO.class)), mediaType = "application/json")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Lista de IDs vazia ou maior que o permitido.",
+                    content = { @Content(schema = @Schema(implementation = String.class)) }
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Projeto não encontrado.",
+                    content = { @Content() }
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Erro interno do servidor.",
+                    content = { @Content() }
+            )
+    })
+    @PostMapping("/projetos/{projetoId}/membros/batch")
+    public ResponseEntity<?> adicionarMembrosEmLote(@PathVariable Long projetoId, @RequestBody MembroProjetoLoteDTO loteDTO) {
+        if (loteDTO == null || loteDTO.getPessoaIds() == null || loteDTO.getPessoaIds().isEmpty()) {
+            return ResponseEntity.badRequest().body("Informe ao menos um ID de pessoa.");
+        }
+        if (loteDTO.getPessoaIds().size() > MAXIMO_POR_LOTE) {
+            return ResponseEntity.badRequest().body("O lote deve conter no máximo " + MAXIMO_POR_LOTE + " pessoas.");
         }
 
-        if (pessoa.getAtribuicao() == null || !pessoa.getAtribuicao().equals("funcionario")) {
-            return ResponseEntity.badRequest().body("A pessoa deve ter atribuição de funcionário");
+        try {
+            List<ResultadoMembroDTO> resultados = membroProjetoService.adicionarMembros(projetoId, loteDTO.getPessoaIds());
+            return ResponseEntity.ok(resultados);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
         }
+    }
 
-        MembroProjeto membroProjeto = new MembroProjeto();
-        membroProjeto.setProjeto(projeto);
-        membroProjeto.setPessoa(pessoa);
+    @Operation(
+            summary = "Lista os membros de um projeto",
+            description = "Retorna ID, nome e atribuição dos membros em páginas ordenadas pelo ID da pessoa. " +
+                    "Use o campo 'proximoCursor' da resposta no parâmetro 'after' para obter a página seguinte."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = PaginaDTO.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "204", description = "Nenhum membro encontrado"),
+            @ApiResponse(responseCode = "400", content = { @Content(schema = @Schema(implementation = String.class)) }),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor.", content = { @Content() })
+    })
+    @GetMapping("/projetos/{projetoId}/membros")
+    public ResponseEntity<?> getMembrosDoProjeto(@PathVariable Long projetoId,
+                                                 @RequestParam(required = false) String after,
+                                                 @RequestParam(required = false) Integer tamanho) {
+        try {
+            PaginaDTO<?> pagina = membroProjetoService.findMembros(projetoId, after, tamanho);
+            if (pagina.getItens().isEmpty()) {
+                return ResponseEntity.noContent().build();
+            }
+            return ResponseEntity.ok(pagina);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ocorreu um erro ao buscar os membros do projeto.");
+        }
+    }
 
-        MembroProjeto savedMembroProjeto = membroProjetoService.save(membroProjeto);
-        return ResponseEntity.ok(savedMembroProjeto);
+    @Operation(
+            summary = "Lista os projetos de um membro",
+            description = "Retorna ID, nome e status dos projetos dos quais a pessoa é membro, em páginas ordenadas pelo ID do projeto. " +
+                    "Use o campo 'proximoCursor' da resposta no parâmetro 'after' para obter a página seguinte."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = PaginaDTO.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "204", description = "Nenhum projeto encontrado"),
+            @ApiResponse(responseCode = "400", content = { @Content(schema = @Schema(implementation = String.class)) }),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor.", content = { @Content() })
+    })
+    @GetMapping("/membros/{pessoaId}/projetos")
+    public ResponseEntity<?> getProjetosDoMembro(@PathVariable Long pessoaId,
+                                                 @RequestParam(required = false) String after,
+                                                 @RequestParam(required = false) Integer tamanho) {
+        try {
+            PaginaDTO<?> pagina = membroProjetoService.findProjetos(pessoaId, after, tamanho);
+            if (pagina.getItens().isEmpty()) {
+                return ResponseEntity.noContent().build();
+            }
+            return ResponseEntity.ok(pagina);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ocorreu um erro ao buscar os projetos do membro.");
+        }
     }
 
 }
-
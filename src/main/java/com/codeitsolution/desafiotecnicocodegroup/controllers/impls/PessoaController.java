@@ -2,6 +2,7 @@ package com.codeitsolution.desafiotecnicocodegroup.controllers.impls;
 
 import com.codeitsolution.desafiotecnicocodegroup.controllers.PessoaResource;
 import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ImportacaoResumoDTO;
 import com.codeitsolution.desafiotecnicocodegroup.services.PessoaService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,12 +12,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
+
 @Tag(name = "Pessoa", description = "Gerenciamento de Membros")
 @RestController
 public class PessoaController implements PessoaResource {
@@ -67,6 +73,55 @@ public class PessoaController implements PessoaResource {
         }
     }
 
+    @Operation(
+            summary = "Cria membros em lote",
+            description = "Recebe um array JSON ou um corpo NDJSON (uma pessoa por linha) e grava os registros válidos em lotes. " +
+                    "Retorna o total de registros aceitos e rejeitados, com o motivo de cada rejeição."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Importação processada.",
+                    content = {
+                            @Content(schema = @Schema(implementation = ImportacaoResumoDTO.class), mediaType = "application/json")
+                    }
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Erro interno do servidor.",
+                    content = { @Content() }
+            )
+    })
+    @PostMapping(value = "/membros/batch", consumes = { MediaType.APPLICATION_JSON_VALUE, "application/x-ndjson" })
+    public ResponseEntity<?> createMembrosEmLote(InputStream corpo) {
+        try {
+            ImportacaoResumoDTO resumo = pessoaService.importar(corpo);
+            return ResponseEntity.ok(resumo);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ocorreu um erro ao importar os membros.");
+        }
+    }
+
+    @Operation(
+            summary = "Busca um membro por ID",
+            description = "Retorna a pessoa cadastrada com o ID informado")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = Pessoa.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "404", content = { @Content() }),
+            @ApiResponse(responseCode = "500", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }) })
+    @GetMapping("/membros/{id}")
+    public ResponseEntity<?> getMembroById(@PathVariable Long id) {
+        try {
+            Pessoa pessoa = pessoaService.findById(id);
+            if (pessoa == null) {
+                return ResponseEntity.notFound().build();
+            }
+            return ResponseEntity.ok(pessoa);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ocorreu um erro ao buscar o membro com ID: " + id);
+        }
+    }
+
 
 }
 
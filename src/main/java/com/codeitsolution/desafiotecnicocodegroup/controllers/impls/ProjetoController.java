@@ -2,65 +2,205 @@ package com.codeitsolution.desafiotecnicocodegroup.controllers.impls;
 
 import com.codeitsolution.desafiotecnicocodegroup.controllers.ProjetoResource;
 import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.EstatisticasProjetosDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.EventoProjetoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MudancaStatusDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MudancaStatusLoteDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.PaginaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoFiltroDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoBuscaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoMudancaStatusDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.FormatoExportacao;
 import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.services.BuscaProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.EstatisticaProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.EventoProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.RespostaProjetoService;
 import com.codeitsolution.desafiotecnicocodegroup.services.impls.ProjetoServiceImpl;
 import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.persistence.EntityNotFoundException;
+import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.List;
+import java.util.Locale;
 
 @Tag(name = "Projeto", description = "Gerenciamento de Projetos")
 @RestController
 @RequestMapping("/projetos")
 public class ProjetoController implements ProjetoResource {
 
+    // Quantidade máxima de projetos aceitos em uma única mudança de status em lote.
+    private static final int MAXIMO_POR_LOTE = 1000;
+
+    private static final String MENSAGEM_VERSAO_DESATUALIZADA =
+            "O projeto foi alterado por outra requisição. Obtenha a versão atual e tente novamente.";
+
     @Autowired
     private ProjetoServiceImpl projetoService;
 
+    @Autowired
+    private EstatisticaProjetoService estatisticaProjetoService;
+
+    @Autowired
+    private BuscaProjetoService buscaProjetoService;
+
+    @Autowired
+    private EventoProjetoService eventoProjetoService;
+
+    @Autowired
+    private RespostaProjetoService respostaProjetoService;
+
     @Operation(
-            summary = "Retorna todos os projetos",
-            description = "Lista todos os projetos disponíveis no sistema")
+            summary = "Retorna os projetos paginados",
+            description = "Lista os projetos em páginas ordenadas por ID. Use o campo 'proximoCursor' da resposta " +
+                    "no parâmetro 'after' para obter a página seguinte. Aceita filtros por status, risco, gerente e data de início.")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = Projeto.class), mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = Projeto.class))) }),
+            @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = PaginaDTO.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "204", description = "Nenhum projeto encontrado para os filtros informados"),
+            @ApiResponse(responseCode = "400", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }),
             @ApiResponse(responseCode = "500", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }) })
     @GetMapping
-    public ResponseEntity<?> getAllProjetos() {
+    public ResponseEntity<?> getAllProjetos(@RequestParam(required = false) String after,
+                                            @RequestParam(required = false) Integer tamanho,
+                                            @ParameterObject ProjetoFiltroDTO filtro) {
         try {
-            List<Projeto> projetos = projetoService.findAll();
-            if (projetos.isEmpty()) {
-                return ResponseEntity.noContent().build(); // Retorna 204 No Content se a lista estiver vazia.
+            PaginaDTO<Projeto> pagina = projetoService.findPagina(after, tamanho, filtro);
+            if (pagina.getItens().isEmpty()) {
+                return ResponseEntity.noContent().build(); // Retorna 204 No Content se a página estiver vazia.
             }
-            return ResponseEntity.ok(projetos);
+            return ResponseEntity.ok(pagina);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ocorreu um erro ao buscar os projetos.");
         }
     }
 
+    @Operation(
+            summary = "Retorna as estatísticas do portfólio",
+            description = "Quantidade de projetos por status e por risco, orçamento total e médio. " +
+                    "Os valores são mantidos em memória e não consultam o banco.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = EstatisticasProjetosDTO.class), mediaType = "application/json") }) })
+    @GetMapping("/stats")
+    public ResponseEntity<EstatisticasProjetosDTO> getEstatisticas() {
+        return ResponseEntity.ok(estatisticaProjetoService.obter());
+    }
+
+    @Operation(
+            summary = "Acompanha as alterações dos projetos",
+            description = "Mantém a conexão aberta e envia, em Server-Sent Events, um evento por criação, atualização, " +
+                    "mudança de status ou exclusão de projeto, com o ID, a ação, a versão e o status. Ao reconectar, " +
+                    "o navegador envia Last-Event-ID e recebe os eventos perdidos; se eles não estiverem mais disponíveis, " +
+                    "recebe o evento 'reinicio' e deve recarregar a listagem.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = EventoProjetoDTO.class), mediaType = "text/event-stream") }),
+            @ApiResponse(responseCode = "503", description = "Limite de assinantes atingido; tente novamente mais tarde") })
+    @GetMapping("/stream")
+    public ResponseEntity<ResponseBodyEmitter> acompanharProjetos(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        ResponseBodyEmitter emitter = eventoProjetoService.assinar(lastEventId);
+        if (emitter == null) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).header(HttpHeaders.RETRY_AFTER, "5").build();
+        }
+        // Os eventos já saem do serviço no formato do protocolo; por isso um ResponseBodyEmitter, e não um SseEmitter.
+        return ResponseEntity.ok()
+                .contentType(MediaType.TEXT_EVENT_STREAM)
+                .cacheControl(CacheControl.noStore())
+                .body(emitter);
+    }
+
+    @Operation(
+            summary = "Busca projetos por palavras",
+            description = "Procura os termos no nome e na descrição dos projetos, sem diferenciar maiúsculas nem acentos, " +
+                    "e retorna os projetos ordenados por relevância (BM25). Use o campo 'proximoCursor' da resposta " +
+                    "no parâmetro 'after' para obter a página seguinte.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = PaginaDTO.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "204", description = "Nenhum projeto encontrado para os termos informados"),
+            @ApiResponse(responseCode = "400", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }) })
+    @GetMapping("/search")
+    public ResponseEntity<?> buscarProjetos(@RequestParam(required = false) String q,
+                                            @RequestParam(required = false) String after,
+                                            @RequestParam(required = false) Integer tamanho) {
+        if (q == null || q.isBlank()) {
+            return ResponseEntity.badRequest().body("Informe os termos da busca no parâmetro 'q'.");
+        }
+        try {
+            PaginaDTO<ResultadoBuscaDTO> pagina = buscaProjetoService.buscar(q, after, tamanho);
+            if (pagina.getItens().isEmpty()) {
+                return ResponseEntity.noContent().build();
+            }
+            return ResponseEntity.ok(pagina);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @Operation(
+            summary = "Exporta todos os projetos",
+            description = "Transmite o portfólio completo em NDJSON (um projeto por linha) ou CSV, " +
+                    "enviando os dados à medida que são lidos do banco.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = {
+                    @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = Projeto.class)),
+                    @Content(mediaType = "text/csv", schema = @Schema(implementation = String.class)) }),
+            @ApiResponse(responseCode = "400", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }) })
+    @GetMapping("/export")
+    public ResponseEntity<?> exportarProjetos(@RequestParam(defaultValue = "ndjson") String format) {
+        FormatoExportacao formato;
+        try {
+            formato = FormatoExportacao.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Formato de exportação inválido: " + format);
+        }
+
+        StreamingResponseBody corpo = saida -> projetoService.exportar(formato, saida);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(formato.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=projetos." + formato.getExtensao())
+                .body(corpo);
+    }
+
     @Operation(
             summary = "Retorna um projeto específico",
-            description = "Busca e retorna um projeto com base no ID fornecido")
+            description = "Busca e retorna um projeto com base no ID fornecido. A resposta traz a versão do projeto no ETag; " +
+                    "enviando-a em If-None-Match o corpo só é retornado se o projeto tiver mudado")
     @ApiResponses({
             @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = Projeto.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "304", description = "O projeto não mudou desde a versão informada em If-None-Match"),
             @ApiResponse(responseCode = "404", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }),
             @ApiResponse(responseCode = "500", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }) })
     @GetMapping("/{id}")
-    public ResponseEntity<?> getProjetoById(@PathVariable Long id) {
+    public ResponseEntity<?> getProjetoById(@PathVariable Long id,
+                                            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             Projeto projeto = projetoService.findById(id);
             if (projeto == null) {
                 return ResponseEntity.notFound().build(); // Retorna 404 Not Found se o projeto não for encontrado.
             }
-            return ResponseEntity.ok(projeto);
+            if (corresponde(ifNoneMatch, projeto.getVersao())) {
+                return comEtag(ResponseEntity.status(HttpStatus.NOT_MODIFIED), projeto).build(); // Retorna 304 sem serializar o projeto.
+            }
+            // JSON reaproveitado enquanto a versão do projeto não mudar.
+            return comEtag(ResponseEntity.ok(), projeto)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(respostaProjetoService.serializar(projeto));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ocorreu um erro ao buscar o projeto com ID: " + id);
         }
@@ -76,8 +216,11 @@ public class ProjetoController implements ProjetoResource {
     @PostMapping
     public ResponseEntity<?> createProjeto(@RequestBody Projeto projeto) {
         try {
+            projeto.setId(null); // A criação sempre gera um novo ID; um ID no corpo não deve virar atualização
             Projeto createdProjeto = projetoService.save(projeto);
             return new ResponseEntity<>(createdProjeto, HttpStatus.CREATED); // Retorna 201 Created se o projeto for criado com sucesso.
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.badRequest().body(e.getMessage()); // Gerente ausente ou inexistente
         } catch (DataIntegrityViolationException e) {
             return ResponseEntity.badRequest().body("Erro de integridade de dados: " + e.getMessage());
         } catch (Exception e) {
@@ -87,23 +230,33 @@ public class ProjetoController implements ProjetoResource {
 
     @Operation(
             summary = "Atualiza um projeto existente",
-            description = "Modifica os detalhes de um projeto existente com base no ID fornecido")
+            description = "Modifica os detalhes de um projeto existente com base no ID fornecido. Com If-Match, a atualização " +
+                    "só é aplicada se o projeto ainda estiver na versão informada")
     @ApiResponses({
             @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = Projeto.class), mediaType = "application/json") }),
             @ApiResponse(responseCode = "400", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }),
             @ApiResponse(responseCode = "404", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "412", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }),
             @ApiResponse(responseCode = "500", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }) })
     @PutMapping("/{id}")
-    public ResponseEntity<?> updateProjeto(@PathVariable Long id, @RequestBody Projeto projeto) {
+    public ResponseEntity<?> updateProjeto(@PathVariable Long id, @RequestBody Projeto projeto,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            if (!projetoService.existsById(id)) {
-                return ResponseEntity.notFound().build();
-            }
-
             projeto.setId(id); // Garantir que o ID correto seja usado
+            if (ifMatch != null) {
+                projeto.setVersao(versaoEsperada(ifMatch));
+            } else {
+                projeto.setVersao(null); // A versão só é conferida com If-Match; a do corpo é ignorada
+            }
             Projeto updatedProjeto = projetoService.save(projeto);
-            return ResponseEntity.ok(updatedProjeto); // Retorna 200 OK com o projeto atualizado
+            return comEtag(ResponseEntity.ok(), updatedProjeto).body(updatedProjeto); // Retorna 200 OK com o projeto como foi gravado
 
+        } catch (EntityNotFoundException e) {
+            return ResponseEntity.badRequest().body(e.getMessage()); // Gerente ausente ou inexistente
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(MENSAGEM_VERSAO_DESATUALIZADA);
         } catch (DataIntegrityViolationException e) {
             return ResponseEntity.badRequest().body("Erro de integridade de dados: " + e.getMessage());
         } catch (Exception e) {
@@ -117,18 +270,23 @@ public class ProjetoController implements ProjetoResource {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "Projeto excluído com sucesso"),
+            @ApiResponse(responseCode = "400", description = "O status do projeto não permite a exclusão"),
             @ApiResponse(responseCode = "404", description = "Projeto não encontrado para o ID fornecido"),
+            @ApiResponse(responseCode = "412", description = "O projeto não está mais na versão informada em If-Match"),
             @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
     })
     @DeleteMapping("/{id}")
-    public ResponseEntity<?> deleteProjeto(@PathVariable Long id) {
-        if (!projetoService.existsById(id)) {
-            return ResponseEntity.notFound().build();
-        }
-
+    public ResponseEntity<?> deleteProjeto(@PathVariable Long id,
+                                           @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
         try {
-            projetoService.delete(id);
+            projetoService.delete(id, versaoEsperada(ifMatch));
             return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (OptimisticLockingFailureException e) {
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(MENSAGEM_VERSAO_DESATUALIZADA);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro ao excluir o projeto: " + e.getMessage());
         }
@@ -153,13 +311,102 @@ public class ProjetoController implements ProjetoResource {
         }
 
         try {
-            Risco risco = projetoService.determinarRisco(projeto);
+            Risco risco = projeto.getRisco() != null ? projeto.getRisco() : projetoService.determinarRisco(projeto);
             return ResponseEntity.ok(risco);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    // A cada instante, o projeto deve estar em um status específico e único.
+    @Operation(
+            summary = "Altera o status de um projeto",
+            description = "Aplica a transição de status se ela for permitida a partir do status atual do projeto"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "204", description = "Status alterado com sucesso"),
+            @ApiResponse(responseCode = "400", description = "Status não informado ou transição não permitida",
+                    content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<?> mudarStatus(@PathVariable Long id, @RequestBody MudancaStatusDTO mudancaStatusDTO) {
+        if (mudancaStatusDTO == null || mudancaStatusDTO.getStatus() == null) {
+            return ResponseEntity.badRequest().body("Informe o novo status.");
+        }
+
+        try {
+            projetoService.mudarStatus(id, mudancaStatusDTO.getStatus());
+            return ResponseEntity.noContent().build();
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    @Operation(
+            summary = "Altera o status de vários projetos",
+            description = "Aplica a mesma transição de status a uma lista de projetos e informa quais foram alterados " +
+                    "e quais foram rejeitados (inexistentes ou com transição não permitida)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = ResultadoMudancaStatusDTO.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "400", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor")
+    })
+    @PostMapping("/status/batch")
+    public ResponseEntity<?> mudarStatusEmLote(@RequestBody MudancaStatusLoteDTO mudancaStatusLoteDTO) {
+        if (mudancaStatusLoteDTO == null || mudancaStatusLoteDTO.getStatus() == null
+                || mudancaStatusLoteDTO.getIds() == null || mudancaStatusLoteDTO.getIds().isEmpty()) {
+            return ResponseEntity.badRequest().body("Informe o novo status e ao menos um ID de projeto.");
+        }
+        if (mudancaStatusLoteDTO.getIds().size() > MAXIMO_POR_LOTE) {
+            return ResponseEntity.badRequest().body("O lote deve conter no máximo " + MAXIMO_POR_LOTE + " projetos.");
+        }
+
+        try {
+            ResultadoMudancaStatusDTO resultado = projetoService.mudarStatusEmLote(mudancaStatusLoteDTO.getIds(), mudancaStatusLoteDTO.getStatus());
+            return ResponseEntity.ok(resultado);
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Ocorreu um erro ao alterar o status dos projetos.");
+        }
+    }
+
+    // O ETag de um projeto é a sua versão.
+    private static ResponseEntity.BodyBuilder comEtag(ResponseEntity.BodyBuilder resposta, Projeto projeto) {
+        if (projeto != null && projeto.getVersao() != null) {
+            resposta.eTag("\"" + projeto.getVersao() + "\"");
+        }
+        return resposta;
+    }
+
+    // Verifica se algum dos ETags de If-None-Match corresponde à versão atual.
+    private static boolean corresponde(String ifNoneMatch, Long versao) {
+        if (ifNoneMatch == null || versao == null) {
+            return false;
+        }
+        for (String etag : ifNoneMatch.split(",")) {
+            String valor = etag.trim();
+            if (valor.equals("*") || valor.replaceFirst("^W/", "").replace("\"", "").equals(versao.toString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Converte If-Match na versão esperada; nulo quando ausente ou "*" (qualquer versão).
+    // Um ETag que não seja uma versão vira -1, que nunca corresponde e resulta em 412.
+    private static Long versaoEsperada(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        try {
+            return Long.valueOf(ifMatch.trim().replaceFirst("^W/", "").replace("\"", ""));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+
     @ExceptionHandler(IllegalStateException.class)
     public ResponseEntity<String> handleIllegalStateException(IllegalStateException e) {
         return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
@@ -0,0 +1,91 @@
+package com.codeitsolution.desafiotecnicocodegroup.controllers.impls;
+
+import com.codeitsolution.desafiotecnicocodegroup.controllers.ProjetoReativoResource;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoFiltroDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoReativoRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.ProjetoService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Leituras de projetos sem bloquear threads do servidor enquanto o banco responde.
+// As gravações continuam em /projetos.
+@Tag(name = "Projeto reativo", description = "Leituras de projetos sem bloqueio")
+@RestController
+@RequestMapping("/reativo/projetos")
+public class ProjetoReativoController implements ProjetoReativoResource {
+
+    @Autowired
+    private ProjetoReativoRepository projetoReativoRepository;
+
+    @Autowired
+    private ProjetoService projetoService;
+
+    @Operation(
+            summary = "Transmite os projetos",
+            description = "Envia os projetos em NDJSON (um por linha), ordenados por ID. As linhas são lidas do banco " +
+                    "conforme o cliente consome a resposta. Aceita os mesmos filtros de GET /projetos, e o parâmetro " +
+                    "'after' recebe o 'proximoCursor' de GET /projetos para continuar a partir daquela página.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = Projeto.class), mediaType = MediaType.APPLICATION_NDJSON_VALUE) }),
+            @ApiResponse(responseCode = "400", content = { @Content(schema = @Schema(implementation = String.class), mediaType = "application/json") }) })
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<?> getAllProjetos(@RequestParam(required = false) String after,
+                                            @ParameterObject ProjetoFiltroDTO filtro) {
+        Long depoisDe;
+        try {
+            depoisDe = projetoService.decodificarCursor(after);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+        Flux<Projeto> projetos = projetoReativoRepository.findAll(depoisDe, filtro);
+        return ResponseEntity.ok(projetos);
+    }
+
+    @Operation(
+            summary = "Retorna um projeto específico",
+            description = "Busca e retorna um projeto com base no ID fornecido")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = Projeto.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado") })
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<Projeto>> getProjetoById(@PathVariable Long id) {
+        return projetoReativoRepository.findById(id)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    // Mesma regra de risco do caminho JPA: o risco gravado, ou o calculado pelo orçamento.
+    @Operation(
+            summary = "Obtem o risco de um projeto",
+            description = "Classifica o risco em baixo, médio e alto")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", content = { @Content(schema = @Schema(implementation = Risco.class), mediaType = "application/json") }),
+            @ApiResponse(responseCode = "404", description = "Projeto não encontrado"),
+            @ApiResponse(responseCode = "500", description = "Erro interno do servidor") })
+    @GetMapping("/{id}/risco")
+    public Mono<ResponseEntity<Risco>> getRiscoDoProjeto(@PathVariable Long id) {
+        return projetoReativoRepository.findById(id)
+                .map(projeto -> ResponseEntity.ok(
+                        projeto.getRisco() != null ? projeto.getRisco() : projetoService.determinarRisco(projeto)))
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorReturn(ResponseEntity.internalServerError().build());
+    }
+
+}
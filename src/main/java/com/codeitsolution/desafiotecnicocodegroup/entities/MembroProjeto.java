@@ -5,10 +5,17 @@ import lombok.Data;
 
 @Data
 @Entity
-@Table(name = "membros_projeto")
+// A restrição única torna idempotente a repetição de uma mesma associação e, com o índice
+// na ordem inversa, atende às listagens de membros por projeto e de projetos por pessoa.
+@Table(name = "membros_projeto", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_membros_projeto_projeto_pessoa", columnNames = {"idprojeto", "idpessoa"})
+}, indexes = {
+        @Index(name = "idx_membros_projeto_pessoa_projeto", columnList = "idpessoa, idprojeto")
+})
 public class MembroProjeto {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "membros_projeto_seq")
+    @SequenceGenerator(name = "membros_projeto_seq", sequenceName = "membros_projeto_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -2,15 +2,24 @@ package com.codeitsolution.desafiotecnicocodegroup.entities;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.Date;
 
 @Data
 @Entity
 @Table(name = "PESSOAS")
+// Pessoas mudam pouco e são lidas a cada projeto carregado (gerente): ficam no cache de segundo
+// nível, região "pessoas" (tamanho e expiração em application.conf).
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Pessoa.REGIAO_CACHE)
 public class Pessoa {
+    public static final String REGIAO_CACHE = "pessoas";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pessoas_seq")
+    @SequenceGenerator(name = "pessoas_seq", sequenceName = "pessoas_seq", allocationSize = 50)
     private Long id;
 
     @Column(name = "nome", nullable = false, length = 100)
@@ -1,15 +1,24 @@
 package com.codeitsolution.desafiotecnicocodegroup.entities;
 
 import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
 import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Fetch;
+import org.hibernate.annotations.FetchMode;
 
 import java.util.Date;
 
 @Data
 @Entity
-@Table(name = "PROJETOS")
+@Table(name = "PROJETOS", indexes = {
+        @Index(name = "idx_projetos_status_id", columnList = "status, id"),
+        @Index(name = "idx_projetos_gerente_id", columnList = "idgerente, id"),
+        @Index(name = "idx_projetos_data_inicio", columnList = "data_inicio"),
+        @Index(name = "idx_projetos_risco_id", columnList = "risco, id")
+})
 public class Projeto {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -33,10 +42,15 @@ public class Projeto {
     @Column(name = "orcamento")
     private Float orcamento;
 
+    // Derivado do orçamento a cada gravação; persistido para permitir filtrar por risco no banco.
+    @Enumerated(EnumType.STRING)
     @Column(name = "risco", length = 45)
-    private String risco;
+    private Risco risco;
 
+    // Carregado por ID em vez de JOIN, para vir do cache de segundo nível de Pessoa. As consultas
+    // que listam projetos continuam trazendo o gerente no mesmo comando (JOIN FETCH / EntityGraph).
     @ManyToOne
+    @Fetch(FetchMode.SELECT)
     @JoinColumn(name = "idgerente", nullable = false)
     private Pessoa gerente;
 
@@ -44,4 +58,15 @@ public class Projeto {
     @Column(name = "status", length = 45)
     private StatusProjeto status;
 
+    // Verdadeiro desde que o projeto passou por Iniciado ou um status seguinte, mesmo que depois tenha
+    // sido cancelado: um projeto iniciado não pode mais ser excluído. Definido pelo serviço, nunca pelo cliente.
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Column(name = "iniciado")
+    private Boolean iniciado;
+
+    // Controle de concorrência otimista; exposto aos clientes como ETag.
+    @Version
+    @Column(name = "versao", nullable = false, columnDefinition = "bigint default 0")
+    private Long versao;
+
 }
@@ -0,0 +1,56 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.AcaoHistorico;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.util.Date;
+
+// Trilha de auditoria das alterações de projetos. Apenas inserções, feitas em lote pelo
+// HistoricoProjetoService; sem chave estrangeira para que o histórico sobreviva à exclusão do projeto.
+@Data
+@Entity
+@Table(name = "projeto_historico", indexes = {
+        @Index(name = "idx_projeto_historico_projeto_id", columnList = "idprojeto, id")
+})
+public class ProjetoHistorico {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idprojeto", nullable = false)
+    private Long projetoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "acao", nullable = false, length = 20)
+    private AcaoHistorico acao;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_anterior", length = 45)
+    private StatusProjeto statusAnterior;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_novo", length = 45)
+    private StatusProjeto statusNovo;
+
+    @Column(name = "versao")
+    private Long versao;
+
+    @Column(name = "data_hora", nullable = false)
+    private Date dataHora;
+
+    // Nulo em "anterior" indica criação e nulo em "atual" indica exclusão; a versão é a resultante da alteração.
+    public static ProjetoHistorico de(Long projetoId, AcaoHistorico acao, ProjetoEstadoDTO anterior, ProjetoEstadoDTO atual) {
+        ProjetoHistorico historico = new ProjetoHistorico();
+        historico.setProjetoId(projetoId);
+        historico.setAcao(acao);
+        historico.setStatusAnterior(anterior != null ? anterior.getStatus() : null);
+        historico.setStatusNovo(atual != null ? atual.getStatus() : null);
+        historico.setVersao(atual != null ? atual.getVersao() : anterior != null ? anterior.getVersao() : null);
+        historico.setDataHora(new Date());
+        return historico;
+    }
+
+}
@@ -0,0 +1,43 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.AcaoHistorico;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.util.Date;
+
+// Registros do histórico que não couberam na fila do HistoricoProjetoService (ou que ficaram nela no
+// encerramento), e todos eles com a fila desativada; o serviço depois os transfere para
+// projeto_historico e remove.
+// Mapeada apenas para a criação da tabela; é lida e gravada por JDBC.
+@Data
+@Entity
+@Table(name = "projeto_historico_pendente")
+public class ProjetoHistoricoPendente {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "idprojeto", nullable = false)
+    private Long projetoId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "acao", nullable = false, length = 20)
+    private AcaoHistorico acao;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_anterior", length = 45)
+    private StatusProjeto statusAnterior;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status_novo", length = 45)
+    private StatusProjeto statusNovo;
+
+    @Column(name = "versao")
+    private Long versao;
+
+    @Column(name = "data_hora", nullable = false)
+    private Date dataHora;
+
+}
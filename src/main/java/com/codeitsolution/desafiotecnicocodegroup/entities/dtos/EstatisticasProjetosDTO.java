@@ -0,0 +1,23 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class EstatisticasProjetosDTO {
+
+    private long total;
+
+    private Map<StatusProjeto, Long> porStatus;
+
+    private Map<Risco, Long> porRisco;
+
+    private double orcamentoTotal;
+
+    // Média entre os projetos que possuem orçamento informado.
+    private double orcamentoMedio;
+
+}
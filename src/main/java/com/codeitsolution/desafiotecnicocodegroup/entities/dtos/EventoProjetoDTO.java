@@ -0,0 +1,24 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.AcaoHistorico;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Alteração de um projeto enviada em /projetos/stream. Traz só o necessário para o cliente
+// decidir se precisa buscar o projeto novamente (comparando a versão com a que já tem).
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventoProjetoDTO {
+
+    private AcaoHistorico acao;
+
+    private Long projetoId;
+
+    private Long versao;
+
+    private StatusProjeto status;
+
+}
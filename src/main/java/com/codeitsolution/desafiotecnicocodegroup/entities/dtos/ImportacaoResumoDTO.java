@@ -0,0 +1,18 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+public class ImportacaoResumoDTO {
+
+    private long aceitos;
+
+    private long rejeitados;
+
+    // Detalhe das primeiras rejeições; o total está sempre em "rejeitados".
+    private List<RegistroRejeitadoDTO> rejeicoes = new ArrayList<>();
+
+}
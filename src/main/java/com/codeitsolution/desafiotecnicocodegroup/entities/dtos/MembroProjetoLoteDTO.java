@@ -0,0 +1,10 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MembroProjetoLoteDTO {
+    private List<Long> pessoaIds;
+}
@@ -0,0 +1,19 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Pessoa associada a um projeto, sem os demais dados cadastrais.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MembroResumoDTO {
+
+    private Long id;
+
+    private String nome;
+
+    private String atribuicao;
+
+}
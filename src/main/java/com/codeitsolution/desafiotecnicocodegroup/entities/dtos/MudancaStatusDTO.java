@@ -0,0 +1,9 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import lombok.Data;
+
+@Data
+public class MudancaStatusDTO {
+    private StatusProjeto status;
+}
@@ -0,0 +1,12 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MudancaStatusLoteDTO {
+    private List<Long> ids;
+    private StatusProjeto status;
+}
@@ -0,0 +1,19 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaDTO<T> {
+
+    private List<T> itens;
+
+    // Cursor opaco para a próxima página; nulo quando não há mais registros.
+    private String proximoCursor;
+
+}
@@ -0,0 +1,23 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Campos de um projeto que compõem as estatísticas do portfólio, mais a versão gravada.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjetoEstadoDTO {
+
+    private StatusProjeto status;
+
+    private Risco risco;
+
+    private Float orcamento;
+
+    private Long versao;
+
+}
@@ -0,0 +1,25 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.util.Date;
+
+@Data
+public class ProjetoFiltroDTO {
+
+    private StatusProjeto status;
+
+    private Risco risco;
+
+    private Long gerenteId;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private Date dataInicioDe;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private Date dataInicioAte;
+
+}
@@ -0,0 +1,20 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Projeto do qual uma pessoa é membro, sem gerente nem demais detalhes.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProjetoResumoDTO {
+
+    private Long id;
+
+    private String nome;
+
+    private StatusProjeto status;
+
+}
@@ -0,0 +1,17 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RegistroRejeitadoDTO {
+
+    // Posição do registro no corpo enviado, começando em 1.
+    private long registro;
+
+    private String motivo;
+
+}
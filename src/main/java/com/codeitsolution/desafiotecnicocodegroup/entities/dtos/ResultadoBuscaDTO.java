@@ -0,0 +1,19 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Projeto encontrado na busca textual, com a pontuação BM25 que definiu a sua posição.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoBuscaDTO {
+
+    private Long id;
+
+    private String nome;
+
+    private Double pontuacao;
+
+}
@@ -0,0 +1,19 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.ResultadoAssociacao;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoMembroDTO {
+
+    private Long pessoaId;
+
+    private ResultadoAssociacao resultado;
+
+    private String mensagem;
+
+}
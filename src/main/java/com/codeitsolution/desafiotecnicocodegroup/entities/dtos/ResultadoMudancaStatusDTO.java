@@ -0,0 +1,19 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.dtos;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoMudancaStatusDTO {
+
+    private List<Long> alterados;
+
+    // IDs inexistentes ou cujo status atual não permite a transição solicitada.
+    private List<Long> rejeitados;
+
+}
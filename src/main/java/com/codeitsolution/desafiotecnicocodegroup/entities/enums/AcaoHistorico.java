@@ -0,0 +1,8 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.enums;
+
+public enum AcaoHistorico {
+    CRIADO,
+    ATUALIZADO,
+    STATUS_ALTERADO,
+    EXCLUIDO
+}
@@ -0,0 +1,9 @@
+package com.codeitsolution.desafiotecnicocodegroup.entities.enums;
+
+public enum ResultadoAssociacao {
+    ADICIONADO,
+    PESSOA_NAO_ENCONTRADA,
+    NAO_FUNCIONARIO,
+    DUPLICADO,
+    JA_MEMBRO
+}
@@ -0,0 +1,47 @@
+package com.codeitsolution.desafiotecnicocodegroup.jobs;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+// Pessoas e membros de projeto passaram de IDENTITY para sequências (pessoas_seq e membros_projeto_seq,
+// criadas pelo ddl-auto com valor inicial 1). Num banco que já tinha registros, a sequência começaria
+// abaixo dos IDs existentes e as inclusões falhariam por chave duplicada. Na inicialização, antes de a
+// aplicação aceitar requisições (depois do ddl-auto), cada sequência atrás do maior ID da sua tabela é
+// adiantada até ele; a próxima faixa entregue ao Hibernate começa acima. Sequências em dia não são tocadas.
+@Component
+@DependsOn("entityManagerFactory")
+public class AjusteSequenciasJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AjusteSequenciasJob.class);
+
+    // Tabela e sequência de cada entidade com @SequenceGenerator.
+    private static final Map<String, String> SEQUENCIAS = Map.of(
+            "pessoas", "pessoas_seq",
+            "membros_projeto", "membros_projeto_seq");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void ajustar() {
+        SEQUENCIAS.forEach((tabela, sequencia) -> {
+            List<Long> ajustadas = jdbcTemplate.queryForList(
+                    "SELECT setval('" + sequencia + "', t.maximo) " +
+                            "FROM (SELECT MAX(id) AS maximo FROM " + tabela + ") t, " + sequencia + " s " +
+                            "WHERE t.maximo >= s.last_value",
+                    Long.class);
+            if (!ajustadas.isEmpty()) {
+                log.info("Sequência {} adiantada para {}, o maior ID de {}", sequencia, ajustadas.get(0), tabela);
+            }
+        });
+    }
+
+}
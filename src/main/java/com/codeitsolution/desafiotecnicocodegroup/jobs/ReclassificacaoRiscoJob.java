@@ -0,0 +1,98 @@
+package com.codeitsolution.desafiotecnicocodegroup.jobs;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.EstatisticaProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.ProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.ProjetoServiceImpl;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// Reclassifica o risco de todos os projetos já cadastrados, em lotes ordenados por ID.
+// Executado uma única vez na inicialização quando desafio-tecnico.risco.reclassificar=true.
+// Cada alteração é repassada às estatísticas em memória depois do commit do seu lote, como nas
+// gravações feitas pelo ProjetoService, para que a contagem por risco não fique desatualizada.
+@Component
+@ConditionalOnProperty(name = "desafio-tecnico.risco.reclassificar", havingValue = "true")
+public class ReclassificacaoRiscoJob implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ReclassificacaoRiscoJob.class);
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private ProjetoService projetoService;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EstatisticaProjetoService estatisticaProjetoService;
+
+    @Value("${desafio-tecnico.risco.tamanho-lote:500}")
+    private int tamanhoLote;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long lidos = 0;
+        long alterados = 0;
+        Long ultimoId = 0L;
+
+        while (ultimoId != null) {
+            Long depoisDe = ultimoId;
+            long[] contagem = new long[1];
+            // Pares (estado anterior, estado novo) dos projetos reclassificados no lote.
+            List<ProjetoEstadoDTO[]> alteracoes = new ArrayList<>();
+
+            ultimoId = transactionTemplate.execute(status -> {
+                List<Projeto> lote = projetoRepository.findPagina(depoisDe, null, null, null, null, null,
+                        PageRequest.of(0, tamanhoLote));
+                for (Projeto projeto : lote) {
+                    Risco risco = projeto.getOrcamento() != null ? projetoService.determinarRisco(projeto) : null;
+                    if (!Objects.equals(risco, projeto.getRisco())) {
+                        alteracoes.add(new ProjetoEstadoDTO[] {
+                                new ProjetoEstadoDTO(projeto.getStatus(), projeto.getRisco(), projeto.getOrcamento(), projeto.getVersao()),
+                                new ProjetoEstadoDTO(projeto.getStatus(), risco, projeto.getOrcamento(), projeto.getVersao())
+                        });
+                        projeto.setRisco(risco);
+                    }
+                }
+                contagem[0] = lote.size();
+                return lote.size() < tamanhoLote ? null : lote.get(lote.size() - 1).getId();
+            });
+
+            for (ProjetoEstadoDTO[] alteracao : alteracoes) {
+                estatisticaProjetoService.registrar(alteracao[0], alteracao[1]);
+            }
+            lidos += contagem[0];
+            alterados += alteracoes.size();
+        }
+
+        Cache cache = cacheManager.getCache(ProjetoServiceImpl.CACHE_PROJETOS);
+        if (cache != null) {
+            cache.clear();
+        }
+        log.info("Reclassificação de risco concluída: {} projetos lidos, {} alterados", lidos, alterados);
+    }
+
+}
@@ -1,10 +1,56 @@
 package com.codeitsolution.desafiotecnicocodegroup.repositories;
 
 import com.codeitsolution.desafiotecnicocodegroup.entities.MembroProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MembroResumoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoResumoDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
 
 @Repository
 public interface MembroProjetoRepository extends JpaRepository<MembroProjeto, Long> {
-}
 
+    // Associa em um único comando apenas as pessoas com atribuição de funcionário, e somente se o
+    // projeto existir; associações já existentes são ignoradas pela restrição única. O mesmo comando
+    // devolve o necessário para explicar as pessoas não associadas, sem uma segunda ida ao banco.
+    // Cada linha: ID e atribuição de uma pessoa encontrada, se ela foi associada agora e se o projeto
+    // existe. Sem nenhuma pessoa encontrada, vem uma única linha com ID nulo, só para o projeto.
+    @Transactional
+    @Query(value = "WITH projeto AS (SELECT id FROM projetos WHERE id = :projetoId), " +
+            "inseridos AS (" +
+            "INSERT INTO membros_projeto (id, idprojeto, idpessoa) " +
+            "SELECT nextval('membros_projeto_seq'), p.id, pe.id " +
+            "FROM projeto p JOIN pessoas pe ON pe.id IN (:pessoaIds) AND pe.atribuicao = 'funcionario' " +
+            "ON CONFLICT (idprojeto, idpessoa) DO NOTHING " +
+            "RETURNING idpessoa) " +
+            "SELECT pe.id, pe.atribuicao, i.idpessoa IS NOT NULL, p.id IS NOT NULL " +
+            "FROM (SELECT 1) AS um " +
+            "LEFT JOIN projeto p ON true " +
+            "LEFT JOIN pessoas pe ON pe.id IN (:pessoaIds) " +
+            "LEFT JOIN inseridos i ON i.idpessoa = pe.id", nativeQuery = true)
+    List<Object[]> associarFuncionarios(@Param("projetoId") Long projetoId, @Param("pessoaIds") Collection<Long> pessoaIds);
+
+    // Paginação por chave sobre (idprojeto, idpessoa); o Pageable só limita a quantidade de linhas.
+    @Query("SELECT new com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MembroResumoDTO(pe.id, pe.nome, pe.atribuicao) " +
+            "FROM MembroProjeto m JOIN m.pessoa pe " +
+            "WHERE m.projeto.id = :projetoId AND m.pessoa.id > :depoisDe " +
+            "ORDER BY m.pessoa.id")
+    List<MembroResumoDTO> findMembros(@Param("projetoId") Long projetoId,
+                                      @Param("depoisDe") Long depoisDe,
+                                      Pageable limite);
+
+    // Paginação por chave sobre (idpessoa, idprojeto).
+    @Query("SELECT new com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoResumoDTO(p.id, p.nome, p.status) " +
+            "FROM MembroProjeto m JOIN m.projeto p " +
+            "WHERE m.pessoa.id = :pessoaId AND m.projeto.id > :depoisDe " +
+            "ORDER BY m.projeto.id")
+    List<ProjetoResumoDTO> findProjetos(@Param("pessoaId") Long pessoaId,
+                                        @Param("depoisDe") Long depoisDe,
+                                        Pageable limite);
+}
@@ -0,0 +1,18 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import org.springframework.data.domain.Pageable;
+
+import java.util.Date;
+import java.util.List;
+
+// Consultas de projeto com filtros opcionais, montadas só com os critérios informados.
+public interface ProjetoConsultaRepository {
+
+    // Paginação por chave: projetos com ID maior que "depoisDe", em ordem de ID, com o gerente no mesmo SELECT.
+    // Filtros nulos são ignorados; o Pageable só limita a quantidade de linhas (não há COUNT).
+    List<Projeto> findPagina(Long depoisDe, StatusProjeto status, Risco risco, Long gerenteId,
+                             Date dataInicioDe, Date dataInicioAte, Pageable limite);
+}
@@ -0,0 +1,19 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+
+import java.util.Collection;
+import java.util.Optional;
+
+// Gravações de projeto feitas em um único comando, sem carregar a entidade antes.
+// Ambos retornam o estado anterior do projeto, ou vazio quando nenhuma linha foi afetada.
+public interface ProjetoEscritaRepository {
+
+    // Sobrescreve todos os campos do projeto e incrementa a versão; versao nula ignora a versão gravada.
+    Optional<ProjetoEstadoDTO> atualizar(Projeto projeto);
+
+    // Exclui o projeto se o status não estiver entre os bloqueados e, quando informada, a versão corresponder.
+    Optional<ProjetoEstadoDTO> excluirSePermitido(Long id, Long versaoEsperada, Collection<StatusProjeto> bloqueados);
+}
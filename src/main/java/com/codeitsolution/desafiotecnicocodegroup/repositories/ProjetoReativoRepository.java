@@ -0,0 +1,17 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoFiltroDTO;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+// Leituras de projetos sem bloqueio (R2DBC), equivalentes às de ProjetoRepository.
+// Os projetos retornados são objetos simples, não entidades gerenciadas pelo JPA.
+public interface ProjetoReativoRepository {
+
+    // Projetos com ID maior que "depoisDe" que atendem ao filtro, ordenados por ID e com o gerente;
+    // as linhas são lidas do banco conforme a demanda. Filtros nulos são ignorados.
+    Flux<Projeto> findAll(Long depoisDe, ProjetoFiltroDTO filtro);
+
+    Mono<Projeto> findById(Long id);
+}
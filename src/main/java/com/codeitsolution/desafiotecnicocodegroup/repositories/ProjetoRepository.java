@@ -1,10 +1,69 @@
 package com.codeitsolution.desafiotecnicocodegroup.repositories;
 
 import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface ProjetoRepository extends JpaRepository<Projeto, Long> {
-}
+public interface ProjetoRepository extends JpaRepository<Projeto, Long>, ProjetoEscritaRepository, ProjetoConsultaRepository {
+
+    // O gerente é carregado no mesmo SELECT; sem o grafo o Hibernate faria uma consulta extra por gerente.
+    @Override
+    @EntityGraph(attributePaths = "gerente")
+    List<Projeto> findAll();
+
+    // Leitura por cursor do banco: deve ser consumida dentro de uma transação e fechada ao final.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT p FROM Projeto p LEFT JOIN FETCH p.gerente ORDER BY p.id")
+    Stream<Projeto> streamAll();
 
+    // Cada linha: id, nome e descrição, lidos por cursor para a carga do índice de busca.
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.id, p.nome, p.descricao FROM Projeto p ORDER BY p.id")
+    Stream<Object[]> streamTextos();
+
+    @Query("SELECT new com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO(p.status, p.risco, p.orcamento, p.versao) " +
+            "FROM Projeto p WHERE p.id = :id")
+    Optional<ProjetoEstadoDTO> findEstadoById(@Param("id") Long id);
+
+    // Cada linha: status, risco, quantidade, soma do orçamento e quantidade com orçamento informado.
+    @Query("SELECT p.status, p.risco, COUNT(p), SUM(p.orcamento), COUNT(p.orcamento) FROM Projeto p GROUP BY p.status, p.risco")
+    List<Object[]> agruparPorStatusERisco();
+
+    // Aplica a transição em um único comando. Cada linha retornada traz o ID alterado, o status
+    // anterior e a nova versão. A CTE bloqueia as linhas em ordem de ID (evitando deadlock entre lotes)
+    // e, como em ProjetoEscritaRepositoryImpl, lê o status anterior depois de obtido o bloqueio: se outra
+    // transição chegar antes, o status é relido e a condição dos predecessores, reavaliada.
+    // Com "iniciado" verdadeiro, o projeto passa a ser marcado como iniciado (a marca nunca é desfeita).
+    @Transactional
+    @Query(value = "WITH a AS (SELECT id, status FROM projetos " +
+            "WHERE id IN (:ids) AND status IN (:predecessores) ORDER BY id FOR UPDATE) " +
+            "UPDATE projetos p SET status = :novoStatus, versao = p.versao + 1, " +
+            "iniciado = (p.iniciado IS TRUE OR :iniciado) " +
+            "FROM a WHERE p.id = a.id " +
+            "RETURNING p.id, a.status, p.versao", nativeQuery = true)
+    List<Object[]> mudarStatusSePermitido(@Param("ids") Collection<Long> ids,
+                                          @Param("novoStatus") String novoStatus,
+                                          @Param("predecessores") Collection<String> predecessores,
+                                          @Param("iniciado") boolean iniciado);
+}
@@ -0,0 +1,65 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories.impls;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoConsultaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+// Os filtros entram na consulta apenas quando informados. Um "(:filtro IS NULL OR ...)" fixo no JPQL
+// envia um NULL sem tipo ao PostgreSQL, que rejeita o comando ("could not determine data type of
+// parameter"); além disso, cada combinação de filtros gera o seu próprio plano.
+public class ProjetoConsultaRepositoryImpl implements ProjetoConsultaRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<Projeto> findPagina(Long depoisDe, StatusProjeto status, Risco risco, Long gerenteId,
+                                    Date dataInicioDe, Date dataInicioAte, Pageable limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Projeto> consulta = cb.createQuery(Projeto.class);
+        Root<Projeto> projeto = consulta.from(Projeto.class);
+        projeto.fetch("gerente", JoinType.LEFT);
+
+        List<Predicate> criterios = new ArrayList<>();
+        criterios.add(cb.greaterThan(projeto.get("id"), depoisDe != null ? depoisDe : 0L));
+        if (status != null) {
+            criterios.add(cb.equal(projeto.get("status"), status));
+        }
+        if (risco != null) {
+            criterios.add(cb.equal(projeto.get("risco"), risco));
+        }
+        if (gerenteId != null) {
+            criterios.add(cb.equal(projeto.get("gerente").get("id"), gerenteId));
+        }
+        if (dataInicioDe != null) {
+            criterios.add(cb.greaterThanOrEqualTo(projeto.get("dataInicio"), dataInicioDe));
+        }
+        if (dataInicioAte != null) {
+            criterios.add(cb.lessThanOrEqualTo(projeto.get("dataInicio"), dataInicioAte));
+        }
+
+        consulta.select(projeto)
+                .where(criterios.toArray(Predicate[]::new))
+                .orderBy(cb.asc(projeto.get("id")));
+        return entityManager.createQuery(consulta)
+                .setFirstResult((int) limite.getOffset())
+                .setMaxResults(limite.getPageSize())
+                .getResultList();
+    }
+
+}
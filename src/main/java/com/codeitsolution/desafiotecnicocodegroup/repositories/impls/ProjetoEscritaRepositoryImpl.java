@@ -0,0 +1,91 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories.impls;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoEscritaRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+import org.hibernate.type.StandardBasicTypes;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+// Os parâmetros que podem ser nulos são ligados com tipo explícito: sem ele o PostgreSQL
+// não consegue inferir o tipo de um NULL e rejeita o comando.
+public class ProjetoEscritaRepositoryImpl implements ProjetoEscritaRepository {
+
+    // A CTE "a" bloqueia a linha (FOR UPDATE) e lê o estado anterior já depois de obtido o bloqueio.
+    // Um autojunção simples (FROM projetos a) não serve: em READ COMMITTED, quando o comando espera
+    // por outra transação, o PostgreSQL relê só a linha alterada e "a" ficaria com o estado de antes da
+    // espera, devolvendo ao segundo gravador o estado que o primeiro já havia substituído.
+    private static final String ATUALIZAR = "WITH a AS (SELECT id, status, risco, orcamento, versao, iniciado " +
+            "FROM projetos WHERE id = :id FOR UPDATE) " +
+            "UPDATE projetos p SET nome = :nome, data_inicio = :dataInicio, " +
+            "data_previsao_fim = :dataPrevisaoFim, data_fim = :dataFim, descricao = :descricao, " +
+            "orcamento = :orcamento, risco = :risco, idgerente = :gerenteId, status = :status, versao = a.versao + 1, " +
+            "iniciado = (a.iniciado IS TRUE OR :iniciado IS TRUE) " +
+            "FROM a " +
+            "WHERE p.id = a.id AND (:versao IS NULL OR a.versao = :versao) " +
+            "RETURNING a.status, a.risco, a.orcamento, a.versao";
+
+    // Além dos status bloqueados, um projeto que já foi iniciado nunca é excluído (ver Projeto#iniciado).
+    private static final String EXCLUIR = "WITH a AS (SELECT id, status, risco, orcamento, versao, iniciado " +
+            "FROM projetos WHERE id = :id FOR UPDATE) " +
+            "DELETE FROM projetos p USING a " +
+            "WHERE p.id = a.id AND (a.status IS NULL OR a.status NOT IN (:bloqueados)) AND a.iniciado IS NOT TRUE " +
+            "AND (:versao IS NULL OR a.versao = :versao) " +
+            "RETURNING a.status, a.risco, a.orcamento, a.versao";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @Transactional
+    public Optional<ProjetoEstadoDTO> atualizar(Projeto projeto) {
+        NativeQuery<?> query = entityManager.createNativeQuery(ATUALIZAR).unwrap(NativeQuery.class);
+        query.setParameter("id", projeto.getId(), StandardBasicTypes.LONG);
+        query.setParameter("nome", projeto.getNome(), StandardBasicTypes.STRING);
+        query.setParameter("dataInicio", projeto.getDataInicio(), StandardBasicTypes.TIMESTAMP);
+        query.setParameter("dataPrevisaoFim", projeto.getDataPrevisaoFim(), StandardBasicTypes.TIMESTAMP);
+        query.setParameter("dataFim", projeto.getDataFim(), StandardBasicTypes.TIMESTAMP);
+        query.setParameter("descricao", projeto.getDescricao(), StandardBasicTypes.STRING);
+        query.setParameter("orcamento", projeto.getOrcamento(), StandardBasicTypes.FLOAT);
+        query.setParameter("risco", nome(projeto.getRisco()), StandardBasicTypes.STRING);
+        query.setParameter("gerenteId", projeto.getGerente() != null ? projeto.getGerente().getId() : null, StandardBasicTypes.LONG);
+        query.setParameter("status", nome(projeto.getStatus()), StandardBasicTypes.STRING);
+        query.setParameter("iniciado", projeto.getIniciado(), StandardBasicTypes.BOOLEAN);
+        query.setParameter("versao", projeto.getVersao(), StandardBasicTypes.LONG);
+        return estadoAnterior(query.getResultList());
+    }
+
+    @Override
+    @Transactional
+    public Optional<ProjetoEstadoDTO> excluirSePermitido(Long id, Long versaoEsperada, Collection<StatusProjeto> bloqueados) {
+        NativeQuery<?> query = entityManager.createNativeQuery(EXCLUIR).unwrap(NativeQuery.class);
+        query.setParameter("id", id, StandardBasicTypes.LONG);
+        query.setParameterList("bloqueados", bloqueados.stream().map(Enum::name).toList());
+        query.setParameter("versao", versaoEsperada, StandardBasicTypes.LONG);
+        return estadoAnterior(query.getResultList());
+    }
+
+    private static Optional<ProjetoEstadoDTO> estadoAnterior(List<?> linhas) {
+        if (linhas.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] linha = (Object[]) linhas.get(0);
+        return Optional.of(new ProjetoEstadoDTO(
+                linha[0] != null ? StatusProjeto.valueOf((String) linha[0]) : null,
+                linha[1] != null ? Risco.valueOf((String) linha[1]) : null,
+                linha[2] != null ? ((Number) linha[2]).floatValue() : null,
+                linha[3] != null ? ((Number) linha[3]).longValue() : null));
+    }
+
+    private static String nome(Enum<?> valor) {
+        return valor != null ? valor.name() : null;
+    }
+}
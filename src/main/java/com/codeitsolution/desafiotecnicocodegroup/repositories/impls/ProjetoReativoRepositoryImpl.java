@@ -0,0 +1,132 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories.impls;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoFiltroDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoReativoRepository;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Row;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class ProjetoReativoRepositoryImpl implements ProjetoReativoRepository {
+
+    // Linhas buscadas por vez no cursor do banco enquanto houver demanda do assinante.
+    private static final int LINHAS_POR_BUSCA = 250;
+
+    private static final String SELECT = "SELECT p.id, p.nome, p.data_inicio, p.data_previsao_fim, p.data_fim, " +
+            "p.descricao, p.orcamento, p.risco, p.status, p.iniciado, p.versao, " +
+            "g.id AS gerente_id, g.nome AS gerente_nome, g.datanascimento AS gerente_datanascimento, " +
+            "g.cpf AS gerente_cpf, g.funcionario AS gerente_funcionario, g.atribuicao AS gerente_atribuicao " +
+            "FROM projetos p LEFT JOIN pessoas g ON g.id = p.idgerente ";
+
+    private final DatabaseClient databaseClient;
+
+    public ProjetoReativoRepositoryImpl(ConnectionFactory connectionFactory) {
+        this.databaseClient = DatabaseClient.create(connectionFactory);
+    }
+
+    // Mesmos critérios de ProjetoConsultaRepositoryImpl.findPagina: só os filtros informados entram no
+    // WHERE, para não enviar parâmetros nulos sem tipo ao PostgreSQL.
+    @Override
+    public Flux<Projeto> findAll(Long depoisDe, ProjetoFiltroDTO filtro) {
+        ProjetoFiltroDTO criterios = filtro != null ? filtro : new ProjetoFiltroDTO();
+        Map<String, Object> parametros = new LinkedHashMap<>();
+        StringBuilder sql = new StringBuilder(SELECT).append("WHERE p.id > :depoisDe");
+        parametros.put("depoisDe", depoisDe != null ? depoisDe : 0L);
+        if (criterios.getStatus() != null) {
+            sql.append(" AND p.status = :status");
+            parametros.put("status", criterios.getStatus().name());
+        }
+        if (criterios.getRisco() != null) {
+            sql.append(" AND p.risco = :risco");
+            parametros.put("risco", criterios.getRisco().name());
+        }
+        if (criterios.getGerenteId() != null) {
+            sql.append(" AND p.idgerente = :gerenteId");
+            parametros.put("gerenteId", criterios.getGerenteId());
+        }
+        if (criterios.getDataInicioDe() != null) {
+            sql.append(" AND p.data_inicio >= :dataInicioDe");
+            parametros.put("dataInicioDe", dataHora(criterios.getDataInicioDe()));
+        }
+        if (criterios.getDataInicioAte() != null) {
+            sql.append(" AND p.data_inicio <= :dataInicioAte");
+            parametros.put("dataInicioAte", dataHora(criterios.getDataInicioAte()));
+        }
+        sql.append(" ORDER BY p.id");
+
+        DatabaseClient.GenericExecuteSpec consulta = databaseClient.sql(sql.toString());
+        for (Map.Entry<String, Object> parametro : parametros.entrySet()) {
+            consulta = consulta.bind(parametro.getKey(), parametro.getValue());
+        }
+        return consulta
+                .filter(statement -> statement.fetchSize(LINHAS_POR_BUSCA))
+                .map((row, metadata) -> projetoDe(row))
+                .all();
+    }
+
+    @Override
+    public Mono<Projeto> findById(Long id) {
+        return databaseClient.sql(SELECT + "WHERE p.id = :id")
+                .bind("id", id)
+                .map((row, metadata) -> projetoDe(row))
+                .one();
+    }
+
+    private static Projeto projetoDe(Row row) {
+        Projeto projeto = new Projeto();
+        projeto.setId(row.get("id", Long.class));
+        projeto.setNome(row.get("nome", String.class));
+        projeto.setDataInicio(data(row.get("data_inicio")));
+        projeto.setDataPrevisaoFim(data(row.get("data_previsao_fim")));
+        projeto.setDataFim(data(row.get("data_fim")));
+        projeto.setDescricao(row.get("descricao", String.class));
+        Object orcamento = row.get("orcamento");
+        projeto.setOrcamento(orcamento != null ? ((Number) orcamento).floatValue() : null);
+        String risco = row.get("risco", String.class);
+        projeto.setRisco(risco != null ? Risco.valueOf(risco) : null);
+        String status = row.get("status", String.class);
+        projeto.setStatus(status != null ? StatusProjeto.valueOf(status) : null);
+        projeto.setIniciado(row.get("iniciado", Boolean.class));
+        projeto.setVersao(row.get("versao", Long.class));
+
+        Long gerenteId = row.get("gerente_id", Long.class);
+        if (gerenteId != null) {
+            Pessoa gerente = new Pessoa();
+            gerente.setId(gerenteId);
+            gerente.setNome(row.get("gerente_nome", String.class));
+            gerente.setDataNascimento(data(row.get("gerente_datanascimento")));
+            gerente.setCpf(row.get("gerente_cpf", String.class));
+            gerente.setFuncionario(row.get("gerente_funcionario", Boolean.class));
+            gerente.setAtribuicao(row.get("gerente_atribuicao", String.class));
+            projeto.setGerente(gerente);
+        }
+        return projeto;
+    }
+
+    // As colunas de data chegam como LocalDateTime (timestamp) ou LocalDate (date), conforme o esquema.
+    private static Date data(Object valor) {
+        if (valor instanceof LocalDateTime dataHora) {
+            return Date.from(dataHora.atZone(ZoneId.systemDefault()).toInstant());
+        }
+        if (valor instanceof LocalDate dia) {
+            return Date.from(dia.atStartOfDay(ZoneId.systemDefault()).toInstant());
+        }
+        return (Date) valor;
+    }
+
+    private static LocalDateTime dataHora(Date data) {
+        return LocalDateTime.ofInstant(data.toInstant(), ZoneId.systemDefault());
+    }
+}
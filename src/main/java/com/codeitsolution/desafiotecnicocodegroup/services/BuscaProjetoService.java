@@ -0,0 +1,15 @@
+package com.codeitsolution.desafiotecnicocodegroup.services;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.PaginaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoBuscaDTO;
+
+public interface BuscaProjetoService {
+
+    public PaginaDTO<ResultadoBuscaDTO> buscar(String consulta, String cursor, Integer tamanho);
+
+    // Inclui o projeto no índice ou substitui a versão já indexada.
+    public void indexar(Long id, String nome, String descricao);
+
+    public void remover(Long id);
+
+}
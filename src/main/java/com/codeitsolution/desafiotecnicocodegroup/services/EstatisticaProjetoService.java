@@ -0,0 +1,14 @@
+package com.codeitsolution.desafiotecnicocodegroup.services;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.EstatisticasProjetosDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+
+public interface EstatisticaProjetoService {
+
+    public EstatisticasProjetosDTO obter();
+
+    // Troca a contribuição de "anterior" pela de "atual": nulo em "anterior" indica criação
+    // e nulo em "atual" indica exclusão.
+    public void registrar(ProjetoEstadoDTO anterior, ProjetoEstadoDTO atual);
+
+}
@@ -0,0 +1,16 @@
+package com.codeitsolution.desafiotecnicocodegroup.services;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.AcaoHistorico;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+public interface EventoProjetoService {
+
+    // Envia a alteração aos assinantes. Dentro de uma transação, o envio só ocorre depois do commit.
+    public void publicar(Long projetoId, AcaoHistorico acao, ProjetoEstadoDTO estado);
+
+    // Abre uma assinatura, retomando após "ultimoEventoId" (o Last-Event-ID do navegador) quando informado.
+    // Retorna nulo quando o limite de assinantes foi atingido.
+    public ResponseBodyEmitter assinar(String ultimoEventoId);
+
+}
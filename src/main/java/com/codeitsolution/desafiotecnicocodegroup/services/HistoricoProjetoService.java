@@ -0,0 +1,19 @@
+package com.codeitsolution.desafiotecnicocodegroup.services;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.ProjetoHistorico;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.AcaoHistorico;
+
+import java.util.List;
+
+public interface HistoricoProjetoService {
+
+    // Registra a alteração no histórico quando a transação corrente, que deve ser a mesma da alteração
+    // do projeto, for confirmada; se ela for desfeita, nada é registrado. A gravação em
+    // projeto_historico ocorre em segundo plano.
+    public void registrar(Long projetoId, AcaoHistorico acao, ProjetoEstadoDTO anterior, ProjetoEstadoDTO atual);
+
+    // Como registrar, para várias alterações em um único lote JDBC.
+    public void registrarTodos(List<ProjetoHistorico> historicos);
+
+}
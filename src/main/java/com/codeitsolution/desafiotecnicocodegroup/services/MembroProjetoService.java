@@ -1,13 +1,27 @@
 package com.codeitsolution.desafiotecnicocodegroup.services;
 
 import com.codeitsolution.desafiotecnicocodegroup.entities.MembroProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MembroResumoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.PaginaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoResumoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoMembroDTO;
 import com.codeitsolution.desafiotecnicocodegroup.repositories.MembroProjetoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 public interface MembroProjetoService {
 
     public MembroProjeto save(MembroProjeto membroProjeto);
-    
+
+    public ResultadoMembroDTO adicionarMembro(Long projetoId, Long pessoaId);
+
+    public List<ResultadoMembroDTO> adicionarMembros(Long projetoId, List<Long> pessoaIds);
+
+    public PaginaDTO<MembroResumoDTO> findMembros(Long projetoId, String cursor, Integer tamanho);
+
+    public PaginaDTO<ProjetoResumoDTO> findProjetos(Long pessoaId, String cursor, Integer tamanho);
+
 }
 
@@ -1,10 +1,16 @@
 package com.codeitsolution.desafiotecnicocodegroup.services;
 
 import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ImportacaoResumoDTO;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.InputStream;
+
 public interface PessoaService {
     public Pessoa save(Pessoa pessoa);
 
+    public ImportacaoResumoDTO importar(InputStream corpo) throws IOException;
+
     Pessoa findById(Long pessoaId);
 }
@@ -1,27 +1,47 @@
 package com.codeitsolution.desafiotecnicocodegroup.services;
 
 import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.PaginaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoFiltroDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoMudancaStatusDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.FormatoExportacao;
 import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
 import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
 import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 public interface ProjetoService {
 
     public List<Projeto> findAll();
 
+    public PaginaDTO<Projeto> findPagina(String cursor, Integer tamanho, ProjetoFiltroDTO filtro);
+
+    // ID contido no cursor de findPagina; lança IllegalArgumentException se o cursor for inválido.
+    public Long decodificarCursor(String cursor);
+
+    public void exportar(FormatoExportacao formato, OutputStream saida) throws IOException;
+
+    // O projeto retornado é a instância guardada no cache "projetos" e compartilhada entre as
+    // requisições: deve ser tratado como somente leitura. Para alterar, use uma cópia e save().
     public Projeto findById(Long id);
 
+    // Lança EntityNotFoundException se o gerente não existir e, na atualização, IllegalArgumentException
+    // se o projeto não existir. Retorna o projeto como ficou gravado.
     public Projeto save(Projeto projeto);
 
     public Risco determinarRisco(Projeto projeto);
 
-    public Projeto mudarStatus(Long id, StatusProjeto novoStatus);
+    public void mudarStatus(Long id, StatusProjeto novoStatus);
+
+    public ResultadoMudancaStatusDTO mudarStatusEmLote(List<Long> ids, StatusProjeto novoStatus);
 
-    public void delete(Long id);
+    // versaoEsperada nula exclui independentemente da versão gravada.
+    public void delete(Long id, Long versaoEsperada);
 
     public boolean existsById(Long id);
 
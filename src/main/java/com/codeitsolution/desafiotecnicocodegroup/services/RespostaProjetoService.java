@@ -0,0 +1,18 @@
+package com.codeitsolution.desafiotecnicocodegroup.services;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+
+import java.nio.ByteBuffer;
+
+public interface RespostaProjetoService {
+
+    // JSON do projeto em UTF-8, pronto para ser escrito na resposta. Enquanto a versão do projeto
+    // não mudar, o mesmo conteúdo é reaproveitado sem nova serialização. O buffer é somente leitura.
+    public ByteBuffer serializar(Projeto projeto);
+
+    public void invalidar(Long id);
+
+    // Descarta todos os projetos, para alterações que mudam o JSON sem mudar a versão (ex.: o gerente).
+    public void invalidarTodos();
+
+}
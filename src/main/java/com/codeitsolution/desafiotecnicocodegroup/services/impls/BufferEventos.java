@@ -0,0 +1,39 @@
+package com.codeitsolution.desafiotecnicocodegroup.services.impls;
+
+// Buffer circular com os últimos eventos enviados, já formatados, numerados em sequência a partir de 1.
+// Ao encher, cada novo evento sobrescreve o mais antigo.
+// Não é thread-safe: o chamador controla o acesso.
+final class BufferEventos {
+
+    private final String[] eventos;
+    private long ultimo;
+
+    BufferEventos(int capacidade) {
+        this.eventos = new String[capacidade];
+    }
+
+    // Sequência do último evento acrescentado; zero enquanto o buffer estiver vazio.
+    long ultimo() {
+        return ultimo;
+    }
+
+    long acrescentar(String evento) {
+        ultimo++;
+        eventos[(int) (ultimo % eventos.length)] = evento;
+        return ultimo;
+    }
+
+    // Eventos posteriores a "sequencia", concatenados em ordem. Nulo quando algum deles já foi
+    // sobrescrito ou quando a sequência não existe, casos em que o chamador precisa recomeçar do zero.
+    String desde(long sequencia) {
+        if (sequencia < 0 || sequencia > ultimo || sequencia < ultimo - eventos.length) {
+            return null;
+        }
+        StringBuilder texto = new StringBuilder();
+        for (long i = sequencia + 1; i <= ultimo; i++) {
+            texto.append(eventos[(int) (i % eventos.length)]);
+        }
+        return texto.toString();
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.codeitsolution.desafiotecnicocodegroup.services.impls;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.PaginaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoBuscaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.BuscaProjetoService;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+// Busca textual por nome e descrição servida de um índice invertido em memória: construído
+// na inicialização com uma leitura por cursor e atualizado a cada gravação, sem consultar o banco.
+@Service
+public class BuscaProjetoServiceImpl implements BuscaProjetoService {
+
+    private static final Logger log = LoggerFactory.getLogger(BuscaProjetoServiceImpl.class);
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final IndiceInvertido indice = new IndiceInvertido();
+
+    // Buscas concorrem entre si; gravações no índice são exclusivas.
+    private final ReadWriteLock trava = new ReentrantReadWriteLock();
+
+    @PostConstruct
+    public void carregar() {
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<Object[]> textos = projetoRepository.streamTextos()) {
+                textos.forEach(texto -> indexar(((Number) texto[0]).longValue(), (String) texto[1], (String) texto[2]));
+            }
+        });
+        log.info("Índice de busca carregado com {} projetos", indice.tamanho());
+    }
+
+    // O cursor guarda a pontuação e o ID do último resultado entregue e a página seguinte começa
+    // logo depois dessa posição; assim a busca mantém só "tamanho + 1" resultados em memória,
+    // qualquer que seja a página. Gravações entre as páginas mudam as estatísticas do BM25 e,
+    // com elas, as pontuações; nesse caso a continuação é uma aproximação, como antes.
+    @Override
+    public PaginaDTO<ResultadoBuscaDTO> buscar(String consulta, String cursor, Integer tamanho) {
+        int limite = CursorPaginacao.limitar(tamanho);
+        IndiceInvertido.Posicao depoisDe = decodificar(cursor);
+
+        List<IndiceInvertido.Resultado> resultados;
+        trava.readLock().lock();
+        try {
+            resultados = indice.buscar(consulta, depoisDe, limite + 1);
+        } finally {
+            trava.readLock().unlock();
+        }
+
+        List<IndiceInvertido.Resultado> pagina = resultados.subList(0, Math.min(limite, resultados.size()));
+        List<ResultadoBuscaDTO> itens = pagina.stream()
+                .map(r -> new ResultadoBuscaDTO(r.id(), r.nome(), r.pontuacao()))
+                .toList();
+        String proximoCursor = resultados.size() > limite ? codificar(pagina.get(pagina.size() - 1)) : null;
+        return new PaginaDTO<>(itens, proximoCursor);
+    }
+
+    @Override
+    public void indexar(Long id, String nome, String descricao) {
+        trava.writeLock().lock();
+        try {
+            indice.indexar(id, nome, descricao);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remover(Long id) {
+        trava.writeLock().lock();
+        try {
+            indice.remover(id);
+        } finally {
+            trava.writeLock().unlock();
+        }
+    }
+
+    // "pontuação:id" em Base64; Double.toString preserva a pontuação exata na volta.
+    static String codificar(IndiceInvertido.Resultado resultado) {
+        String posicao = resultado.pontuacao() + ":" + resultado.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(posicao.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static IndiceInvertido.Posicao decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String posicao = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = posicao.lastIndexOf(':');
+            return new IndiceInvertido.Posicao(Double.parseDouble(posicao.substring(0, separador)),
+                    Long.parseLong(posicao.substring(separador + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + cursor);
+        }
+    }
+
+}
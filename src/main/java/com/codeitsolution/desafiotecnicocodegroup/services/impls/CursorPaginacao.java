@@ -0,0 +1,51 @@
+package com.codeitsolution.desafiotecnicocodegroup.services.impls;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.PaginaDTO;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+// Paginação por chave (keyset): o cursor carrega o último id entregue, de modo que
+// cada página é uma busca por intervalo no índice, sem OFFSET e sem COUNT.
+final class CursorPaginacao {
+
+    static final int TAMANHO_PADRAO = 20;
+    static final int TAMANHO_MAXIMO = 100;
+
+    private CursorPaginacao() {
+    }
+
+    static Long decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor de paginação inválido: " + cursor);
+        }
+    }
+
+    static String codificar(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static int limitar(Integer tamanho) {
+        if (tamanho == null || tamanho <= 0) {
+            return TAMANHO_PADRAO;
+        }
+        return Math.min(tamanho, TAMANHO_MAXIMO);
+    }
+
+    // A consulta deve buscar limite + 1 registros: o excedente só indica que existe próxima página.
+    static <T> PaginaDTO<T> paginar(List<T> registros, int limite, Function<T, Long> chave) {
+        if (registros.size() <= limite) {
+            return new PaginaDTO<>(registros, null);
+        }
+        List<T> itens = registros.subList(0, limite);
+        return new PaginaDTO<>(itens, codificar(chave.apply(itens.get(itens.size() - 1))));
+    }
+
+}
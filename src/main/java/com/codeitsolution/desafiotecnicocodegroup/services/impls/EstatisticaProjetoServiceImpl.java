@@ -0,0 +1,137 @@
+package com.codeitsolution.desafiotecnicocodegroup.services.impls;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.EstatisticasProjetosDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.EstatisticaProjetoService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+// Estatísticas do portfólio mantidas em memória: carregadas uma vez com um GROUP BY na
+// inicialização e atualizadas a cada gravação, de modo que a leitura nunca vai ao banco.
+// Cada gravação também alimenta os contadores de transições de status e de classificações de risco.
+@Service
+public class EstatisticaProjetoServiceImpl implements EstatisticaProjetoService {
+
+    private static final String METRICA_TRANSICOES = "projetos.status.transicoes";
+    private static final String METRICA_CLASSIFICACOES = "projetos.risco.classificacoes";
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final Map<StatusProjeto, LongAdder> porStatus = new EnumMap<>(StatusProjeto.class);
+    private final Map<Risco, LongAdder> porRisco = new EnumMap<>(Risco.class);
+    private final LongAdder total = new LongAdder();
+    private final LongAdder comOrcamento = new LongAdder();
+    private final DoubleAdder orcamentoTotal = new DoubleAdder();
+
+    public EstatisticaProjetoServiceImpl() {
+        // Os mapas são preenchidos aqui e nunca mais mudam de estrutura; só os contadores variam.
+        for (StatusProjeto status : StatusProjeto.values()) {
+            porStatus.put(status, new LongAdder());
+        }
+        for (Risco risco : Risco.values()) {
+            porRisco.put(risco, new LongAdder());
+        }
+    }
+
+    @PostConstruct
+    public void carregar() {
+        for (Object[] grupo : projetoRepository.agruparPorStatusERisco()) {
+            StatusProjeto status = (StatusProjeto) grupo[0];
+            Risco risco = (Risco) grupo[1];
+            long quantidade = ((Number) grupo[2]).longValue();
+            double soma = grupo[3] != null ? ((Number) grupo[3]).doubleValue() : 0d;
+            long quantidadeComOrcamento = ((Number) grupo[4]).longValue();
+
+            total.add(quantidade);
+            if (status != null) {
+                porStatus.get(status).add(quantidade);
+            }
+            if (risco != null) {
+                porRisco.get(risco).add(quantidade);
+            }
+            orcamentoTotal.add(soma);
+            comOrcamento.add(quantidadeComOrcamento);
+        }
+    }
+
+    @Override
+    public EstatisticasProjetosDTO obter() {
+        Map<StatusProjeto, Long> contagemPorStatus = new EnumMap<>(StatusProjeto.class);
+        porStatus.forEach((status, contador) -> contagemPorStatus.put(status, contador.sum()));
+
+        Map<Risco, Long> contagemPorRisco = new EnumMap<>(Risco.class);
+        porRisco.forEach((risco, contador) -> contagemPorRisco.put(risco, contador.sum()));
+
+        double soma = orcamentoTotal.sum();
+        long quantidadeComOrcamento = comOrcamento.sum();
+
+        EstatisticasProjetosDTO estatisticas = new EstatisticasProjetosDTO();
+        estatisticas.setTotal(total.sum());
+        estatisticas.setPorStatus(contagemPorStatus);
+        estatisticas.setPorRisco(contagemPorRisco);
+        estatisticas.setOrcamentoTotal(soma);
+        estatisticas.setOrcamentoMedio(quantidadeComOrcamento > 0 ? soma / quantidadeComOrcamento : 0d);
+        return estatisticas;
+    }
+
+    @Override
+    public void registrar(ProjetoEstadoDTO anterior, ProjetoEstadoDTO atual) {
+        if (anterior != null) {
+            aplicar(anterior, -1);
+        }
+        if (atual != null) {
+            aplicar(atual, 1);
+        }
+        contar(anterior, atual);
+    }
+
+    private void contar(ProjetoEstadoDTO anterior, ProjetoEstadoDTO atual) {
+        if (atual == null) {
+            return;
+        }
+        if (anterior != null && anterior.getStatus() != atual.getStatus()) {
+            Counter.builder(METRICA_TRANSICOES)
+                    .tag("de", String.valueOf(anterior.getStatus()))
+                    .tag("para", String.valueOf(atual.getStatus()))
+                    .register(meterRegistry)
+                    .increment();
+        }
+        // Mudanças só de status chegam sem risco; não são classificações.
+        if (atual.getRisco() != null) {
+            Counter.builder(METRICA_CLASSIFICACOES)
+                    .tag("risco", atual.getRisco().name())
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    private void aplicar(ProjetoEstadoDTO estado, int sinal) {
+        total.add(sinal);
+        if (estado.getStatus() != null) {
+            porStatus.get(estado.getStatus()).add(sinal);
+        }
+        if (estado.getRisco() != null) {
+            porRisco.get(estado.getRisco()).add(sinal);
+        }
+        if (estado.getOrcamento() != null) {
+            orcamentoTotal.add(sinal * estado.getOrcamento().doubleValue());
+            comOrcamento.add(sinal);
+        }
+    }
+
+}
@@ -0,0 +1,342 @@
+package com.codeitsolution.desafiotecnicocodegroup.services.impls;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.EventoProjetoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.AcaoHistorico;
+import com.codeitsolution.desafiotecnicocodegroup.services.EventoProjetoService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Eventos de alteração de projetos em Server-Sent Events. Cada evento é serializado uma única vez,
+// já no formato do protocolo, e guardado em um buffer circular; assim um cliente que reconecta
+// com Last-Event-ID recebe o que perdeu, e quem ficou para trás do buffer recebe "reinicio"
+// (deve recarregar a listagem).
+// Assinantes ociosos não ocupam threads (requisições assíncronas do servlet). Uma única thread monta
+// os textos (assinantes na mesma posição recebem o mesmo texto, montado uma vez por rodada) e os
+// coloca, sem bloquear, na fila limitada de cada assinante; a escrita na conexão é feita por um pool
+// fixo de threads-escrita threads, em que cada assinante ocupa no máximo uma e só enquanto houver o que
+// escrever. Assim um cliente lento atrasa apenas a si mesmo. Com a fila cheia, ou com uma escrita parada há mais de espera-escrita-ms,
+// o assinante é desconectado (projetos.eventos.desconectados); ao reconectar com Last-Event-ID
+// recebe do buffer o que perdeu. A mesma thread manda um comentário periódico para manter a conexão
+// aberta em proxies e descobrir clientes que já se desconectaram.
+@Service
+public class EventoProjetoServiceImpl implements EventoProjetoService {
+
+    private static final MediaType TEXTO = new MediaType("text", "plain", StandardCharsets.UTF_8);
+    private static final String PULSACAO = ":\n\n";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${desafio-tecnico.eventos.capacidade:4096}")
+    private int capacidade;
+
+    @Value("${desafio-tecnico.eventos.maximo-assinantes:5000}")
+    private int maximoAssinantes;
+
+    @Value("${desafio-tecnico.eventos.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    @Value("${desafio-tecnico.eventos.intervalo-pulsacao-ms:20000}")
+    private long intervaloPulsacaoMs;
+
+    @Value("${desafio-tecnico.eventos.fila-assinante:64}")
+    private int filaAssinante;
+
+    @Value("${desafio-tecnico.eventos.espera-escrita-ms:10000}")
+    private long esperaEscritaMs;
+
+    @Value("${desafio-tecnico.eventos.threads-escrita:16}")
+    private int threadsEscrita;
+
+    // Distingue os IDs de eventos desta execução dos de execuções anteriores, cujo buffer se perdeu.
+    private final String execucao = Long.toString(System.currentTimeMillis(), 36);
+
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean difusaoPendente = new AtomicBoolean();
+
+    private BufferEventos buffer;
+    private ScheduledExecutorService envio;
+    private ExecutorService escrita;
+    private Counter recusados;
+    private Counter desconectados;
+
+    private static final class Assinante {
+        private final ResponseBodyEmitter emitter;
+        private final BlockingQueue<String> fila;
+        // Há uma tarefa de escrita agendada ou em andamento para este assinante.
+        private final AtomicBoolean escrevendo = new AtomicBoolean();
+        private final AtomicBoolean concluido = new AtomicBoolean();
+        private volatile boolean encerrado;
+        // Início da escrita em andamento (System.nanoTime()); zero sem escrita em andamento.
+        private volatile long inicioEscrita;
+        // Sequência do último evento entregue; só é lida e alterada pela thread de envio.
+        private long ultimoEnviado;
+
+        private Assinante(ResponseBodyEmitter emitter, int capacidadeFila, long ultimoEnviado) {
+            this.emitter = emitter;
+            this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+            this.ultimoEnviado = ultimoEnviado;
+        }
+    }
+
+    @PostConstruct
+    public void iniciar() {
+        buffer = new BufferEventos(capacidade);
+        envio = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "eventos-projetos");
+            thread.setDaemon(true);
+            return thread;
+        });
+        envio.scheduleWithFixedDelay(this::pulsar, intervaloPulsacaoMs, intervaloPulsacaoMs, TimeUnit.MILLISECONDS);
+        // Cada assinante tem no máximo uma tarefa pendente ou em andamento (Assinante#escrevendo), então
+        // a fila nunca passa do número de assinantes. Uma escrita presa ocupa uma das threads até o contêiner
+        // desistir da conexão; depois de espera-escrita-ms o assinante é desconectado e não recebe novas tarefas.
+        AtomicInteger contador = new AtomicInteger();
+        escrita = new ThreadPoolExecutor(threadsEscrita, threadsEscrita, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maximoAssinantes), tarefa -> {
+            Thread thread = new Thread(tarefa, "eventos-projetos-escrita-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        recusados = Counter.builder("projetos.eventos.recusados").register(meterRegistry);
+        desconectados = Counter.builder("projetos.eventos.desconectados").register(meterRegistry);
+        Gauge.builder("projetos.eventos.assinantes", assinantes, Set::size).register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        envio.shutdownNow();
+        assinantes.forEach(this::desconectar);
+        escrita.shutdown();
+    }
+
+    @Override
+    public void publicar(Long projetoId, AcaoHistorico acao, ProjetoEstadoDTO estado) {
+        String dados;
+        try {
+            dados = objectMapper.writeValueAsString(new EventoProjetoDTO(acao, projetoId,
+                    estado != null ? estado.getVersao() : null, estado != null ? estado.getStatus() : null));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o evento do projeto " + projetoId, e);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acrescentar(dados);
+                }
+            });
+            return;
+        }
+        acrescentar(dados);
+    }
+
+    private void acrescentar(String dados) {
+        synchronized (buffer) {
+            buffer.acrescentar("id:" + id(buffer.ultimo() + 1) + "\ndata:" + dados + "\n\n");
+        }
+        agendarDifusao();
+    }
+
+    @Override
+    public ResponseBodyEmitter assinar(String ultimoEventoId) {
+        if (assinantes.size() >= maximoAssinantes) {
+            recusados.increment();
+            return null;
+        }
+
+        ResponseBodyEmitter emitter = novoEmitter();
+        long inicio;
+        synchronized (buffer) {
+            inicio = ultimoEventoId == null || ultimoEventoId.isBlank() ? buffer.ultimo() : sequencia(ultimoEventoId);
+        }
+        Assinante assinante = new Assinante(emitter, filaAssinante, inicio);
+        emitter.onCompletion(() -> finalizado(assinante));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(erro -> finalizado(assinante));
+        assinantes.add(assinante);
+
+        // O comentário inicial confirma a conexão ao cliente antes do primeiro evento.
+        executar(() -> entregar(assinante, PULSACAO));
+        agendarDifusao();
+        return emitter;
+    }
+
+    ResponseBodyEmitter novoEmitter() {
+        return new ResponseBodyEmitter(timeoutMs);
+    }
+
+    // Sequência contida em um ID desta execução; -1 (sempre fora do buffer) para IDs de outras execuções ou inválidos.
+    private long sequencia(String ultimoEventoId) {
+        String prefixo = execucao + "-";
+        if (!ultimoEventoId.startsWith(prefixo)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(ultimoEventoId.substring(prefixo.length()));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private String id(long sequencia) {
+        return execucao + "-" + sequencia;
+    }
+
+    // Várias publicações seguidas resultam em uma única rodada de envio.
+    private void agendarDifusao() {
+        if (difusaoPendente.compareAndSet(false, true)) {
+            executar(this::difundir);
+        }
+    }
+
+    private void executar(Runnable tarefa) {
+        try {
+            envio.execute(tarefa);
+        } catch (RejectedExecutionException e) {
+            // Aplicação em encerramento: os assinantes já foram finalizados.
+        }
+    }
+
+    private void difundir() {
+        difusaoPendente.set(false);
+
+        long ultimo;
+        Map<Long, String> textos = new HashMap<>();
+        synchronized (buffer) {
+            ultimo = buffer.ultimo();
+            for (Assinante assinante : assinantes) {
+                if (assinante.ultimoEnviado != ultimo) {
+                    textos.computeIfAbsent(assinante.ultimoEnviado, sequencia -> {
+                        String texto = buffer.desde(sequencia);
+                        return texto != null ? texto : "id:" + id(ultimo) + "\nevent:reinicio\ndata:{}\n\n";
+                    });
+                }
+            }
+        }
+
+        for (Assinante assinante : assinantes) {
+            String texto = textos.get(assinante.ultimoEnviado);
+            // Sem texto: já está em dia ou assinou depois da montagem (terá a sua própria rodada).
+            if (texto != null && assinante.ultimoEnviado != ultimo) {
+                assinante.ultimoEnviado = ultimo;
+                entregar(assinante, texto);
+            }
+        }
+    }
+
+    private void pulsar() {
+        long limite = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(esperaEscritaMs);
+        for (Assinante assinante : assinantes) {
+            long inicioEscrita = assinante.inicioEscrita;
+            if (inicioEscrita != 0 && inicioEscrita - limite < 0) {
+                desconectados.increment();
+                desconectar(assinante);
+            } else if (assinante.fila.isEmpty()) {
+                entregar(assinante, PULSACAO);
+            }
+        }
+    }
+
+    // Chamado só pela thread de envio; nunca bloqueia.
+    private void entregar(Assinante assinante, String texto) {
+        if (assinante.fila.offer(texto)) {
+            agendarEscrita(assinante);
+        } else {
+            desconectados.increment();
+            desconectar(assinante);
+        }
+    }
+
+    // O emitter é finalizado pela thread de escrita do assinante, que pode estar bloqueada nele.
+    private void desconectar(Assinante assinante) {
+        assinantes.remove(assinante);
+        assinante.encerrado = true;
+        assinante.fila.clear();
+        agendarEscrita(assinante);
+    }
+
+    // Conexão encerrada pelo contêiner (fim, timeout ou erro): nada mais a escrever nem a finalizar.
+    private void finalizado(Assinante assinante) {
+        assinantes.remove(assinante);
+        assinante.concluido.set(true);
+        assinante.encerrado = true;
+    }
+
+    private void agendarEscrita(Assinante assinante) {
+        if (!assinante.escrevendo.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            escrita.execute(() -> escrever(assinante));
+        } catch (RejectedExecutionException e) {
+            // Aplicação em encerramento, ou fila do pool cheia (tarefas de assinantes recém-desconectados
+            // ainda pendentes): o texto continua na fila do assinante e a escrita é tentada de novo na
+            // próxima entrega, no máximo uma pulsação depois.
+            assinante.escrevendo.set(false);
+        }
+    }
+
+    private void escrever(Assinante assinante) {
+        try {
+            String texto;
+            while (!assinante.encerrado && (texto = assinante.fila.poll()) != null) {
+                assinante.inicioEscrita = System.nanoTime();
+                try {
+                    assinante.emitter.send(texto, TEXTO);
+                } catch (IOException | IllegalStateException e) {
+                    // Cliente desconectado ou assinatura encerrada; o contêiner finaliza a requisição.
+                    finalizado(assinante);
+                } finally {
+                    assinante.inicioEscrita = 0;
+                }
+            }
+            if (assinante.encerrado && assinante.concluido.compareAndSet(false, true)) {
+                assinante.emitter.complete();
+            }
+        } finally {
+            assinante.escrevendo.set(false);
+        }
+
+        // Texto entregue ou desconexão pedida depois da última verificação.
+        if (assinante.encerrado ? !assinante.concluido.get() : !assinante.fila.isEmpty()) {
+            agendarEscrita(assinante);
+        }
+    }
+
+}
@@ -0,0 +1,412 @@
+package com.codeitsolution.desafiotecnicocodegroup.services.impls;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.ProjetoHistorico;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.AcaoHistorico;
+import com.codeitsolution.desafiotecnicocodegroup.services.HistoricoProjetoService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Histórico gravado fora da requisição: após o commit, cada alteração entra em uma fila sem bloqueio,
+// limitada a desafio-tecnico.historico.capacidade por um contador atômico, e uma única thread a grava
+// em projeto_historico em lotes de tamanho-lote, um commit por lote.
+// Com a fila cheia, quem registra espera até espera-ms (contrapressão); se ainda não houver espaço, o
+// registro transborda para projeto_historico_pendente em uma transação própria e é contado em
+// projetos.historico.transbordados. A mesma thread transfere os pendentes para projeto_historico, com
+// um comando só por lote (DELETE ... RETURNING alimentando o INSERT) e FOR UPDATE SKIP LOCKED, para
+// que mais de uma instância possa transferir ao mesmo tempo. No encerramento, o que restar na fila
+// após prazo-encerramento-ms também vai para os pendentes, transferidos na inicialização seguinte.
+// Uma queda abrupta do processo perde o que ainda estava na fila (no máximo capacidade registros);
+// com capacidade 0 não há fila e cada registro é gravado nos pendentes na transação da alteração.
+// Registros rejeitados pelo histórico (violação de restrição) ficam nos pendentes, fora dos lotes até a
+// reinicialização, e são contados em projetos.historico.falhas. Outras falhas (banco indisponível)
+// apenas adiam a gravação; o lote em mãos é mantido.
+@Service
+public class HistoricoProjetoServiceImpl implements HistoricoProjetoService, SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(HistoricoProjetoServiceImpl.class);
+
+    private static final String COLUNAS = "(idprojeto, acao, status_anterior, status_novo, versao, data_hora) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERIR = "INSERT INTO projeto_historico " + COLUNAS;
+
+    private static final String INSERIR_PENDENTE = "INSERT INTO projeto_historico_pendente " + COLUNAS;
+
+    private static final String SELECIONAR_PENDENTES = "SELECT id FROM projeto_historico_pendente " +
+            "WHERE id <> ALL (?) ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED";
+
+    private static final String TRANSFERIR = "WITH movidos AS (" +
+            "DELETE FROM projeto_historico_pendente WHERE id = ANY (?) " +
+            "RETURNING id, idprojeto, acao, status_anterior, status_novo, versao, data_hora) " +
+            "INSERT INTO projeto_historico (idprojeto, acao, status_anterior, status_novo, versao, data_hora) " +
+            "SELECT idprojeto, acao, status_anterior, status_novo, versao, data_hora FROM movidos ORDER BY id";
+
+    // Para depois do servidor web, para que as últimas requisições ainda sejam gravadas.
+    private static final int FASE = Integer.MAX_VALUE - 4096;
+
+    private static final long ESPERA_MAXIMA_FALHA_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${desafio-tecnico.historico.capacidade:10000}")
+    private int capacidade;
+
+    @Value("${desafio-tecnico.historico.espera-ms:50}")
+    private long esperaMs;
+
+    @Value("${desafio-tecnico.historico.tamanho-lote:200}")
+    private int tamanhoLote;
+
+    @Value("${desafio-tecnico.historico.intervalo-ms:1000}")
+    private long intervaloMs;
+
+    @Value("${desafio-tecnico.historico.prazo-encerramento-ms:30000}")
+    private long prazoEncerramentoMs;
+
+    private final ConcurrentLinkedQueue<ProjetoHistorico> fila = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger tamanho = new AtomicInteger();
+
+    // Pendentes que falharam sozinhos; ficam fora dos lotes até a reinicialização.
+    private final Set<Long> ignorados = ConcurrentHashMap.newKeySet();
+
+    // Há pendentes desta instância a transferir; sem isso, a tabela só é consultada com a fila ociosa.
+    // Começa verdadeiro para transferir o que sobrou da execução anterior.
+    private volatile boolean haPendentes = true;
+
+    // Transbordamentos chegam depois do commit da alteração, com a conexão dela ainda associada à thread.
+    private TransactionTemplate novaTransacao;
+
+    private Counter gravados;
+    private Counter transbordados;
+    private Counter descartados;
+    private Counter transferidos;
+    private Counter falhas;
+    private volatile Thread escritor;
+    private volatile boolean executando;
+
+    @PostConstruct
+    public void configurar() {
+        novaTransacao = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        novaTransacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        Gauge.builder("projetos.historico.fila", tamanho, AtomicInteger::get).register(meterRegistry);
+        gravados = Counter.builder("projetos.historico.gravados").register(meterRegistry);
+        transbordados = Counter.builder("projetos.historico.transbordados").register(meterRegistry);
+        descartados = Counter.builder("projetos.historico.descartados").register(meterRegistry);
+        transferidos = Counter.builder("projetos.historico.transferidos").register(meterRegistry);
+        falhas = Counter.builder("projetos.historico.falhas").register(meterRegistry);
+    }
+
+    @Override
+    public void registrar(Long projetoId, AcaoHistorico acao, ProjetoEstadoDTO anterior, ProjetoEstadoDTO atual) {
+        registrarTodos(List.of(ProjetoHistorico.de(projetoId, acao, anterior, atual)));
+    }
+
+    @Override
+    public void registrarTodos(List<ProjetoHistorico> historicos) {
+        if (historicos.isEmpty()) {
+            return;
+        }
+        if (capacidade == 0) {
+            gravarPendentes(historicos);
+            haPendentes = true;
+            aposCommit(this::acordar);
+        } else {
+            aposCommit(() -> enfileirar(historicos));
+        }
+    }
+
+    private static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+        } else {
+            acao.run();
+        }
+    }
+
+    private void enfileirar(List<ProjetoHistorico> historicos) {
+        long limite = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(esperaMs);
+        int enfileirados = 0;
+        while (enfileirados < historicos.size() && reservar(limite)) {
+            fila.add(historicos.get(enfileirados++));
+        }
+        acordar();
+        if (enfileirados < historicos.size()) {
+            transbordar(historicos.subList(enfileirados, historicos.size()));
+        }
+    }
+
+    // Reserva uma posição na fila, esperando até o limite enquanto ela estiver cheia.
+    private boolean reservar(long limite) {
+        while (true) {
+            int atual = tamanho.get();
+            if (atual < capacidade) {
+                if (tamanho.compareAndSet(atual, atual + 1)) {
+                    return true;
+                }
+                continue;
+            }
+            if (System.nanoTime() >= limite) {
+                return false;
+            }
+            acordar();
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+    }
+
+    private void transbordar(List<ProjetoHistorico> historicos) {
+        try {
+            novaTransacao.executeWithoutResult(status -> gravarPendentes(historicos));
+            transbordados.increment(historicos.size());
+            haPendentes = true;
+        } catch (DataAccessException e) {
+            descartados.increment(historicos.size());
+            log.error("{} registros de histórico descartados: fila cheia e falha ao gravá-los como pendentes",
+                    historicos.size(), e);
+        }
+    }
+
+    private void acordar() {
+        Thread thread = escritor;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void executar() {
+        long intervalo = TimeUnit.MILLISECONDS.toNanos(intervaloMs);
+        long espera = intervalo;
+        long proximaVerificacao = System.nanoTime();
+        List<ProjetoHistorico> lote = new ArrayList<>(tamanhoLote);
+        while (executando) {
+            try {
+                int quantidade = gravarFila(lote);
+                espera = intervalo;
+                if (quantidade == tamanhoLote) {
+                    continue;
+                }
+                // Os pendentes são consultados quando esta instância os gravou ou, no máximo, a cada intervalo.
+                int transferidosLote = 0;
+                if (haPendentes || System.nanoTime() - proximaVerificacao >= 0) {
+                    transferidosLote = transferirPendentes();
+                    proximaVerificacao = System.nanoTime() + intervalo;
+                }
+                if (quantidade == 0 && transferidosLote < tamanhoLote) {
+                    LockSupport.parkNanos(intervalo);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Falha ao gravar o histórico; nova tentativa em {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(espera), e);
+                LockSupport.parkNanos(espera);
+                espera = Math.min(espera * 2, ESPERA_MAXIMA_FALHA_NANOS);
+            }
+        }
+
+        // Encerramento: grava a fila e transfere os pendentes dentro do prazo; o que restar na fila vai
+        // para os pendentes, transferidos na inicialização seguinte.
+        long prazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(prazoEncerramentoMs);
+        try {
+            while (System.nanoTime() < prazo && gravarFila(lote) > 0) {
+                // Pode haver mais na fila.
+            }
+            while (System.nanoTime() < prazo && transferirPendentes() == tamanhoLote) {
+                // Lote cheio: pode haver mais pendentes.
+            }
+        } catch (DataAccessException e) {
+            log.warn("Histórico não gravado no encerramento", e);
+        }
+        retirarDaFila(lote, Integer.MAX_VALUE);
+        if (!lote.isEmpty()) {
+            transbordar(lote);
+        }
+    }
+
+    // Grava em projeto_historico o lote em mãos (de uma tentativa anterior que falhou) ou, se não houver,
+    // até tamanhoLote registros da fila. Retorna quantos foram gravados; em caso de falha o lote é mantido.
+    private int gravarFila(List<ProjetoHistorico> lote) {
+        if (lote.isEmpty()) {
+            retirarDaFila(lote, tamanhoLote);
+        }
+        if (lote.isEmpty()) {
+            return 0;
+        }
+        int quantidade = lote.size();
+        try {
+            transactionTemplate.executeWithoutResult(status -> inserir(INSERIR, lote));
+            gravados.increment(quantidade);
+            lote.clear();
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Lote de histórico rejeitado; gravando os registros um a um", e);
+            gravarUmAUm(lote);
+        }
+        return quantidade;
+    }
+
+    // Os rejeitados sozinhos vão para os pendentes, onde ficam para análise. Cada registro sai do lote
+    // assim que é gravado, para que uma nova tentativa após outra falha não o grave de novo.
+    private void gravarUmAUm(List<ProjetoHistorico> lote) {
+        Iterator<ProjetoHistorico> registros = lote.iterator();
+        while (registros.hasNext()) {
+            ProjetoHistorico historico = registros.next();
+            try {
+                transactionTemplate.executeWithoutResult(status -> inserir(INSERIR, List.of(historico)));
+                gravados.increment();
+            } catch (DataIntegrityViolationException e) {
+                transactionTemplate.executeWithoutResult(status -> gravarPendentes(List.of(historico)));
+                haPendentes = true;
+            }
+            registros.remove();
+        }
+    }
+
+    private void retirarDaFila(List<ProjetoHistorico> lote, int limite) {
+        ProjetoHistorico historico;
+        while (lote.size() < limite && (historico = fila.poll()) != null) {
+            lote.add(historico);
+            tamanho.decrementAndGet();
+        }
+    }
+
+    private void gravarPendentes(List<ProjetoHistorico> historicos) {
+        inserir(INSERIR_PENDENTE, historicos);
+    }
+
+    private void inserir(String sql, List<ProjetoHistorico> historicos) {
+        jdbcTemplate.batchUpdate(sql, historicos, historicos.size(), (ps, historico) -> {
+            ps.setLong(1, historico.getProjetoId());
+            ps.setString(2, historico.getAcao().name());
+            ps.setString(3, historico.getStatusAnterior() != null ? historico.getStatusAnterior().name() : null);
+            ps.setString(4, historico.getStatusNovo() != null ? historico.getStatusNovo().name() : null);
+            ps.setObject(5, historico.getVersao(), Types.BIGINT);
+            ps.setTimestamp(6, new Timestamp(historico.getDataHora().getTime()));
+        });
+    }
+
+    // Transfere até tamanhoLote pendentes e retorna quantos foram transferidos.
+    private int transferirPendentes() {
+        haPendentes = false;
+        int quantidade;
+        try {
+            quantidade = transferirLote();
+        } catch (RuntimeException e) {
+            haPendentes = true;
+            throw e;
+        }
+        if (quantidade == tamanhoLote) {
+            haPendentes = true;
+        }
+        return quantidade;
+    }
+
+    private int transferirLote() {
+        Long[] excluidos = ignorados.toArray(new Long[0]);
+        try {
+            int quantidade = transactionTemplate.execute(status -> {
+                List<Long> ids = jdbcTemplate.queryForList(SELECIONAR_PENDENTES, Long.class, excluidos, tamanhoLote);
+                return ids.isEmpty() ? 0 : transferir(ids);
+            });
+            transferidos.increment(quantidade);
+            return quantidade;
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Lote de histórico pendente rejeitado; transferindo os registros um a um", e);
+            return transferirUmAUm(excluidos);
+        }
+    }
+
+    private int transferirUmAUm(Long[] excluidos) {
+        int quantidade = 0;
+        for (Long id : jdbcTemplate.queryForList(SELECIONAR_PENDENTES.replace(" FOR UPDATE SKIP LOCKED", ""),
+                Long.class, excluidos, tamanhoLote)) {
+            try {
+                int transferido = transactionTemplate.execute(status -> transferir(List.of(id)));
+                transferidos.increment(transferido);
+                quantidade += transferido;
+            } catch (DataIntegrityViolationException e) {
+                ignorados.add(id);
+                falhas.increment();
+                log.error("Registro {} de projeto_historico_pendente rejeitado pelo histórico; permanece pendente", id, e);
+            }
+        }
+        return quantidade;
+    }
+
+    private int transferir(List<Long> ids) {
+        return jdbcTemplate.update(TRANSFERIR, (Object) ids.toArray(new Long[0]));
+    }
+
+    @Override
+    public void start() {
+        executando = true;
+        Thread thread = new Thread(this::executar, "historico-projetos");
+        thread.setDaemon(true);
+        escritor = thread;
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        executando = false;
+        Thread thread = escritor;
+        if (thread == null) {
+            return;
+        }
+        LockSupport.unpark(thread);
+        try {
+            thread.join(prazoEncerramentoMs + TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        escritor = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return executando;
+    }
+
+    @Override
+    public int getPhase() {
+        return FASE;
+    }
+
+}
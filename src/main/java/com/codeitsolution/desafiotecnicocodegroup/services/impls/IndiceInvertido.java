@@ -0,0 +1,330 @@
+package com.codeitsolution.desafiotecnicocodegroup.services.impls;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// Índice invertido em memória com ranqueamento BM25. Cada documento recebe um número interno
+// sequencial; as postagens de cada termo guardam (número - número anterior, frequência) em
+// varints, o que mantém as listas compactas e só permite acrescentar ao final. Por isso uma
+// alteração marca o documento antigo como removido e indexa uma nova cópia; as cópias mortas
+// são descartadas quando passam de um quarto do índice.
+// Não é thread-safe: o chamador controla o acesso.
+final class IndiceInvertido {
+
+    static final double K1 = 1.2;
+    static final double B = 0.75;
+
+    // Termos do nome contam em dobro na frequência, para que o título pese mais que a descrição.
+    static final int PESO_NOME = 2;
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Set<String> STOPWORDS = Set.of(
+            "a", "ao", "aos", "as", "com", "da", "das", "de", "do", "dos", "e", "em", "na", "nas",
+            "no", "nos", "o", "os", "ou", "para", "pela", "pelas", "pelo", "pelos", "por", "que",
+            "se", "um", "uma", "uns", "umas");
+
+    private final Map<String, Integer> vocabulario = new HashMap<>();
+    private final List<Postagens> postagens = new ArrayList<>();
+
+    // Dados por número interno de documento.
+    private long[] ids = new long[1024];
+    private String[] nomes = new String[1024];
+    private int[] comprimentos = new int[1024];
+    private int[][] termos = new int[1024][];
+    private int documentos;
+
+    private final Map<Long, Integer> documentoPorId = new HashMap<>();
+    private long comprimentoTotal;
+    private int removidos;
+
+    // Pontuação decrescente e, no empate, ID crescente.
+    static final Comparator<Resultado> ORDEM = Comparator.comparingDouble(Resultado::pontuacao).reversed()
+            .thenComparingLong(Resultado::id);
+
+    record Resultado(long id, String nome, double pontuacao) {
+    }
+
+    // Lugar do último resultado entregue na ordenação da busca; serve de cursor entre as páginas.
+    record Posicao(double pontuacao, long id) {
+
+        boolean antecede(Resultado resultado) {
+            return resultado.pontuacao() < pontuacao
+                    || (resultado.pontuacao() == pontuacao && resultado.id() > id);
+        }
+    }
+
+    // Minúsculas, sem acentos, divididas em letras e dígitos, sem palavras vazias do português.
+    static List<String> tokenizar(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        String normalizado = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> tokens = new ArrayList<>();
+        for (String token : SEPARADORES.split(normalizado)) {
+            if (!token.isEmpty() && !STOPWORDS.contains(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    int tamanho() {
+        return documentoPorId.size();
+    }
+
+    // Números internos em uso, incluindo as cópias removidas ainda não compactadas.
+    int documentosArmazenados() {
+        return documentos;
+    }
+
+    void indexar(long id, String nome, String descricao) {
+        remover(id);
+
+        Map<Integer, Integer> frequencias = new LinkedHashMap<>();
+        int comprimento = 0;
+        for (String token : tokenizar(nome)) {
+            frequencias.merge(termo(token), PESO_NOME, Integer::sum);
+            comprimento += PESO_NOME;
+        }
+        for (String token : tokenizar(descricao)) {
+            frequencias.merge(termo(token), 1, Integer::sum);
+            comprimento++;
+        }
+
+        int documento = novoDocumento(id, nome, comprimento);
+        int[] termosDoDocumento = new int[frequencias.size()];
+        int i = 0;
+        for (Map.Entry<Integer, Integer> frequencia : frequencias.entrySet()) {
+            postagens.get(frequencia.getKey()).acrescentar(documento, frequencia.getValue());
+            termosDoDocumento[i++] = frequencia.getKey();
+        }
+        termos[documento] = termosDoDocumento;
+    }
+
+    void remover(long id) {
+        Integer documento = documentoPorId.remove(id);
+        if (documento == null) {
+            return;
+        }
+        for (int termo : termos[documento]) {
+            postagens.get(termo).vivos--;
+        }
+        comprimentoTotal -= comprimentos[documento];
+        termos[documento] = null;
+        nomes[documento] = null;
+        removidos++;
+
+        if (removidos > 64 && removidos * 4 > documentos) {
+            compactar();
+        }
+    }
+
+    // Consulta com semântica OU: cada termo presente contribui com a sua parcela BM25.
+    // As listas dos termos são percorridas juntas, em ordem de documento, de modo que cada documento
+    // é pontuado de uma vez e só os "limite" melhores ficam em memória (heap com o pior no topo).
+    // Com "depoisDe", só entram os documentos que vêm depois dessa posição na ordenação
+    // (pontuação decrescente, ID crescente).
+    List<Resultado> buscar(String consulta, Posicao depoisDe, int limite) {
+        int vivos = documentoPorId.size();
+        if (vivos == 0 || limite <= 0) {
+            return List.of();
+        }
+        double comprimentoMedio = Math.max(1d, (double) comprimentoTotal / vivos);
+
+        List<Postagens.Leitor> leitores = new ArrayList<>();
+        List<Double> idfs = new ArrayList<>();
+        for (String token : tokenizar(consulta).stream().distinct().toList()) {
+            Integer termo = vocabulario.get(token);
+            if (termo == null || postagens.get(termo).vivos == 0) {
+                continue;
+            }
+            Postagens lista = postagens.get(termo);
+            Postagens.Leitor leitor = lista.leitor();
+            if (leitor.proximo()) {
+                leitores.add(leitor);
+                idfs.add(Math.log(1 + (vivos - lista.vivos + 0.5) / (lista.vivos + 0.5)));
+            }
+        }
+
+        PriorityQueue<Resultado> melhores = new PriorityQueue<>(limite + 1, ORDEM.reversed());
+        while (!leitores.isEmpty()) {
+            int documento = Integer.MAX_VALUE;
+            for (Postagens.Leitor leitor : leitores) {
+                documento = Math.min(documento, leitor.documento);
+            }
+
+            double pontuacao = 0d;
+            double normalizacao = K1 * (1 - B + B * comprimentos[documento] / comprimentoMedio);
+            for (int i = leitores.size() - 1; i >= 0; i--) {
+                Postagens.Leitor leitor = leitores.get(i);
+                if (leitor.documento != documento) {
+                    continue;
+                }
+                double tf = leitor.frequencia;
+                pontuacao += idfs.get(i) * tf * (K1 + 1) / (tf + normalizacao);
+                if (!leitor.proximo()) {
+                    leitores.remove(i);
+                    idfs.remove(i);
+                }
+            }
+
+            if (termos[documento] == null) {
+                continue;
+            }
+            Resultado resultado = new Resultado(ids[documento], nomes[documento], pontuacao);
+            if (depoisDe != null && !depoisDe.antecede(resultado)) {
+                continue;
+            }
+            if (melhores.size() < limite) {
+                melhores.add(resultado);
+            } else if (ORDEM.compare(resultado, melhores.peek()) < 0) {
+                melhores.poll();
+                melhores.add(resultado);
+            }
+        }
+
+        List<Resultado> resultados = new ArrayList<>(melhores);
+        resultados.sort(ORDEM);
+        return resultados;
+    }
+
+    private int termo(String token) {
+        return vocabulario.computeIfAbsent(token, t -> {
+            postagens.add(new Postagens());
+            return postagens.size() - 1;
+        });
+    }
+
+    private int novoDocumento(long id, String nome, int comprimento) {
+        if (documentos == ids.length) {
+            int capacidade = documentos * 2;
+            ids = Arrays.copyOf(ids, capacidade);
+            nomes = Arrays.copyOf(nomes, capacidade);
+            comprimentos = Arrays.copyOf(comprimentos, capacidade);
+            termos = Arrays.copyOf(termos, capacidade);
+        }
+        int documento = documentos++;
+        ids[documento] = id;
+        nomes[documento] = nome;
+        comprimentos[documento] = comprimento;
+        documentoPorId.put(id, documento);
+        comprimentoTotal += comprimento;
+        return documento;
+    }
+
+    // Renumera os documentos vivos em sequência e regrava as postagens sem os removidos.
+    private void compactar() {
+        int[] novoNumero = new int[documentos];
+        int vivos = 0;
+        for (int documento = 0; documento < documentos; documento++) {
+            if (termos[documento] == null) {
+                novoNumero[documento] = -1;
+                continue;
+            }
+            novoNumero[documento] = vivos;
+            ids[vivos] = ids[documento];
+            nomes[vivos] = nomes[documento];
+            comprimentos[vivos] = comprimentos[documento];
+            termos[vivos] = termos[documento];
+            vivos++;
+        }
+        Arrays.fill(nomes, vivos, documentos, null);
+        Arrays.fill(termos, vivos, documentos, null);
+
+        for (int i = 0; i < postagens.size(); i++) {
+            Postagens antiga = postagens.get(i);
+            Postagens nova = new Postagens();
+            Postagens.Leitor leitor = antiga.leitor();
+            while (leitor.proximo()) {
+                int documento = novoNumero[leitor.documento];
+                if (documento >= 0) {
+                    nova.acrescentar(documento, leitor.frequencia);
+                }
+            }
+            postagens.set(i, nova);
+        }
+
+        documentoPorId.clear();
+        for (int documento = 0; documento < vivos; documento++) {
+            documentoPorId.put(ids[documento], documento);
+        }
+        documentos = vivos;
+        removidos = 0;
+    }
+
+    // Lista de postagens de um termo: pares (diferença para o documento anterior, frequência)
+    // codificados como varints de 7 bits.
+    static final class Postagens {
+
+        private byte[] dados = new byte[8];
+        private int bytes;
+        private int ultimoDocumento = -1;
+        private int vivos;
+
+        void acrescentar(int documento, int frequencia) {
+            escrever(documento - ultimoDocumento);
+            escrever(frequencia);
+            ultimoDocumento = documento;
+            vivos++;
+        }
+
+        Leitor leitor() {
+            return new Leitor();
+        }
+
+        int tamanhoEmBytes() {
+            return bytes;
+        }
+
+        private void escrever(int valor) {
+            if (bytes + 5 > dados.length) {
+                dados = Arrays.copyOf(dados, Math.max(dados.length * 2, bytes + 5));
+            }
+            while ((valor & ~0x7F) != 0) {
+                dados[bytes++] = (byte) ((valor & 0x7F) | 0x80);
+                valor >>>= 7;
+            }
+            dados[bytes++] = (byte) valor;
+        }
+
+        final class Leitor {
+            private int posicao;
+            int documento = -1;
+            int frequencia;
+
+            boolean proximo() {
+                if (posicao >= bytes) {
+                    return false;
+                }
+                documento += ler();
+                frequencia = ler();
+                return true;
+            }
+
+            private int ler() {
+                int valor = 0;
+                int deslocamento = 0;
+                byte b;
+                do {
+                    b = dados[posicao++];
+                    valor |= (b & 0x7F) << deslocamento;
+                    deslocamento += 7;
+                } while ((b & 0x80) != 0);
+                return valor;
+            }
+        }
+    }
+
+}
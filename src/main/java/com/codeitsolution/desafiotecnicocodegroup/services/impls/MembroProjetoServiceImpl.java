@@ -1,13 +1,36 @@
 package com.codeitsolution.desafiotecnicocodegroup.services.impls;
 
+import com.codeitsolution.desafiotecnicocodegroup.MetricasConfig;
 import com.codeitsolution.desafiotecnicocodegroup.entities.MembroProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MembroResumoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.PaginaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoResumoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoMembroDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.ResultadoAssociacao;
 import com.codeitsolution.desafiotecnicocodegroup.repositories.MembroProjetoRepository;
 import com.codeitsolution.desafiotecnicocodegroup.services.MembroProjetoService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 @Service
+@Timed(value = MetricasConfig.TEMPO_SERVICOS, histogram = true)
 public class MembroProjetoServiceImpl implements MembroProjetoService {
+
+    // Mesmo valor filtrado em MembroProjetoRepository#associarFuncionarios.
+    private static final String ATRIBUICAO_FUNCIONARIO = "funcionario";
+
     @Autowired
     private MembroProjetoRepository membroProjetoRepository;
 
@@ -17,5 +40,79 @@ public class MembroProjetoServiceImpl implements MembroProjetoService {
         return membroProjetoRepository.save(membroProjeto);
     }
 
-}
+    // A chamada a adicionarMembros é interna e não passa pelo proxy; a transação precisa ser aberta aqui.
+    @Override
+    @Transactional
+    public ResultadoMembroDTO adicionarMembro(Long projetoId, Long pessoaId) {
+        return adicionarMembros(projetoId, List.of(pessoaId)).get(0);
+    }
+
+    // A associação é um único comando que já valida o projeto e a atribuição no banco, sem carregar
+    // entidades, e devolve a atribuição de cada pessoa encontrada. Um funcionário encontrado e não
+    // associado em um projeto existente só pode ter esbarrado na restrição única: já é membro.
+    @Override
+    @Transactional
+    public List<ResultadoMembroDTO> adicionarMembros(Long projetoId, List<Long> pessoaIds) {
+        Set<Long> solicitados = new LinkedHashSet<>();
+        pessoaIds.stream().filter(Objects::nonNull).forEach(solicitados::add);
+
+        Set<Long> adicionados = new HashSet<>();
+        Map<Long, String> atribuicoes = new HashMap<>();
+        if (!solicitados.isEmpty()) {
+            boolean projetoExiste = false;
+            for (Object[] linha : membroProjetoRepository.associarFuncionarios(projetoId, solicitados)) {
+                projetoExiste = (Boolean) linha[3];
+                if (linha[0] == null) {
+                    continue;
+                }
+                Long pessoaId = ((Number) linha[0]).longValue();
+                atribuicoes.put(pessoaId, (String) linha[1]);
+                if ((Boolean) linha[2]) {
+                    adicionados.add(pessoaId);
+                }
+            }
+            if (!projetoExiste) {
+                throw new IllegalArgumentException("Projeto não encontrado");
+            }
+        }
+
+        List<ResultadoMembroDTO> resultados = new ArrayList<>(pessoaIds.size());
+        Set<Long> processados = new HashSet<>();
 
+        for (Long pessoaId : pessoaIds) {
+            if (!processados.add(pessoaId)) {
+                resultados.add(new ResultadoMembroDTO(pessoaId, ResultadoAssociacao.DUPLICADO, "Pessoa repetida na requisição"));
+            } else if (adicionados.contains(pessoaId)) {
+                resultados.add(new ResultadoMembroDTO(pessoaId, ResultadoAssociacao.ADICIONADO, null));
+            } else if (!atribuicoes.containsKey(pessoaId)) {
+                resultados.add(new ResultadoMembroDTO(pessoaId, ResultadoAssociacao.PESSOA_NAO_ENCONTRADA, "Pessoa não encontrada com ID: " + pessoaId));
+            } else if (!ATRIBUICAO_FUNCIONARIO.equals(atribuicoes.get(pessoaId))) {
+                resultados.add(new ResultadoMembroDTO(pessoaId, ResultadoAssociacao.NAO_FUNCIONARIO, "A pessoa deve ter atribuição de funcionário"));
+            } else {
+                resultados.add(new ResultadoMembroDTO(pessoaId, ResultadoAssociacao.JA_MEMBRO, "A pessoa já é membro do projeto"));
+            }
+        }
+
+        return resultados;
+    }
+
+    // Listagens por cursor com projeções: nem a pessoa nem o projeto (e seu gerente) são carregados.
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDTO<MembroResumoDTO> findMembros(Long projetoId, String cursor, Integer tamanho) {
+        int limite = CursorPaginacao.limitar(tamanho);
+        List<MembroResumoDTO> membros = membroProjetoRepository.findMembros(
+                projetoId, CursorPaginacao.decodificar(cursor), PageRequest.of(0, limite + 1));
+        return CursorPaginacao.paginar(membros, limite, MembroResumoDTO::getId);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PaginaDTO<ProjetoResumoDTO> findProjetos(Long pessoaId, String cursor, Integer tamanho) {
+        int limite = CursorPaginacao.limitar(tamanho);
+        List<ProjetoResumoDTO> projetos = membroProjetoRepository.findProjetos(
+                pessoaId, CursorPaginacao.decodificar(cursor), PageRequest.of(0, limite + 1));
+        return CursorPaginacao.paginar(projetos, limite, ProjetoResumoDTO::getId);
+    }
+
+}
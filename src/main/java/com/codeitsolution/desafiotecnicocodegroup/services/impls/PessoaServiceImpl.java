@@ -1,27 +1,182 @@
 package com.codeitsolution.desafiotecnicocodegroup.services.impls;
 
+import com.codeitsolution.desafiotecnicocodegroup.MetricasConfig;
 import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ImportacaoResumoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.RegistroRejeitadoDTO;
 import com.codeitsolution.desafiotecnicocodegroup.repositories.PessoaRepository;
 import com.codeitsolution.desafiotecnicocodegroup.services.PessoaService;
+import com.codeitsolution.desafiotecnicocodegroup.services.RespostaProjetoService;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 @Service
+@Timed(value = MetricasConfig.TEMPO_SERVICOS, histogram = true)
 public class PessoaServiceImpl implements PessoaService {
 
+    // Quantidade de rejeições detalhadas no resumo da importação.
+    private static final int MAXIMO_REJEICOES_DETALHADAS = 100;
+
     @Autowired
     private PessoaRepository pessoaRepository;
 
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private RespostaProjetoService respostaProjetoService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${desafio-tecnico.importacao.tamanho-lote:500}")
+    private int tamanhoLote;
+
     // O sistema não deve permitir o cadastro de um novo membro diretamente.
     // Deve ser provida funcionalidade via web service, contendo nome e atribuição (cargo).
+    // O cache de segundo nível de Pessoa é atualizado pelo próprio Hibernate. Já os projetos em
+    // cache trazem uma cópia do gerente, por isso a alteração de uma pessoa existente os descarta,
+    // assim como o JSON já serializado dos projetos. Os dois são descartados só depois do commit e
+    // nessa ordem: descartado antes, o JSON poderia ser gerado de novo a partir do projeto ainda em
+    // cache, e a versão do projeto, que identifica o JSON, não muda com a alteração do gerente.
     @Override
+    @Transactional
     public Pessoa save(Pessoa pessoa) {
-        return pessoaRepository.save(pessoa);
+        boolean existente = pessoa.getId() != null;
+        Pessoa salva = pessoaRepository.save(pessoa);
+        if (existente) {
+            ProjetoServiceImpl.aposCommit(() -> {
+                Cache projetos = cacheManager.getCache(ProjetoServiceImpl.CACHE_PROJETOS);
+                if (projetos != null) {
+                    projetos.clear();
+                }
+                respostaProjetoService.invalidarTodos();
+            });
+        }
+        return salva;
     }
 
+    // Importa pessoas de um array JSON ou de um corpo NDJSON lendo um registro por vez.
+    // Cada lote de "tamanhoLote" registros válidos é gravado em sua própria transação,
+    // de forma que nem o corpo nem o contexto de persistência crescem com o volume enviado.
     @Override
-    public Pessoa findById(Long pessoaId) {
+    public ImportacaoResumoDTO importar(InputStream corpo) throws IOException {
+        ImportacaoResumoDTO resumo = new ImportacaoResumoDTO();
+        List<Pessoa> lote = new ArrayList<>(tamanhoLote);
+        long registro = 0;
+
+        try (MappingIterator<Pessoa> pessoas = objectMapper.readerFor(Pessoa.class).readValues(corpo)) {
+            while (pessoas.hasNextValue()) {
+                registro++;
+                Pessoa pessoa;
+                try {
+                    pessoa = pessoas.nextValue();
+                } catch (JsonParseException e) {
+                    // JSON malformado: não é possível localizar o próximo registro com segurança.
+                    rejeitar(resumo, registro, "JSON inválido: " + e.getOriginalMessage());
+                    break;
+                } catch (JsonMappingException e) {
+                    rejeitar(resumo, registro, "Registro inválido: " + e.getOriginalMessage());
+                    continue;
+                }
+
+                String motivo = validar(pessoa);
+                if (motivo != null) {
+                    rejeitar(resumo, registro, motivo);
+                    continue;
+                }
+
+                pessoa.setId(null);
+                lote.add(pessoa);
+                if (lote.size() >= tamanhoLote) {
+                    gravarLote(lote, registro, resumo);
+                }
+            }
+        } catch (JsonParseException e) {
+            rejeitar(resumo, registro, "JSON inválido: " + e.getOriginalMessage());
+        }
+
+        if (!lote.isEmpty()) {
+            gravarLote(lote, registro, resumo);
+        }
+        return resumo;
+    }
+
+    private void gravarLote(List<Pessoa> lote, long ultimoRegistro, ImportacaoResumoDTO resumo) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                pessoaRepository.saveAll(lote);
+                entityManager.flush();
+                entityManager.clear();
+            });
+            resumo.setAceitos(resumo.getAceitos() + lote.size());
+        } catch (DataAccessException e) {
+            resumo.setRejeitados(resumo.getRejeitados() + lote.size());
+            if (resumo.getRejeicoes().size() < MAXIMO_REJEICOES_DETALHADAS) {
+                resumo.getRejeicoes().add(new RegistroRejeitadoDTO(ultimoRegistro,
+                        "Falha ao gravar o lote de " + lote.size() + " registros encerrado neste registro: " + e.getMostSpecificCause().getMessage()));
+            }
+        }
+        lote.clear();
+    }
+
+    private static String validar(Pessoa pessoa) {
+        if (pessoa == null) {
+            return "Registro vazio";
+        }
+        if (pessoa.getNome() == null || pessoa.getNome().isBlank()) {
+            return "Nome é obrigatório";
+        }
+        if (pessoa.getAtribuicao() == null || pessoa.getAtribuicao().isBlank()) {
+            return "Atribuição é obrigatória";
+        }
+        if (pessoa.getNome().length() > 100) {
+            return "Nome excede 100 caracteres";
+        }
+        if (pessoa.getAtribuicao().length() > 100) {
+            return "Atribuição excede 100 caracteres";
+        }
+        if (pessoa.getCpf() != null && pessoa.getCpf().length() > 14) {
+            return "CPF excede 14 caracteres";
+        }
         return null;
     }
 
+    private static void rejeitar(ImportacaoResumoDTO resumo, long registro, String motivo) {
+        resumo.setRejeitados(resumo.getRejeitados() + 1);
+        if (resumo.getRejeicoes().size() < MAXIMO_REJEICOES_DETALHADAS) {
+            resumo.getRejeicoes().add(new RegistroRejeitadoDTO(registro, motivo));
+        }
+    }
+
+    // Servido pelo cache de segundo nível quando a pessoa já foi carregada.
+    @Override
+    @Transactional(readOnly = true)
+    public Pessoa findById(Long pessoaId) {
+        return pessoaRepository.findById(pessoaId).orElse(null);
+    }
+
 }
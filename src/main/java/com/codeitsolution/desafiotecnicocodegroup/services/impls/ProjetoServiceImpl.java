@@ -1,30 +1,283 @@
 package com.codeitsolution.desafiotecnicocodegroup.services.impls;
 
+import com.codeitsolution.desafiotecnicocodegroup.MetricasConfig;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
 import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.ProjetoHistorico;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.PaginaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoFiltroDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoMudancaStatusDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.AcaoHistorico;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.FormatoExportacao;
 import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
 import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
 import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.BuscaProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.EstatisticaProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.EventoProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.HistoricoProjetoService;
 import com.codeitsolution.desafiotecnicocodegroup.services.ProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.RespostaProjetoService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityNotFoundException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Service
+@Timed(value = MetricasConfig.TEMPO_SERVICOS, histogram = true)
 public class ProjetoServiceImpl implements ProjetoService {
+    // Caches locais das consultas por ID (limites e expiração em spring.cache.caffeine.spec).
+    public static final String CACHE_PROJETOS = "projetos";
+
+    // Quantidade de linhas escritas entre cada envio parcial da exportação.
+    private static final int LINHAS_POR_ENVIO = 500;
+
+    // Iniciado e os status que só são alcançados a partir dele (ver TransicoesStatus). Um projeto que
+    // entra em qualquer um deles fica marcado como iniciado e não pode mais ser excluído, nem depois de cancelado.
+    private static final Set<StatusProjeto> STATUS_SEM_EXCLUSAO = EnumSet.of(StatusProjeto.INICIADO,
+            StatusProjeto.PLANEJADO, StatusProjeto.EM_ANDAMENTO, StatusProjeto.ENCERRADO);
+
     @Autowired
     private ProjetoRepository projetoRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EstatisticaProjetoService estatisticaProjetoService;
+
+    @Autowired
+    private BuscaProjetoService buscaProjetoService;
+
+    @Autowired
+    private HistoricoProjetoService historicoProjetoService;
+
+    @Autowired
+    private EventoProjetoService eventoProjetoService;
+
+    @Autowired
+    private RespostaProjetoService respostaProjetoService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Transactional(readOnly = true)
     public List<Projeto> findAll() {
         return projetoRepository.findAll();
     }
 
+    // Listagem paginada por cursor: o custo de cada página não depende do tamanho da tabela.
+    @Transactional(readOnly = true)
+    public PaginaDTO<Projeto> findPagina(String cursor, Integer tamanho, ProjetoFiltroDTO filtro) {
+        ProjetoFiltroDTO criterios = filtro != null ? filtro : new ProjetoFiltroDTO();
+        int limite = CursorPaginacao.limitar(tamanho);
+
+        List<Projeto> projetos = projetoRepository.findPagina(
+                CursorPaginacao.decodificar(cursor),
+                criterios.getStatus(),
+                criterios.getRisco(),
+                criterios.getGerenteId(),
+                criterios.getDataInicioDe(),
+                criterios.getDataInicioAte(),
+                PageRequest.of(0, limite + 1));
+
+        return CursorPaginacao.paginar(projetos, limite, Projeto::getId);
+    }
+
+    public Long decodificarCursor(String cursor) {
+        return CursorPaginacao.decodificar(cursor);
+    }
+
+    // Exporta todos os projetos lendo-os por cursor do banco e escrevendo linha a linha,
+    // sem acumular a tabela em memória. Cada projeto é desanexado assim que escrito.
+    @Transactional(readOnly = true)
+    public void exportar(FormatoExportacao formato, OutputStream saida) throws IOException {
+        try (Stream<Projeto> projetos = projetoRepository.streamAll()) {
+            if (formato == FormatoExportacao.CSV) {
+                exportarCsv(projetos.iterator(), saida);
+            } else {
+                exportarNdjson(projetos.iterator(), saida);
+            }
+        }
+    }
+
+    private void exportarNdjson(Iterator<Projeto> projetos, OutputStream saida) throws IOException {
+        ObjectWriter escritor = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        JsonGenerator gerador = objectMapper.getFactory().createGenerator(saida);
+        gerador.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        gerador.setRootValueSeparator(null);
+
+        int linhas = 0;
+        while (projetos.hasNext()) {
+            Projeto projeto = projetos.next();
+            escritor.writeValue(gerador, projeto);
+            gerador.writeRaw('\n');
+            entityManager.detach(projeto);
+
+            if (++linhas % LINHAS_POR_ENVIO == 0) {
+                gerador.flush();
+            }
+        }
+        gerador.flush();
+    }
+
+    private void exportarCsv(Iterator<Projeto> projetos, OutputStream saida) throws IOException {
+        Writer escritor = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+        escritor.write("id,nome,dataInicio,dataPrevisaoFim,dataFim,orcamento,risco,status,idGerente,descricao\n");
+
+        int linhas = 0;
+        while (projetos.hasNext()) {
+            Projeto projeto = projetos.next();
+            escritor.write(String.valueOf(projeto.getId()));
+            escritor.write(',');
+            escritor.write(campoCsv(projeto.getNome()));
+            escritor.write(',');
+            escritor.write(campoCsv(projeto.getDataInicio()));
+            escritor.write(',');
+            escritor.write(campoCsv(projeto.getDataPrevisaoFim()));
+            escritor.write(',');
+            escritor.write(campoCsv(projeto.getDataFim()));
+            escritor.write(',');
+            escritor.write(campoCsv(projeto.getOrcamento()));
+            escritor.write(',');
+            escritor.write(campoCsv(projeto.getRisco()));
+            escritor.write(',');
+            escritor.write(campoCsv(projeto.getStatus()));
+            escritor.write(',');
+            escritor.write(campoCsv(projeto.getGerente() != null ? projeto.getGerente().getId() : null));
+            escritor.write(',');
+            escritor.write(campoCsv(projeto.getDescricao()));
+            escritor.write('\n');
+            entityManager.detach(projeto);
+
+            if (++linhas % LINHAS_POR_ENVIO == 0) {
+                escritor.flush();
+            }
+        }
+        escritor.flush();
+    }
+
+    private static String campoCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String texto = valor instanceof Date data
+                ? Instant.ofEpochMilli(data.getTime()).toString()
+                : valor.toString();
+        if (texto.indexOf(',') < 0 && texto.indexOf('"') < 0 && texto.indexOf('\n') < 0 && texto.indexOf('\r') < 0) {
+            return texto;
+        }
+        return '"' + texto.replace("\"", "\"\"") + '"';
+    }
+
+    // A entidade fica no cache já desanexada e é devolvida a todos os chamadores sem cópia; ninguém
+    // deve alterá-la (ver ProjetoService#findById). As gravações substituem a entrada ao descartá-la.
+    // Só leituras do primário entram no cache (ver RoteamentoDataSource#leuDaReplica()).
+    @Cacheable(cacheNames = CACHE_PROJETOS, key = "#id",
+            unless = "#result == null || T(com.codeitsolution.desafiotecnicocodegroup.RoteamentoDataSource).leuDaReplica()")
+    @Transactional(readOnly = true)
     public Projeto findById(Long id) {
         return projetoRepository.findById(id).orElse(null);
     }
 
+    @CacheEvict(cacheNames = CACHE_PROJETOS, key = "#result.id")
+    @Transactional
     public Projeto save(Projeto projeto) {
-        return projetoRepository.save(projeto);
+        projeto.setRisco(projeto.getOrcamento() != null ? determinarRisco(projeto) : null);
+        projeto.setGerente(buscarGerente(projeto.getGerente()));
+        projeto.setIniciado(STATUS_SEM_EXCLUSAO.contains(projeto.getStatus()));
+        if (projeto.getId() != null) {
+            return atualizar(projeto);
+        }
+
+        projeto.setVersao(null);
+        if (projeto.getStatus() == null) {
+            projeto.setStatus(StatusProjeto.EM_ANALISE);
+        }
+        Projeto salvo = projetoRepository.save(projeto);
+        ProjetoEstadoDTO estado = estadoDe(salvo);
+        historicoProjetoService.registrar(salvo.getId(), AcaoHistorico.CRIADO, null, estado);
+        eventoProjetoService.publicar(salvo.getId(), AcaoHistorico.CRIADO, estado);
+        aposCommit(() -> {
+            estatisticaProjetoService.registrar(null, estado);
+            buscaProjetoService.indexar(salvo.getId(), salvo.getNome(), salvo.getDescricao());
+        });
+        return salvo;
+    }
+
+    // A atualização é um único UPDATE condicionado à versão (quando informada); o banco só é
+    // consultado novamente se nenhuma linha for afetada, para diferenciar projeto inexistente de versão desatualizada.
+    // O projeto retornado é relido do banco, para refletir o que foi gravado e não o corpo recebido.
+    private Projeto atualizar(Projeto projeto) {
+        ProjetoEstadoDTO anterior = projetoRepository.atualizar(projeto).orElse(null);
+        if (anterior == null) {
+            projetoRepository.findEstadoById(projeto.getId())
+                    .orElseThrow(() -> new IllegalArgumentException("Projeto não encontrado"));
+            throw new ObjectOptimisticLockingFailureException(Projeto.class, projeto.getId());
+        }
+
+        Projeto atualizado = projetoRepository.findById(projeto.getId())
+                .orElseThrow(() -> new IllegalArgumentException("Projeto não encontrado"));
+        ProjetoEstadoDTO estado = estadoDe(atualizado);
+        String nome = atualizado.getNome();
+        String descricao = atualizado.getDescricao();
+        historicoProjetoService.registrar(atualizado.getId(), AcaoHistorico.ATUALIZADO, anterior, estado);
+        eventoProjetoService.publicar(atualizado.getId(), AcaoHistorico.ATUALIZADO, estado);
+        aposCommit(() -> {
+            respostaProjetoService.invalidar(atualizado.getId());
+            estatisticaProjetoService.registrar(anterior, estado);
+            buscaProjetoService.indexar(atualizado.getId(), nome, descricao);
+        });
+        return atualizado;
+    }
+
+    // O gerente chega como referência ({"id": ...}); sem esta verificação, um ID inexistente só seria
+    // percebido pela chave estrangeira, como erro genérico. A busca usa o cache de segundo nível de Pessoa.
+    private Pessoa buscarGerente(Pessoa referencia) {
+        if (referencia == null || referencia.getId() == null) {
+            throw new EntityNotFoundException("Gerente não informado");
+        }
+        Pessoa gerente = entityManager.find(Pessoa.class, referencia.getId());
+        if (gerente == null) {
+            throw new EntityNotFoundException("Gerente não encontrado");
+        }
+        return gerente;
     }
 
     // Os projetos devem ser classificados em: baixo risco, médio risco e alto risco.
@@ -43,35 +296,113 @@ public class ProjetoServiceImpl implements ProjetoService {
     // Os status possíveis não são cadastrados no sistema e são: em análise,
     // análise realizada, análise aprovada, iniciado, planejado, em andamento,
     // encerrado, cancelado.
-    public Projeto mudarStatus(Long id, StatusProjeto novoStatus) {
-        Projeto projeto = projetoRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("Projeto não encontrado"));
-
-        // Exemplo de validação de transição de status
-        if (novoStatus == StatusProjeto.INICIADO && projeto.getStatus() != StatusProjeto.ANALISE_APROVADA) {
-            throw new IllegalStateException("O projeto deve estar em 'Análise Aprovada' para ser iniciado");
+    // As transições permitidas estão em TransicoesStatus; o banco só é consultado novamente
+    // quando a transição é rejeitada, para diferenciar projeto inexistente de transição inválida.
+    @Transactional
+    public void mudarStatus(Long id, StatusProjeto novoStatus) {
+        ResultadoMudancaStatusDTO resultado = mudarStatusEmLote(List.of(id), novoStatus);
+        if (resultado.getRejeitados().isEmpty()) {
+            return;
         }
 
-        projeto.setStatus(novoStatus);
-        return projetoRepository.save(projeto);
+        ProjetoEstadoDTO atual = projetoRepository.findEstadoById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Projeto não encontrado"));
+        throw new IllegalStateException("Transição de '" + atual.getStatus() + "' para '" + novoStatus + "' não permitida");
     }
 
-    // Se um projeto foi mudado o status para iniciado, em andamento ou encerrado não pode mais ser excluído
-    public void delete(Long id) {
-        Projeto projeto = projetoRepository.findById(id).orElseThrow(() -> new IllegalArgumentException("Projeto não encontrado"));
+    // Aplica a transição a todos os IDs com um único UPDATE condicionado aos status predecessores,
+    // sem carregar as entidades. O histórico de todo o lote é gravado com um único batch na mesma transação.
+    @Transactional
+    public ResultadoMudancaStatusDTO mudarStatusEmLote(List<Long> ids, StatusProjeto novoStatus) {
+        Set<Long> solicitados = new LinkedHashSet<>();
+        ids.stream().filter(Objects::nonNull).forEach(solicitados::add);
+        List<String> predecessores = TransicoesStatus.predecessores(novoStatus).stream().map(Enum::name).toList();
+
+        List<Long> alterados = new ArrayList<>();
+        if (!solicitados.isEmpty() && !predecessores.isEmpty()) {
+            List<ProjetoHistorico> historicos = new ArrayList<>();
+            List<ProjetoEstadoDTO[]> transicoes = new ArrayList<>();
+            for (Object[] linha : projetoRepository.mudarStatusSePermitido(solicitados, novoStatus.name(), predecessores,
+                    STATUS_SEM_EXCLUSAO.contains(novoStatus))) {
+                Long id = ((Number) linha[0]).longValue();
+                StatusProjeto anterior = StatusProjeto.valueOf((String) linha[1]);
+                Long versao = ((Number) linha[2]).longValue();
+
+                alterados.add(id);
+                ProjetoEstadoDTO estadoAnterior = new ProjetoEstadoDTO(anterior, null, null, null);
+                ProjetoEstadoDTO estadoNovo = new ProjetoEstadoDTO(novoStatus, null, null, versao);
+                transicoes.add(new ProjetoEstadoDTO[] { estadoAnterior, estadoNovo });
+                historicos.add(ProjetoHistorico.de(id, AcaoHistorico.STATUS_ALTERADO, estadoAnterior, estadoNovo));
+                eventoProjetoService.publicar(id, AcaoHistorico.STATUS_ALTERADO, estadoNovo);
+            }
+            historicoProjetoService.registrarTodos(historicos);
+
+            aposCommit(() -> {
+                Cache cache = cacheManager.getCache(CACHE_PROJETOS);
+                for (int i = 0; i < alterados.size(); i++) {
+                    estatisticaProjetoService.registrar(transicoes.get(i)[0], transicoes.get(i)[1]);
+                    if (cache != null) {
+                        cache.evict(alterados.get(i));
+                    }
+                    respostaProjetoService.invalidar(alterados.get(i));
+                }
+            });
+        }
+
+        Set<Long> confirmados = new HashSet<>(alterados);
+        List<Long> rejeitados = solicitados.stream().filter(id -> !confirmados.contains(id)).toList();
+        return new ResultadoMudancaStatusDTO(alterados, rejeitados);
+    }
 
-        if (projeto.getStatus() == StatusProjeto.INICIADO
-                || projeto.getStatus() == StatusProjeto.EM_ANDAMENTO
-                || projeto.getStatus() == StatusProjeto.ENCERRADO) {
-            throw new IllegalStateException("O projeto não pode ser excluído quando o status é Iniciado, Em Andamento ou Encerrado");
+    // Se um projeto foi mudado o status para iniciado, em andamento ou encerrado não pode mais ser excluído.
+    // O mesmo vale para planejado e para um projeto cancelado depois de iniciado (Projeto#iniciado).
+    // A regra vai no próprio DELETE; sem linha excluída, uma leitura identifica o motivo.
+    @CacheEvict(cacheNames = CACHE_PROJETOS, key = "#id")
+    @Transactional
+    public void delete(Long id, Long versaoEsperada) {
+        ProjetoEstadoDTO excluido = projetoRepository.excluirSePermitido(id, versaoEsperada, STATUS_SEM_EXCLUSAO).orElse(null);
+        if (excluido != null) {
+            historicoProjetoService.registrar(id, AcaoHistorico.EXCLUIDO, excluido, null);
+            eventoProjetoService.publicar(id, AcaoHistorico.EXCLUIDO, excluido);
+            aposCommit(() -> {
+                estatisticaProjetoService.registrar(excluido, null);
+                buscaProjetoService.remover(id);
+                respostaProjetoService.invalidar(id);
+            });
+            return;
         }
 
-        projetoRepository.deleteById(id);
+        Projeto atual = projetoRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Projeto não encontrado"));
+        if (STATUS_SEM_EXCLUSAO.contains(atual.getStatus()) || Boolean.TRUE.equals(atual.getIniciado())) {
+            throw new IllegalStateException("O projeto não pode ser excluído depois de iniciado");
+        }
+        throw new ObjectOptimisticLockingFailureException(Projeto.class, id);
     }
 
+    @Transactional(readOnly = true)
     public boolean existsById(Long id) {
         return projetoRepository.existsById(id);
     }
 
+    private static ProjetoEstadoDTO estadoDe(Projeto projeto) {
+        return new ProjetoEstadoDTO(projeto.getStatus(), projeto.getRisco(), projeto.getOrcamento(), projeto.getVersao());
+    }
+
+    // Estruturas em memória (estatísticas, índice de busca, caches) só refletem a alteração depois
+    // do commit, para que um rollback não as deixe divergentes do banco.
+    static void aposCommit(Runnable acao) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    acao.run();
+                }
+            });
+            return;
+        }
+        acao.run();
+    }
 
 }
 
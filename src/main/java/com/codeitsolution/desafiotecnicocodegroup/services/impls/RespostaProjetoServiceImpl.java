@@ -0,0 +1,118 @@
+package com.codeitsolution.desafiotecnicocodegroup.services.impls;
+
+import com.codeitsolution.desafiotecnicocodegroup.RoteamentoDataSource;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.services.RespostaProjetoService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+// Corpos de GET /projetos/{id} já serializados, para que o Jackson não percorra de novo o projeto,
+// o gerente e a descrição a cada consulta. Cada entrada guarda a versão de onde foi gerada: um
+// projeto em outra versão é serializado outra vez e substitui a entrada, que também é descartada
+// pelas gravações em ProjetoServiceImpl. Como a alteração do gerente não muda a versão do projeto,
+// um JSON gerado a partir de um projeto lido antes dessa alteração poderia ficar indefinidamente;
+// por isso toda entrada expira após desafio-tecnico.respostas.expira-apos-ms.
+// O total é limitado em bytes (desafio-tecnico.respostas.tamanho-maximo-bytes). Com
+// desafio-tecnico.respostas.fora-do-heap=true os corpos ficam em buffers diretos, fora do heap; a
+// memória de um buffer descartado só volta quando o coletor recolhe o objeto, e o total também
+// fica sujeito a -XX:MaxDirectMemorySize.
+@Service
+public class RespostaProjetoServiceImpl implements RespostaProjetoService {
+
+    public static final String CACHE_RESPOSTAS = "projetosJson";
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${desafio-tecnico.respostas.tamanho-maximo-bytes:67108864}")
+    private long tamanhoMaximoBytes;
+
+    @Value("${desafio-tecnico.respostas.fora-do-heap:false}")
+    private boolean foraDoHeap;
+
+    @Value("${desafio-tecnico.respostas.expira-apos-ms:300000}")
+    private long expiraAposMs;
+
+    private record Resposta(long versao, ByteBuffer corpo) {
+    }
+
+    private Cache<Long, Resposta> respostas;
+
+    @PostConstruct
+    public void iniciar() {
+        respostas = Caffeine.newBuilder()
+                .maximumWeight(tamanhoMaximoBytes)
+                .weigher((Long id, Resposta resposta) -> resposta.corpo().capacity())
+                .expireAfterWrite(expiraAposMs, TimeUnit.MILLISECONDS)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, respostas, CACHE_RESPOSTAS);
+    }
+
+    @Override
+    public ByteBuffer serializar(Projeto projeto) {
+        Long id = projeto.getId();
+        Long versao = projeto.getVersao();
+        if (id == null || versao == null) {
+            return ByteBuffer.wrap(codificar(projeto)).asReadOnlyBuffer();
+        }
+
+        Resposta resposta = respostas.getIfPresent(id);
+        if (resposta == null || resposta.versao() != versao) {
+            // Um projeto lido de uma réplica pode estar atrasado em relação ao primário sem que a versão
+            // mostre (o gerente, por exemplo); é serializado, mas não guardado.
+            if (RoteamentoDataSource.leuDaReplica()) {
+                return ByteBuffer.wrap(codificar(projeto)).asReadOnlyBuffer();
+            }
+            Resposta nova = new Resposta(versao, armazenar(codificar(projeto)));
+            // Uma leitura atrasada, com um projeto mais antigo, não substitui a versão mais nova.
+            resposta = respostas.asMap().merge(id, nova, (atual, gerada) -> atual.versao() > gerada.versao() ? atual : gerada);
+            if (resposta.versao() != versao) {
+                resposta = nova;
+            }
+        }
+        return resposta.corpo().asReadOnlyBuffer();
+    }
+
+    @Override
+    public void invalidar(Long id) {
+        respostas.invalidate(id);
+    }
+
+    @Override
+    public void invalidarTodos() {
+        respostas.invalidateAll();
+    }
+
+    private byte[] codificar(Projeto projeto) {
+        try {
+            return objectMapper.writeValueAsBytes(projeto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao serializar o projeto " + projeto.getId(), e);
+        }
+    }
+
+    private ByteBuffer armazenar(byte[] json) {
+        if (!foraDoHeap) {
+            return ByteBuffer.wrap(json);
+        }
+        ByteBuffer direto = ByteBuffer.allocateDirect(json.length);
+        direto.put(json).flip();
+        return direto;
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.codeitsolution.desafiotecnicocodegroup.services.impls;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto.*;
+
+// Tabela de transições de status permitidas, indexada pelo status de destino.
+// O fluxo segue a ordem de análise, aprovação, início, planejamento, andamento e encerramento;
+// qualquer status não final pode ser cancelado. Encerrado e cancelado são finais.
+final class TransicoesStatus {
+
+    private static final Map<StatusProjeto, Set<StatusProjeto>> PREDECESSORES = new EnumMap<>(StatusProjeto.class);
+
+    static {
+        permitir(EM_ANALISE, ANALISE_REALIZADA, CANCELADO);
+        permitir(ANALISE_REALIZADA, ANALISE_APROVADA, EM_ANALISE, CANCELADO);
+        permitir(ANALISE_APROVADA, INICIADO, CANCELADO);
+        permitir(INICIADO, PLANEJADO, CANCELADO);
+        permitir(PLANEJADO, EM_ANDAMENTO, CANCELADO);
+        permitir(EM_ANDAMENTO, ENCERRADO, CANCELADO);
+        permitir(ENCERRADO);
+        permitir(CANCELADO);
+    }
+
+    private TransicoesStatus() {
+    }
+
+    private static void permitir(StatusProjeto origem, StatusProjeto... destinos) {
+        for (StatusProjeto destino : destinos) {
+            PREDECESSORES.computeIfAbsent(destino, s -> EnumSet.noneOf(StatusProjeto.class)).add(origem);
+        }
+    }
+
+    // Status a partir dos quais o destino pode ser alcançado.
+    static Set<StatusProjeto> predecessores(StatusProjeto destino) {
+        return PREDECESSORES.getOrDefault(destino, Collections.emptySet());
+    }
+
+}
@@ -0,0 +1,391 @@
+package com.codeitsolution.desafiotecnicocodegroup;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.ProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.ProjetoServiceImpl;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.RespostaProjetoServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.CacheInterceptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Dois bancos H2 em memória fazem o papel de primário e réplica; cada um identifica a si mesmo
+// na tabela "origem". As transações passam pelo mesmo caminho da aplicação: JpaTransactionManager
+// (Hibernate) sobre LazyConnectionDataSourceProxy e RoteamentoDataSource.
+public class RoteamentoDataSourceTest {
+
+    private static final long JANELA_MS = 5000;
+
+    private final RelogioTeste relogio = new RelogioTeste();
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate escrita;
+    private TransactionTemplate leitura;
+    private RoteamentoDataSourceConfig.FixacaoPrimarioFilter filtro;
+
+    // Relógio que só anda quando o teste manda.
+    private static class RelogioTeste extends Clock {
+        private Instant agora = Instant.parse("2024-01-01T00:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+
+        private void avancar(long milissegundos) {
+            agora = agora.plusMillis(milissegundos);
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        configurar(List.of(banco("replica")));
+        filtro = new RoteamentoDataSourceConfig.FixacaoPrimarioFilter(JANELA_MS);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        RoteamentoDataSource.liberar();
+        entityManagerFactory.close();
+    }
+
+    /**
+     * Testa se uma transação somente leitura é atendida pela réplica.
+     *
+     * Cenário:
+     *     Dado um primário e uma réplica.
+     *     Quando uma consulta é feita em uma transação somente leitura.
+     *     Então a consulta deve ser respondida pela réplica.
+     */
+    @Test
+    public void testReadOnlyTransactionGoesToReplica() {
+        // Ação
+        String origem = leitura.execute(status -> consultarOrigem());
+
+        // Verificações
+        assertEquals("replica", origem);
+    }
+
+    /**
+     * Testa se uma transação de escrita é atendida pelo primário.
+     *
+     * Cenário:
+     *     Dado um primário e uma réplica.
+     *     Quando uma consulta é feita em uma transação comum.
+     *     Então a consulta deve ser respondida pelo primário.
+     */
+    @Test
+    public void testReadWriteTransactionGoesToPrimary() {
+        // Ação
+        String origem = escrita.execute(status -> consultarOrigem());
+
+        // Verificações
+        assertEquals("primario", origem);
+    }
+
+    /**
+     * Testa se, fora de requisições, as leituras seguintes a uma escrita ficam no primário durante a janela.
+     *
+     * Cenário:
+     *     Dado que a thread acabou de gravar no primário.
+     *     Quando uma transação somente leitura é executada dentro da janela de 5 segundos.
+     *     Então ela deve ser respondida pelo primário.
+     *     E, passada a janela, as leituras devem voltar para a réplica.
+     */
+    @Test
+    public void testReadAfterWriteIsPinnedToPrimaryDuringWindow() {
+        // Preparação
+        escrita.executeWithoutResult(status -> gravar());
+
+        // Ação
+        relogio.avancar(JANELA_MS - 1);
+        String dentro = leitura.execute(status -> consultarOrigem());
+        relogio.avancar(1);
+        String depois = leitura.execute(status -> consultarOrigem());
+
+        // Verificações
+        assertEquals("primario", dentro);
+        assertEquals("replica", depois);
+    }
+
+    /**
+     * Testa se o cliente que gravou continua no primário nas requisições seguintes, pelo cookie.
+     *
+     * Cenário:
+     *     Dado uma requisição que grava e recebe o cookie com o prazo.
+     *     Quando o mesmo cliente lê em outra requisição, dentro da janela.
+     *     Então a leitura deve ser respondida pelo primário.
+     *     E a leitura de outro cliente, sem o cookie, deve ir à réplica.
+     *     E, passada a janela, o mesmo cliente deve voltar a ler da réplica.
+     */
+    @Test
+    public void testClientIsPinnedAcrossRequestsByCookie() throws Exception {
+        // Preparação
+        MockHttpServletResponse respostaEscrita = requisitar(null, () -> escrita.executeWithoutResult(status -> gravar()));
+        Cookie cookie = respostaEscrita.getCookie(RoteamentoDataSourceConfig.FixacaoPrimarioFilter.COOKIE);
+        assertNotNull(cookie);
+        assertEquals(Long.toString(relogio.millis() + JANELA_MS), cookie.getValue());
+
+        // Ação
+        relogio.avancar(1000);
+        AtomicReference<String> mesmoCliente = new AtomicReference<>();
+        requisitar(cookie, () -> mesmoCliente.set(leitura.execute(status -> consultarOrigem())));
+        AtomicReference<String> outroCliente = new AtomicReference<>();
+        requisitar(null, () -> outroCliente.set(leitura.execute(status -> consultarOrigem())));
+        relogio.avancar(JANELA_MS);
+        AtomicReference<String> aposJanela = new AtomicReference<>();
+        MockHttpServletResponse respostaLeitura = requisitar(cookie,
+                () -> aposJanela.set(leitura.execute(status -> consultarOrigem())));
+
+        // Verificações
+        assertEquals("primario", mesmoCliente.get());
+        assertEquals("replica", outroCliente.get());
+        assertEquals("replica", aposJanela.get());
+        assertNull(respostaLeitura.getCookie(RoteamentoDataSourceConfig.FixacaoPrimarioFilter.COOKIE));
+    }
+
+    /**
+     * Testa se um prazo além da janela, que não pode ter sido emitido pela aplicação, é ignorado.
+     *
+     * Cenário:
+     *     Dado um cookie com prazo de um dia.
+     *     Quando o cliente lê.
+     *     Então a leitura deve ir à réplica.
+     */
+    @Test
+    public void testForgedCookieBeyondWindowIsIgnored() throws Exception {
+        // Preparação
+        Cookie cookie = new Cookie(RoteamentoDataSourceConfig.FixacaoPrimarioFilter.COOKIE,
+                Long.toString(relogio.millis() + 86_400_000L));
+
+        // Ação
+        AtomicReference<String> origem = new AtomicReference<>();
+        requisitar(cookie, () -> origem.set(leitura.execute(status -> consultarOrigem())));
+
+        // Verificações
+        assertEquals("replica", origem.get());
+    }
+
+    /**
+     * Testa se as leituras se alternam entre as réplicas.
+     *
+     * Cenário:
+     *     Dado um primário e duas réplicas.
+     *     Quando quatro transações somente leitura são executadas.
+     *     Então cada réplica deve atender duas delas, alternadamente.
+     */
+    @Test
+    public void testReadsRoundRobinAcrossReplicas() {
+        // Preparação
+        entityManagerFactory.close();
+        configurar(List.of(banco("replica-1"), banco("replica-2")));
+
+        // Ação
+        List<String> origens = List.of(
+                leitura.execute(status -> consultarOrigem()),
+                leitura.execute(status -> consultarOrigem()),
+                leitura.execute(status -> consultarOrigem()),
+                leitura.execute(status -> consultarOrigem()));
+
+        // Verificações
+        assertEquals(List.of("replica-1", "replica-2", "replica-1", "replica-2"), origens);
+    }
+
+    /**
+     * Testa se um projeto lido da réplica não entra no cache de projetos nem no de JSON.
+     *
+     * Cenário:
+     *     Dado um cliente que acabou de gravar e recebeu o cookie com o prazo.
+     *     Quando outro cliente, sem o cookie, consulta o projeto 1 e o serializa.
+     *     Então o projeto, lido da réplica, não deve ficar em nenhum dos dois caches.
+     *     E, quando o cliente que gravou consulta o mesmo projeto, ele deve ser lido do primário.
+     *     E só então o projeto e o seu JSON devem ficar nos caches.
+     *
+     * @see RoteamentoDataSource#leuDaReplica()
+     */
+    @Test
+    public void testReplicaReadsDoNotFillCaches() throws Exception {
+        // Preparação
+        CacheManager cacheManager = new ConcurrentMapCacheManager(ProjetoServiceImpl.CACHE_PROJETOS);
+        Cache projetos = cacheManager.getCache(ProjetoServiceImpl.CACHE_PROJETOS);
+        ProjetoService projetoService = projetoServiceComCache(cacheManager);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        RespostaProjetoServiceImpl respostaProjetoService = respostaProjetoService(meterRegistry);
+        Cookie cookie = requisitar(null, () -> escrita.executeWithoutResult(status -> gravar()))
+                .getCookie(RoteamentoDataSourceConfig.FixacaoPrimarioFilter.COOKIE);
+
+        // Ação
+        AtomicReference<Projeto> outroCliente = new AtomicReference<>();
+        requisitar(null, () -> {
+            outroCliente.set(projetoService.findById(1L));
+            respostaProjetoService.serializar(outroCliente.get());
+        });
+        Cache.ValueWrapper emCacheAposReplica = projetos.get(1L);
+        double respostasAposReplica = respostasEmCache(meterRegistry);
+        AtomicReference<Projeto> mesmoCliente = new AtomicReference<>();
+        requisitar(cookie, () -> {
+            mesmoCliente.set(projetoService.findById(1L));
+            respostaProjetoService.serializar(mesmoCliente.get());
+        });
+
+        // Verificações
+        assertEquals("replica", outroCliente.get().getNome());
+        assertNull(emCacheAposReplica);
+        assertEquals(0d, respostasAposReplica);
+        assertEquals("primario", mesmoCliente.get().getNome());
+        assertEquals("primario", ((Projeto) projetos.get(1L).get()).getNome());
+        assertEquals(1d, respostasEmCache(meterRegistry));
+    }
+
+    private void configurar(List<DataSource> replicas) {
+        DataSource dataSource = new LazyConnectionDataSourceProxy(
+                new RoteamentoDataSource(banco("primario"), replicas, JANELA_MS, relogio));
+
+        LocalContainerEntityManagerFactoryBean fabrica = new LocalContainerEntityManagerFactoryBean();
+        fabrica.setDataSource(dataSource);
+        fabrica.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        fabrica.setManagedTypes(PersistenceManagedTypes.of(List.of(), List.of()));
+        fabrica.setJpaPropertyMap(Map.of("hibernate.dialect", "org.hibernate.dialect.H2Dialect"));
+        fabrica.afterPropertiesSet();
+        entityManagerFactory = fabrica.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        escrita = new TransactionTemplate(transactionManager);
+        leitura = new TransactionTemplate(transactionManager);
+        leitura.setReadOnly(true);
+    }
+
+    // ProjetoServiceImpl com o cache de projetos das anotações. O repositório consulta a origem em uma
+    // transação somente leitura, como faria o findById, e a devolve como nome do projeto.
+    private ProjetoService projetoServiceComCache(CacheManager cacheManager) {
+        ProjetoRepository projetoRepository = mock(ProjetoRepository.class);
+        when(projetoRepository.findById(anyLong())).thenAnswer(invocacao -> leitura.execute(status -> {
+            Projeto projeto = new Projeto();
+            projeto.setId(invocacao.getArgument(0));
+            projeto.setNome(consultarOrigem());
+            projeto.setVersao(0L);
+            return Optional.of(projeto);
+        }));
+        ProjetoServiceImpl projetoService = new ProjetoServiceImpl();
+        ReflectionTestUtils.setField(projetoService, "projetoRepository", projetoRepository);
+
+        CacheInterceptor cacheInterceptor = new CacheInterceptor();
+        cacheInterceptor.setCacheOperationSource(new AnnotationCacheOperationSource());
+        cacheInterceptor.setCacheManager(cacheManager);
+        cacheInterceptor.afterSingletonsInstantiated();
+        ProxyFactory proxy = new ProxyFactory(projetoService);
+        proxy.addAdvice(cacheInterceptor);
+        return (ProjetoService) proxy.getProxy();
+    }
+
+    private static RespostaProjetoServiceImpl respostaProjetoService(SimpleMeterRegistry meterRegistry) {
+        RespostaProjetoServiceImpl respostaProjetoService = new RespostaProjetoServiceImpl();
+        ReflectionTestUtils.setField(respostaProjetoService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(respostaProjetoService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(respostaProjetoService, "tamanhoMaximoBytes", 1_048_576L);
+        ReflectionTestUtils.setField(respostaProjetoService, "expiraAposMs", 300_000L);
+        respostaProjetoService.iniciar();
+        return respostaProjetoService;
+    }
+
+    private static double respostasEmCache(SimpleMeterRegistry meterRegistry) {
+        return meterRegistry.get("cache.size").tag("cache", RespostaProjetoServiceImpl.CACHE_RESPOSTAS).gauge().value();
+    }
+
+    // Executa "acao" como uma requisição que passa pelo filtro, em outra thread, como faria o servidor.
+    private MockHttpServletResponse requisitar(Cookie cookie, Runnable acao) throws Exception {
+        MockHttpServletRequest requisicao = new MockHttpServletRequest("GET", "/projetos");
+        if (cookie != null) {
+            requisicao.setCookies(cookie);
+        }
+        MockHttpServletResponse resposta = new MockHttpServletResponse();
+        FilterChain cadeia = (request, response) -> acao.run();
+
+        AtomicReference<Exception> erro = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                filtro.doFilter(requisicao, resposta, cadeia);
+            } catch (Exception e) {
+                erro.set(e);
+            }
+        });
+        thread.start();
+        thread.join();
+        if (erro.get() != null) {
+            throw erro.get();
+        }
+        return resposta;
+    }
+
+    private String consultarOrigem() {
+        return (String) entityManager.createNativeQuery("SELECT nome FROM origem").getSingleResult();
+    }
+
+    private void gravar() {
+        entityManager.createNativeQuery("UPDATE origem SET nome = nome").executeUpdate();
+    }
+
+    private static DataSource banco(String nome) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE origem (nome VARCHAR(20))");
+        jdbcTemplate.update("INSERT INTO origem (nome) VALUES (?)", nome);
+        return dataSource;
+    }
+
+}
@@ -0,0 +1,253 @@
+package com.codeitsolution.desafiotecnicocodegroup.controllers;
+
+import com.codeitsolution.desafiotecnicocodegroup.controllers.impls.MembroProjetoController;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MembroProjetoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MembroProjetoLoteDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MembroResumoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.PaginaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoResumoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoMembroDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.ResultadoAssociacao;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.MembroProjetoServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class MembroProjetoControllerTest {
+
+    @Mock
+    private MembroProjetoServiceImpl membroProjetoService;
+
+    @InjectMocks
+    private MembroProjetoController membroProjetoController;
+
+    /**
+     * Testa o método {@code adicionarMembro} quando a pessoa é associada ao projeto.
+     *
+     * Cenário:
+     *     Dado que o serviço associa a pessoa ao projeto.
+     *     Quando o método é invocado com o ID do projeto e o ID da pessoa.
+     *     Então ele deve retornar uma resposta com status 200 (OK).
+     *     E o corpo da resposta deve conter o resultado da associação.
+     *
+     * @see MembroProjetoController#adicionarMembro(Long, MembroProjetoDTO)
+     */
+    @Test
+    public void testAdicionarMembroWhenMembroIsAdded() {
+        // Preparação
+        Long projetoId = 1L;
+        MembroProjetoDTO membroDTO = new MembroProjetoDTO();
+        membroDTO.setPessoaId(10L);
+        ResultadoMembroDTO resultado = new ResultadoMembroDTO(10L, ResultadoAssociacao.ADICIONADO, null);
+        when(membroProjetoService.adicionarMembro(projetoId, 10L)).thenReturn(resultado);
+
+        // Ação
+        ResponseEntity<?> response = membroProjetoController.adicionarMembro(projetoId, membroDTO);
+
+        // Verificações
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(resultado, response.getBody());
+    }
+
+    /**
+     * Testa o método {@code adicionarMembro} quando a pessoa não tem atribuição de funcionário.
+     *
+     * Cenário:
+     *     Dado que o serviço recusa a associação porque a pessoa não é funcionária.
+     *     Quando o método é invocado com o ID do projeto e o ID da pessoa.
+     *     Então ele deve retornar uma resposta com status 400 (Bad Request).
+     *     E o corpo da resposta deve conter o motivo.
+     *
+     * @see MembroProjetoController#adicionarMembro(Long, MembroProjetoDTO)
+     */
+    @Test
+    public void testAdicionarMembroWhenPessoaIsNotFuncionario() {
+        // Preparação
+        Long projetoId = 1L;
+        MembroProjetoDTO membroDTO = new MembroProjetoDTO();
+        membroDTO.setPessoaId(10L);
+        when(membroProjetoService.adicionarMembro(projetoId, 10L)).thenReturn(
+                new ResultadoMembroDTO(10L, ResultadoAssociacao.NAO_FUNCIONARIO, "A pessoa deve ter atribuição de funcionário"));
+
+        // Ação
+        ResponseEntity<?> response = membroProjetoController.adicionarMembro(projetoId, membroDTO);
+
+        // Verificações
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("A pessoa deve ter atribuição de funcionário", response.getBody());
+    }
+
+    /**
+     * Testa o método {@code adicionarMembrosEmLote} com uma lista válida de pessoas.
+     *
+     * Cenário:
+     *     Dado que o serviço processa o lote e retorna o resultado de cada ID.
+     *     Quando o método é invocado com o ID do projeto e a lista de pessoas.
+     *     Então ele deve retornar uma resposta com status 200 (OK).
+     *     E o corpo da resposta deve conter os resultados individuais.
+     *
+     * @see MembroProjetoController#adicionarMembrosEmLote(Long, MembroProjetoLoteDTO)
+     */
+    @Test
+    public void testAdicionarMembrosEmLoteWithValidData() {
+        // Preparação
+        Long projetoId = 1L;
+        MembroProjetoLoteDTO loteDTO = new MembroProjetoLoteDTO();
+        loteDTO.setPessoaIds(Arrays.asList(10L, 20L));
+
+        List<ResultadoMembroDTO> resultados = Arrays.asList(
+                new ResultadoMembroDTO(10L, ResultadoAssociacao.ADICIONADO, null),
+                new ResultadoMembroDTO(20L, ResultadoAssociacao.NAO_FUNCIONARIO, "A pessoa deve ter atribuição de funcionário"));
+        when(membroProjetoService.adicionarMembros(projetoId, loteDTO.getPessoaIds())).thenReturn(resultados);
+
+        // Ação
+        ResponseEntity<?> response = membroProjetoController.adicionarMembrosEmLote(projetoId, loteDTO);
+
+        // Verificações
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(resultados, response.getBody());
+    }
+
+    /**
+     * Testa o método {@code adicionarMembrosEmLote} com uma lista vazia.
+     *
+     * Cenário:
+     *     Dado um lote sem IDs de pessoas.
+     *     Quando o método é invocado.
+     *     Então ele deve retornar uma resposta com status 400 (Bad Request).
+     *     E o serviço não deve ser acionado.
+     *
+     * @see MembroProjetoController#adicionarMembrosEmLote(Long, MembroProjetoLoteDTO)
+     */
+    @Test
+    public void testAdicionarMembrosEmLoteWithEmptyList() {
+        // Preparação
+        MembroProjetoLoteDTO loteDTO = new MembroProjetoLoteDTO();
+        loteDTO.setPessoaIds(Collections.emptyList());
+
+        // Ação
+        ResponseEntity<?> response = membroProjetoController.adicionarMembrosEmLote(1L, loteDTO);
+
+        // Verificações
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Informe ao menos um ID de pessoa.", response.getBody());
+        verifyNoInteractions(membroProjetoService);
+    }
+
+    /**
+     * Testa o método {@code adicionarMembrosEmLote} quando o projeto não existe.
+     *
+     * Cenário:
+     *     Dado que o serviço informa que o projeto não foi encontrado.
+     *     Quando o método é invocado.
+     *     Então ele deve retornar uma resposta com status 404 (Not Found).
+     *
+     * @see MembroProjetoController#adicionarMembrosEmLote(Long, MembroProjetoLoteDTO)
+     */
+    @Test
+    public void testAdicionarMembrosEmLoteWhenProjetoIsNotFound() {
+        // Preparação
+        Long projetoId = 99L;
+        MembroProjetoLoteDTO loteDTO = new MembroProjetoLoteDTO();
+        loteDTO.setPessoaIds(Collections.singletonList(10L));
+        when(membroProjetoService.adicionarMembros(projetoId, loteDTO.getPessoaIds()))
+                .thenThrow(new IllegalArgumentException("Projeto não encontrado"));
+
+        // Ação
+        ResponseEntity<?> response = membroProjetoController.adicionarMembrosEmLote(projetoId, loteDTO);
+
+        // Verificações
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    /**
+     * Testa o método {@code getMembrosDoProjeto} quando o projeto possui membros.
+     *
+     * Cenário:
+     *     Dado que o serviço retorna uma página com membros e cursor para a próxima página.
+     *     Quando o método é invocado com o ID do projeto.
+     *     Então ele deve retornar uma resposta com status 200 (OK).
+     *     E o corpo da resposta deve conter a página retornada pelo serviço.
+     *
+     * @see MembroProjetoController#getMembrosDoProjeto(Long, String, Integer)
+     */
+    @Test
+    public void testGetMembrosDoProjetoWithMembros() {
+        // Preparação
+        Long projetoId = 1L;
+        PaginaDTO<MembroResumoDTO> pagina = new PaginaDTO<>(
+                Collections.singletonList(new MembroResumoDTO(10L, "Ana Souza", "funcionario")), "MTA");
+        when(membroProjetoService.findMembros(projetoId, null, 1)).thenReturn(pagina);
+
+        // Ação
+        ResponseEntity<?> response = membroProjetoController.getMembrosDoProjeto(projetoId, null, 1);
+
+        // Verificações
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(pagina, response.getBody());
+    }
+
+    /**
+     * Testa o método {@code getProjetosDoMembro} com um cursor inválido.
+     *
+     * Cenário:
+     *     Dado que o serviço rejeita o cursor informado.
+     *     Quando o método é invocado com esse cursor.
+     *     Então ele deve retornar uma resposta com status 400 (Bad Request).
+     *     E o corpo da resposta deve conter a mensagem de erro.
+     *
+     * @see MembroProjetoController#getProjetosDoMembro(Long, String, Integer)
+     */
+    @Test
+    public void testGetProjetosDoMembroWithInvalidCursor() {
+        // Preparação
+        Long pessoaId = 10L;
+        when(membroProjetoService.findProjetos(pessoaId, "???", null))
+                .thenThrow(new IllegalArgumentException("Cursor de paginação inválido: ???"));
+
+        // Ação
+        ResponseEntity<?> response = membroProjetoController.getProjetosDoMembro(pessoaId, "???", null);
+
+        // Verificações
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Cursor de paginação inválido: ???", response.getBody());
+    }
+
+    /**
+     * Testa o método {@code getProjetosDoMembro} quando a pessoa não participa de projetos.
+     *
+     * Cenário:
+     *     Dado que o serviço retorna uma página vazia.
+     *     Quando o método é invocado com o ID da pessoa.
+     *     Então ele deve retornar uma resposta com status 204 (No Content).
+     *
+     * @see MembroProjetoController#getProjetosDoMembro(Long, String, Integer)
+     */
+    @Test
+    public void testGetProjetosDoMembroWithoutProjetos() {
+        // Preparação
+        Long pessoaId = 10L;
+        PaginaDTO<ProjetoResumoDTO> pagina = new PaginaDTO<>(Collections.emptyList(), null);
+        when(membroProjetoService.findProjetos(pessoaId, null, null)).thenReturn(pagina);
+
+        // Ação
+        ResponseEntity<?> response = membroProjetoController.getProjetosDoMembro(pessoaId, null, null);
+
+        // Verificações
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+    }
+
+}
@@ -2,6 +2,7 @@ package com.codeitsolution.desafiotecnicocodegroup.controllers;
 
 import com.codeitsolution.desafiotecnicocodegroup.controllers.impls.PessoaController;
 import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ImportacaoResumoDTO;
 import com.codeitsolution.desafiotecnicocodegroup.services.PessoaService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +12,11 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -180,6 +186,108 @@ public class PessoaControllerTest {
         verify(pessoaService).save(pessoa);
     }
 
+    /**
+     * Testa o método {@code createMembrosEmLote} quando a importação é processada.
+     *
+     * Cenário:
+     *     Dado um corpo NDJSON com duas pessoas.
+     *     Quando o método é invocado e o serviço conclui a importação.
+     *     Então ele deve retornar uma resposta com status 200 (OK).
+     *     E o corpo da resposta deve conter o resumo da importação.
+     *
+     * @see PessoaController#createMembrosEmLote(InputStream)
+     */
+    @Test
+    public void testCreateMembrosEmLoteWithValidData() throws IOException {
+        // Preparação
+        InputStream corpo = new ByteArrayInputStream((
+                "{\"nome\": \"João\", \"atribuicao\": \"funcionario\"}\n" +
+                "{\"nome\": \"Maria\", \"atribuicao\": \"funcionario\"}\n").getBytes(StandardCharsets.UTF_8));
+        ImportacaoResumoDTO resumo = new ImportacaoResumoDTO();
+        resumo.setAceitos(2);
+
+        when(pessoaService.importar(corpo)).thenReturn(resumo);
+
+        // Ação
+        ResponseEntity<?> response = pessoaController.createMembrosEmLote(corpo);
+
+        // Verificações
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(resumo, response.getBody());
+    }
+
+    /**
+     * Testa o método {@code createMembrosEmLote} quando ocorre uma exceção durante a importação.
+     *
+     * Cenário:
+     *     Dado um corpo qualquer.
+     *     Quando o método é invocado e o serviço lança uma exceção.
+     *     Então ele deve retornar uma resposta com status 500 (Erro Interno do Servidor).
+     *     E o corpo da resposta deve conter uma mensagem indicando o erro ao importar os membros.
+     *
+     * @see PessoaController#createMembrosEmLote(InputStream)
+     */
+    @Test
+    public void testCreateMembrosEmLoteWithServiceException() throws IOException {
+        // Preparação
+        InputStream corpo = new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8));
+        when(pessoaService.importar(corpo)).thenThrow(new IOException("Conexão interrompida"));
+
+        // Ação
+        ResponseEntity<?> response = pessoaController.createMembrosEmLote(corpo);
+
+        // Verificações
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        assertEquals("Ocorreu um erro ao importar os membros.", response.getBody());
+    }
 
+    /**
+     * Testa o método {@code getMembroById} com um ID existente.
+     *
+     * Cenário:
+     *     Dado que existe uma pessoa com o ID 1.
+     *     Quando o método é invocado com esse ID.
+     *     Então ele deve retornar uma resposta com status 200 (OK).
+     *     E o corpo da resposta deve conter a pessoa.
+     *
+     * @see PessoaController#getMembroById(Long)
+     */
+    @Test
+    public void testGetMembroByIdWithExistingId() {
+        // Preparação
+        Pessoa pessoa = new Pessoa();
+        pessoa.setId(1L);
+        pessoa.setNome("João");
+        when(pessoaService.findById(1L)).thenReturn(pessoa);
+
+        // Ação
+        ResponseEntity<?> response = pessoaController.getMembroById(1L);
+
+        // Verificações
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(pessoa, response.getBody());
+    }
+
+    /**
+     * Testa o método {@code getMembroById} com um ID inexistente.
+     *
+     * Cenário:
+     *     Dado que não existe pessoa com o ID 99.
+     *     Quando o método é invocado com esse ID.
+     *     Então ele deve retornar uma resposta com status 404 (Não Encontrado).
+     *
+     * @see PessoaController#getMembroById(Long)
+     */
+    @Test
+    public void testGetMembroByIdWithUnknownId() {
+        // Preparação
+        when(pessoaService.findById(99L)).thenReturn(null);
+
+        // Ação
+        ResponseEntity<?> response = pessoaController.getMembroById(99L);
+
+        // Verificações
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
 
 }
@@ -2,23 +2,47 @@ package com.codeitsolution.desafiotecnicocodegroup.controllers;
 
 import com.codeitsolution.desafiotecnicocodegroup.controllers.impls.ProjetoController;
 import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.EstatisticasProjetosDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MudancaStatusDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MudancaStatusLoteDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.PaginaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoFiltroDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoBuscaDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoMudancaStatusDTO;
 import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.services.BuscaProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.EstatisticaProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.EventoProjetoService;
 import com.codeitsolution.desafiotecnicocodegroup.services.ProjetoService;
+import com.codeitsolution.desafiotecnicocodegroup.services.RespostaProjetoService;
 import com.codeitsolution.desafiotecnicocodegroup.services.impls.ProjetoServiceImpl;
+import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,6 +51,18 @@ public class ProjetoControllerTest {
     @Mock
     private ProjetoServiceImpl projetoService;
 
+    @Mock
+    private EstatisticaProjetoService estatisticaProjetoService;
+
+    @Mock
+    private BuscaProjetoService buscaProjetoService;
+
+    @Mock
+    private EventoProjetoService eventoProjetoService;
+
+    @Mock
+    private RespostaProjetoService respostaProjetoService;
+
     @InjectMocks
     private ProjetoController projetoController;
 
@@ -34,21 +70,22 @@ public class ProjetoControllerTest {
      * Testa o método {@code getAllProjetos} quando há projetos disponíveis.
      *
      * Cenário:
-     *     Dado que o serviço retorna uma lista de projetos.
+     *     Dado que o serviço retorna uma página de projetos.
      *     Quando o método é invocado.
      *     Então ele deve retornar uma resposta com status 200 (OK).
-     *     E o corpo da resposta deve conter a lista de projetos.
+     *     E o corpo da resposta deve conter a página de projetos.
      *
-     * @see ProjetoController#getAllProjetos()
+     * @see ProjetoController#getAllProjetos(String, Integer, ProjetoFiltroDTO)
      */
     @Test
     public void testGetAllProjetosWithAvailableProjetos() {
         // Preparação
-        List<Projeto> projetos = Arrays.asList(new Projeto(), new Projeto());
-        when(projetoService.findAll()).thenReturn(projetos);
+        ProjetoFiltroDTO filtro = new ProjetoFiltroDTO();
+        PaginaDTO<Projeto> pagina = new PaginaDTO<>(Arrays.asList(new Projeto(), new Projeto()), "Mg");
+        when(projetoService.findPagina(null, null, filtro)).thenReturn(pagina);
 
         // Ação
-        ResponseEntity<?> response = projetoController.getAllProjetos();
+        ResponseEntity<?> response = projetoController.getAllProjetos(null, null, filtro);
 
         // Verificação adicional: imprime a exceção se o status for 500
         if (response.getStatusCode() == HttpStatus.INTERNAL_SERVER_ERROR) {
@@ -57,33 +94,60 @@ public class ProjetoControllerTest {
 
         // Verificações
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(projetos, response.getBody());
+        assertEquals(pagina, response.getBody());
     }
 
     /**
      * Testa o método {@code getAllProjetos} quando não há projetos disponíveis.
      *
      * Cenário:
-     *     Dado que o serviço retorna uma lista vazia de projetos.
+     *     Dado que o serviço retorna uma página vazia de projetos.
      *     Quando o método é invocado.
      *     Então ele deve retornar uma resposta com status 204 (No Content).
      *     E o corpo da resposta deve estar vazio.
      *
-     * @see ProjetoController#getAllProjetos()
+     * @see ProjetoController#getAllProjetos(String, Integer, ProjetoFiltroDTO)
      */
     @Test
     public void testGetAllProjetosWithNoAvailableProjetos() {
         // Preparação
-        when(projetoService.findAll()).thenReturn(Collections.emptyList());
+        ProjetoFiltroDTO filtro = new ProjetoFiltroDTO();
+        when(projetoService.findPagina(null, null, filtro)).thenReturn(new PaginaDTO<>(Collections.emptyList(), null));
 
         // Ação
-        ResponseEntity<?> response = projetoController.getAllProjetos();
+        ResponseEntity<?> response = projetoController.getAllProjetos(null, null, filtro);
 
         // Verificações
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
         assertNull(response.getBody());
     }
 
+    /**
+     * Testa o método {@code getAllProjetos} quando o cursor informado é inválido.
+     *
+     * Cenário:
+     *     Dado que o serviço rejeita o cursor informado.
+     *     Quando o método é invocado com esse cursor.
+     *     Então ele deve retornar uma resposta com status 400 (Bad Request).
+     *     E o corpo da resposta deve conter a mensagem de erro.
+     *
+     * @see ProjetoController#getAllProjetos(String, Integer, ProjetoFiltroDTO)
+     */
+    @Test
+    public void testGetAllProjetosWithInvalidCursor() {
+        // Preparação
+        ProjetoFiltroDTO filtro = new ProjetoFiltroDTO();
+        when(projetoService.findPagina("###", null, filtro))
+                .thenThrow(new IllegalArgumentException("Cursor de paginação inválido: ###"));
+
+        // Ação
+        ResponseEntity<?> response = projetoController.getAllProjetos("###", null, filtro);
+
+        // Verificações
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Cursor de paginação inválido: ###", response.getBody());
+    }
+
     /**
      * Testa o método {@code getAllProjetos} quando ocorre uma exceção ao buscar os projetos.
      *
@@ -93,31 +157,197 @@ public class ProjetoControllerTest {
      *     Então ele deve retornar uma resposta com status 500 (Internal Server Error).
      *     E o corpo da resposta deve conter a mensagem de erro.
      *
-     * @see ProjetoController#getAllProjetos()
+     * @see ProjetoController#getAllProjetos(String, Integer, ProjetoFiltroDTO)
      */
     @Test
     public void testGetAllProjetosWhenServiceThrowsException() {
         // Preparação
-        when(projetoService.findAll()).thenThrow(new RuntimeException("Erro inesperado ao buscar projetos."));
+        ProjetoFiltroDTO filtro = new ProjetoFiltroDTO();
+        when(projetoService.findPagina(null, null, filtro)).thenThrow(new RuntimeException("Erro inesperado ao buscar projetos."));
 
         // Ação
-        ResponseEntity<?> response = projetoController.getAllProjetos();
+        ResponseEntity<?> response = projetoController.getAllProjetos(null, null, filtro);
 
         // Verificações
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertEquals("Ocorreu um erro ao buscar os projetos.", response.getBody());
     }
 
+    /**
+     * Testa o método {@code getEstatisticas}.
+     *
+     * Cenário:
+     *     Dado que o serviço de estatísticas retorna os totais do portfólio.
+     *     Quando o método é invocado.
+     *     Então ele deve retornar uma resposta com status 200 (OK).
+     *     E o corpo da resposta deve conter as estatísticas.
+     *
+     * @see ProjetoController#getEstatisticas()
+     */
+    @Test
+    public void testGetEstatisticas() {
+        // Preparação
+        EstatisticasProjetosDTO estatisticas = new EstatisticasProjetosDTO();
+        estatisticas.setTotal(3);
+        when(estatisticaProjetoService.obter()).thenReturn(estatisticas);
+
+        // Ação
+        ResponseEntity<EstatisticasProjetosDTO> response = projetoController.getEstatisticas();
+
+        // Verificações
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(estatisticas, response.getBody());
+    }
+
+    /**
+     * Testa o método {@code buscarProjetos} quando há projetos para os termos informados.
+     *
+     * Cenário:
+     *     Dado que o índice de busca retorna uma página de resultados.
+     *     Quando o método é invocado com o termo "integração".
+     *     Então ele deve retornar uma resposta com status 200 (OK).
+     *     E o corpo da resposta deve conter a página retornada pelo serviço.
+     *
+     * @see ProjetoController#buscarProjetos(String, String, Integer)
+     */
+    @Test
+    public void testBuscarProjetosWithResults() {
+        // Preparação
+        PaginaDTO<ResultadoBuscaDTO> pagina = new PaginaDTO<>(
+                Collections.singletonList(new ResultadoBuscaDTO(1L, "Criação de serviços de integração", 1.5d)), null);
+        when(buscaProjetoService.buscar("integração", null, null)).thenReturn(pagina);
+
+        // Ação
+        ResponseEntity<?> response = projetoController.buscarProjetos("integração", null, null);
+
+        // Verificações
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(pagina, response.getBody());
+    }
+
+    /**
+     * Testa o método {@code buscarProjetos} sem termos de busca.
+     *
+     * Cenário:
+     *     Dado um parâmetro 'q' em branco.
+     *     Quando o método é invocado.
+     *     Então ele deve retornar uma resposta com status 400 (Bad Request).
+     *     E o índice de busca não deve ser consultado.
+     *
+     * @see ProjetoController#buscarProjetos(String, String, Integer)
+     */
+    @Test
+    public void testBuscarProjetosWithBlankQuery() {
+        // Ação
+        ResponseEntity<?> response = projetoController.buscarProjetos("  ", null, null);
+
+        // Verificações
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        verify(buscaProjetoService, never()).buscar(any(), any(), any());
+    }
+
+    /**
+     * Testa o método {@code acompanharProjetos} retomando de um evento anterior.
+     *
+     * Cenário:
+     *     Dado que o serviço aceita a assinatura a partir do Last-Event-ID informado.
+     *     Quando o método é invocado.
+     *     Então ele deve retornar uma resposta com status 200 (OK) e tipo de conteúdo text/event-stream.
+     *     E o corpo deve ser o emissor criado pelo serviço.
+     *
+     * @see ProjetoController#acompanharProjetos(String)
+     */
+    @Test
+    public void testAcompanharProjetosResumesFromLastEventId() {
+        // Preparação
+        ResponseBodyEmitter emitter = new ResponseBodyEmitter();
+        when(eventoProjetoService.assinar("lmx3k9-42")).thenReturn(emitter);
+
+        // Ação
+        ResponseEntity<ResponseBodyEmitter> response = projetoController.acompanharProjetos("lmx3k9-42");
+
+        // Verificações
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.TEXT_EVENT_STREAM, response.getHeaders().getContentType());
+        assertEquals(emitter, response.getBody());
+    }
+
+    /**
+     * Testa o método {@code acompanharProjetos} com o limite de assinantes atingido.
+     *
+     * Cenário:
+     *     Dado que o serviço recusa novas assinaturas.
+     *     Quando o método é invocado.
+     *     Então ele deve retornar uma resposta com status 503 (Service Unavailable) e o cabeçalho Retry-After.
+     *
+     * @see ProjetoController#acompanharProjetos(String)
+     */
+    @Test
+    public void testAcompanharProjetosWhenSubscriberLimitReached() {
+        // Preparação
+        when(eventoProjetoService.assinar(null)).thenReturn(null);
+
+        // Ação
+        ResponseEntity<ResponseBodyEmitter> response = projetoController.acompanharProjetos(null);
+
+        // Verificações
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("5", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNull(response.getBody());
+    }
+
+    /**
+     * Testa o método {@code exportarProjetos} com um formato suportado.
+     *
+     * Cenário:
+     *     Dado o formato "csv".
+     *     Quando o método é invocado.
+     *     Então ele deve retornar uma resposta com status 200 (OK) e tipo de conteúdo text/csv.
+     *     E o corpo da resposta deve ser transmitido em streaming.
+     *
+     * @see ProjetoController#exportarProjetos(String)
+     */
+    @Test
+    public void testExportarProjetosWithSupportedFormat() {
+        // Ação
+        ResponseEntity<?> response = projetoController.exportarProjetos("csv");
+
+        // Verificações
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.parseMediaType("text/csv"), response.getHeaders().getContentType());
+        assertTrue(response.getBody() instanceof StreamingResponseBody);
+    }
+
+    /**
+     * Testa o método {@code exportarProjetos} com um formato não suportado.
+     *
+     * Cenário:
+     *     Dado o formato "xml".
+     *     Quando o método é invocado.
+     *     Então ele deve retornar uma resposta com status 400 (Bad Request).
+     *
+     * @see ProjetoController#exportarProjetos(String)
+     */
+    @Test
+    public void testExportarProjetosWithUnsupportedFormat() {
+        // Ação
+        ResponseEntity<?> response = projetoController.exportarProjetos("xml");
+
+        // Verificações
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Formato de exportação inválido: xml", response.getBody());
+    }
+
     /**
      * Testa o método {@code getProjetoById} quando o projeto é encontrado.
      *
      * Cenário:
      *     Dado que o serviço retorna um projeto para o ID fornecido.
      *     Quando o método é invocado com esse ID.
-     *     Então ele deve retornar uma resposta com status 200 (OK).
-     *     E o corpo da resposta deve conter o projeto.
+     *     Então ele deve retornar uma resposta com status 200 (OK) e tipo de conteúdo application/json.
+     *     E o corpo da resposta deve conter o JSON do projeto já serializado.
      *
-     * @see ProjetoController#getProjetoById(Long)
+     * @see ProjetoController#getProjetoById(Long, String)
      */
     @Test
     public void testGetProjetoByIdWhenProjetoIsFound() {
@@ -125,14 +355,48 @@ public class ProjetoControllerTest {
         Long projetoId = 1L;
         Projeto projeto = new Projeto();
         projeto.setId(projetoId);
+        ByteBuffer json = ByteBuffer.wrap("{\"id\":1}".getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer();
         when(projetoService.findById(projetoId)).thenReturn(projeto);
+        when(respostaProjetoService.serializar(projeto)).thenReturn(json);
 
         // Ação
-        ResponseEntity<?> response = projetoController.getProjetoById(projetoId);
+        ResponseEntity<?> response = projetoController.getProjetoById(projetoId, null);
 
         // Verificações
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(projeto, response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals(json, response.getBody());
+    }
+
+    /**
+     * Testa o método {@code getProjetoById} quando o cliente já possui a versão atual do projeto.
+     *
+     * Cenário:
+     *     Dado que o serviço retorna um projeto na versão 3.
+     *     Quando o método é invocado com If-None-Match igual a "3".
+     *     Então ele deve retornar uma resposta com status 304 (Not Modified), sem corpo.
+     *     E o ETag da resposta deve ser "3".
+     *     E o projeto não deve ser serializado.
+     *
+     * @see ProjetoController#getProjetoById(Long, String)
+     */
+    @Test
+    public void testGetProjetoByIdWhenEtagMatches() {
+        // Preparação
+        Long projetoId = 1L;
+        Projeto projeto = new Projeto();
+        projeto.setId(projetoId);
+        projeto.setVersao(3L);
+        when(projetoService.findById(projetoId)).thenReturn(projeto);
+
+        // Ação
+        ResponseEntity<?> response = projetoController.getProjetoById(projetoId, "\"3\"");
+
+        // Verificações
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        verify(respostaProjetoService, never()).serializar(any());
     }
 
     /**
@@ -144,7 +408,7 @@ public class ProjetoControllerTest {
      *     Então ele deve retornar uma resposta com status 404 (Not Found).
      *     E o corpo da resposta deve estar vazio.
      *
-     * @see ProjetoController#getProjetoById(Long)
+     * @see ProjetoController#getProjetoById(Long, String)
      */
     @Test
     public void testGetProjetoByIdWhenProjetoIsNotFound() {
@@ -153,7 +417,7 @@ public class ProjetoControllerTest {
         when(projetoService.findById(projetoId)).thenReturn(null);
 
         // Ação
-        ResponseEntity<?> response = projetoController.getProjetoById(projetoId);
+        ResponseEntity<?> response = projetoController.getProjetoById(projetoId, null);
 
         // Verificações
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -169,7 +433,7 @@ public class ProjetoControllerTest {
      *     Então ele deve retornar uma resposta com status 500 (Internal Server Error).
      *     E o corpo da resposta deve conter a mensagem de erro.
      *
-     * @see ProjetoController#getProjetoById(Long)
+     * @see ProjetoController#getProjetoById(Long, String)
      */
     @Test
     public void testGetProjetoByIdWhenServiceThrowsException() {
@@ -178,7 +442,7 @@ public class ProjetoControllerTest {
         when(projetoService.findById(projetoId)).thenThrow(new RuntimeException("Erro inesperado ao buscar projeto pelo ID."));
 
         // Ação
-        ResponseEntity<?> response = projetoController.getProjetoById(projetoId);
+        ResponseEntity<?> response = projetoController.getProjetoById(projetoId, null);
 
         // Verificações
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
@@ -212,17 +476,43 @@ public class ProjetoControllerTest {
         assertEquals(createdProjeto, response.getBody());
     }
 
+    /**
+     * Testa o método {@code createProjeto} quando o gerente informado não existe.
+     *
+     * Cenário:
+     *     Dado um projeto com ID no corpo e um gerente inexistente.
+     *     Quando o método é invocado.
+     *     Então ele deve retornar uma resposta com status 400 (Bad Request) e a mensagem do serviço.
+     *     E o ID do corpo deve ter sido descartado, para que a criação não vire atualização.
+     *
+     * @see ProjetoController#createProjeto(Projeto)
+     */
+    @Test
+    public void testCreateProjetoWhenGerenteIsNotFound() {
+        // Preparação
+        Projeto projeto = new Projeto();
+        projeto.setId(99L);
+        when(projetoService.save(projeto)).thenThrow(new EntityNotFoundException("Gerente não encontrado"));
+
+        // Ação
+        ResponseEntity<?> response = projetoController.createProjeto(projeto);
+
+        // Verificações
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Gerente não encontrado", response.getBody());
+        assertNull(projeto.getId());
+    }
+
     /**
      * Testa o método {@code updateProjeto} quando o projeto é atualizado com sucesso.
      *
      * Cenário:
-     *     Dado que o serviço confirma a existência do projeto pelo ID fornecido.
-     *     E o serviço salva e retorna o projeto atualizado com sucesso.
+     *     Dado que o serviço salva e retorna o projeto atualizado com sucesso.
      *     Quando o método é invocado com um ID e um projeto.
      *     Então ele deve retornar uma resposta com status 200 (OK).
      *     E o corpo da resposta deve conter o projeto atualizado.
      *
-     * @see ProjetoController#updateProjeto(Long, Projeto)
+     * @see ProjetoController#updateProjeto(Long, Projeto, String)
      */
     @Test
     public void testUpdateProjetoWhenProjetoIsUpdatedSuccessfully() {
@@ -232,41 +522,215 @@ public class ProjetoControllerTest {
         Projeto updatedProjeto = new Projeto();
         updatedProjeto.setId(projetoId);
 
-        when(projetoService.existsById(projetoId)).thenReturn(true);
         when(projetoService.save(projeto)).thenReturn(updatedProjeto);
 
         // Ação
-        ResponseEntity<?> response = projetoController.updateProjeto(projetoId, projeto);
+        ResponseEntity<?> response = projetoController.updateProjeto(projetoId, projeto, null);
 
         // Verificações
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals(updatedProjeto, response.getBody());
     }
 
+    /**
+     * Testa o método {@code updateProjeto} quando a versão informada em If-Match está desatualizada.
+     *
+     * Cenário:
+     *     Dado que o serviço rejeita o salvamento por conflito de versão.
+     *     Quando o método é invocado com If-Match igual a "2".
+     *     Então ele deve retornar uma resposta com status 412 (Precondition Failed).
+     *     E a versão esperada deve ter sido repassada ao projeto salvo.
+     *
+     * @see ProjetoController#updateProjeto(Long, Projeto, String)
+     */
+    @Test
+    public void testUpdateProjetoWhenVersionIsStale() {
+        // Preparação
+        Long projetoId = 1L;
+        Projeto projeto = new Projeto();
+        when(projetoService.save(projeto)).thenThrow(new ObjectOptimisticLockingFailureException(Projeto.class, projetoId));
+
+        // Ação
+        ResponseEntity<?> response = projetoController.updateProjeto(projetoId, projeto, "\"2\"");
+
+        // Verificações
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertEquals(2L, projeto.getVersao());
+    }
+
+    /**
+     * Testa o método {@code updateProjeto} sem If-Match e com uma versão desatualizada no corpo.
+     *
+     * Cenário:
+     *     Dado um projeto enviado com a versão 1 no corpo.
+     *     Quando o método é invocado sem o cabeçalho If-Match.
+     *     Então ele deve retornar uma resposta com status 200 (OK).
+     *     E o projeto deve ser salvo sem versão esperada, sem conferir a versão do corpo.
+     *
+     * @see ProjetoController#updateProjeto(Long, Projeto, String)
+     */
+    @Test
+    public void testUpdateProjetoWithoutIfMatchIgnoresBodyVersion() {
+        // Preparação
+        Long projetoId = 1L;
+        Projeto projeto = new Projeto();
+        projeto.setVersao(1L);
+        Projeto updatedProjeto = new Projeto();
+        updatedProjeto.setId(projetoId);
+        updatedProjeto.setVersao(5L);
+        when(projetoService.save(projeto)).thenReturn(updatedProjeto);
+
+        // Ação
+        ResponseEntity<?> response = projetoController.updateProjeto(projetoId, projeto, null);
+
+        // Verificações
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNull(projeto.getVersao());
+        verify(projetoService).save(projeto);
+    }
+
+    /**
+     * Testa o método {@code updateProjeto} quando o projeto não existe.
+     *
+     * Cenário:
+     *     Dado que o serviço não encontra o projeto com o ID fornecido.
+     *     Quando o método é invocado com esse ID.
+     *     Então ele deve retornar uma resposta com status 404 (Not Found).
+     *
+     * @see ProjetoController#updateProjeto(Long, Projeto, String)
+     */
+    @Test
+    public void testUpdateProjetoWhenProjetoIsNotFound() {
+        // Preparação
+        Projeto projeto = new Projeto();
+        when(projetoService.save(projeto)).thenThrow(new IllegalArgumentException("Projeto não encontrado"));
+
+        // Ação
+        ResponseEntity<?> response = projetoController.updateProjeto(99L, projeto, null);
+
+        // Verificações
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    /**
+     * Testa o método {@code updateProjeto} quando o gerente informado não existe.
+     *
+     * Cenário:
+     *     Dado que o serviço não encontra o gerente do projeto.
+     *     Quando o método é invocado.
+     *     Então ele deve retornar uma resposta com status 400 (Bad Request) e a mensagem do serviço.
+     *
+     * @see ProjetoController#updateProjeto(Long, Projeto, String)
+     */
+    @Test
+    public void testUpdateProjetoWhenGerenteIsNotFound() {
+        // Preparação
+        Projeto projeto = new Projeto();
+        when(projetoService.save(projeto)).thenThrow(new EntityNotFoundException("Gerente não encontrado"));
+
+        // Ação
+        ResponseEntity<?> response = projetoController.updateProjeto(1L, projeto, null);
+
+        // Verificações
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Gerente não encontrado", response.getBody());
+    }
+
+    /**
+     * Testa o método {@code deleteProjeto} quando a versão informada em If-Match está desatualizada.
+     *
+     * Cenário:
+     *     Dado que o serviço rejeita a exclusão por conflito de versão.
+     *     Quando o método é invocado com If-Match igual a "2".
+     *     Então ele deve retornar uma resposta com status 412 (Precondition Failed).
+     *
+     * @see ProjetoController#deleteProjeto(Long, String)
+     */
+    @Test
+    public void testDeleteProjetoWhenVersionIsStale() {
+        // Preparação
+        Long projetoId = 1L;
+        doThrow(new ObjectOptimisticLockingFailureException(Projeto.class, projetoId))
+                .when(projetoService).delete(projetoId, 2L);
+
+        // Ação
+        ResponseEntity<?> response = projetoController.deleteProjeto(projetoId, "\"2\"");
+
+        // Verificações
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+    }
+
     /**
      * Testa o método {@code deleteProjeto} quando o projeto é excluído com sucesso.
      *
      * Cenário:
-     *     Dado que o serviço confirma a existência do projeto pelo ID fornecido.
-     *     E o serviço exclui o projeto com sucesso.
+     *     Dado que o serviço exclui o projeto com sucesso.
      *     Quando o método é invocado com o ID do projeto.
      *     Então ele deve retornar uma resposta com status 204 (No Content).
      *
-     * @see ProjetoController#deleteProjeto(Long)
+     * @see ProjetoController#deleteProjeto(Long, String)
      */
     @Test
     public void testDeleteProjetoWhenProjetoIsDeletedSuccessfully() {
         // Preparação
         Long projetoId = 1L;
-        when(projetoService.existsById(projetoId)).thenReturn(true);
 
         // Ação
-        ResponseEntity<?> response = projetoController.deleteProjeto(projetoId);
+        ResponseEntity<?> response = projetoController.deleteProjeto(projetoId, null);
 
         // Verificações
         assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
     }
 
+    /**
+     * Testa o método {@code deleteProjeto} quando o projeto não existe.
+     *
+     * Cenário:
+     *     Dado que o serviço informa que o projeto não foi encontrado.
+     *     Quando o método é invocado com o ID do projeto.
+     *     Então ele deve retornar uma resposta com status 404 (Not Found).
+     *
+     * @see ProjetoController#deleteProjeto(Long, String)
+     */
+    @Test
+    public void testDeleteProjetoWhenProjetoIsNotFound() {
+        // Preparação
+        Long projetoId = 1L;
+        doThrow(new IllegalArgumentException("Projeto não encontrado")).when(projetoService).delete(projetoId, null);
+
+        // Ação
+        ResponseEntity<?> response = projetoController.deleteProjeto(projetoId, null);
+
+        // Verificações
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    /**
+     * Testa o método {@code deleteProjeto} quando o status do projeto não permite a exclusão.
+     *
+     * Cenário:
+     *     Dado que o serviço rejeita a exclusão porque o projeto já foi iniciado.
+     *     Quando o método é invocado com o ID do projeto.
+     *     Então ele deve retornar uma resposta com status 400 (Bad Request).
+     *     E o corpo da resposta deve conter o motivo.
+     *
+     * @see ProjetoController#deleteProjeto(Long, String)
+     */
+    @Test
+    public void testDeleteProjetoWhenStatusDoesNotAllowDeletion() {
+        // Preparação
+        Long projetoId = 1L;
+        String motivo = "O projeto não pode ser excluído depois de iniciado";
+        doThrow(new IllegalStateException(motivo)).when(projetoService).delete(projetoId, null);
+
+        // Ação
+        ResponseEntity<?> response = projetoController.deleteProjeto(projetoId, null);
+
+        // Verificações
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals(motivo, response.getBody());
+    }
+
     /**
      * Testa o método {@code getRiscoDoProjeto} quando o projeto é encontrado e seu risco é determinado.
      *
@@ -296,5 +760,110 @@ public class ProjetoControllerTest {
         assertEquals(mockRisco, response.getBody());
     }
 
+    /**
+     * Testa o método {@code getRiscoDoProjeto} quando o projeto já possui o risco gravado.
+     *
+     * Cenário:
+     *     Dado que o serviço retorna um projeto com o risco "alto" já persistido.
+     *     Quando o método é invocado com o ID do projeto.
+     *     Então ele deve retornar uma resposta com status 200 (OK) e com o risco "alto".
+     *     E o risco não deve ser recalculado.
+     *
+     * @see ProjetoController#getRiscoDoProjeto(Long)
+     */
+    @Test
+    public void testGetRiscoDoProjetoWhenRiscoIsStored() {
+        // Preparação
+        Long projetoId = 1L;
+        Projeto projeto = new Projeto();
+        projeto.setRisco(Risco.ALTO);
+        when(projetoService.findById(projetoId)).thenReturn(projeto);
+
+        // Ação
+        ResponseEntity<Risco> response = projetoController.getRiscoDoProjeto(projetoId);
+
+        // Verificações
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(Risco.ALTO, response.getBody());
+        verify(projetoService, never()).determinarRisco(projeto);
+    }
+
+    /**
+     * Testa o método {@code mudarStatus} quando a transição é permitida.
+     *
+     * Cenário:
+     *     Dado que o serviço aplica a transição de status com sucesso.
+     *     Quando o método é invocado com o ID do projeto e o novo status.
+     *     Então ele deve retornar uma resposta com status 204 (No Content).
+     *
+     * @see ProjetoController#mudarStatus(Long, MudancaStatusDTO)
+     */
+    @Test
+    public void testMudarStatusWhenTransicaoIsPermitida() {
+        // Preparação
+        MudancaStatusDTO mudancaStatusDTO = new MudancaStatusDTO();
+        mudancaStatusDTO.setStatus(StatusProjeto.INICIADO);
+
+        // Ação
+        ResponseEntity<?> response = projetoController.mudarStatus(1L, mudancaStatusDTO);
+
+        // Verificações
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(projetoService).mudarStatus(1L, StatusProjeto.INICIADO);
+    }
+
+    /**
+     * Testa o método {@code mudarStatus} quando o projeto não existe.
+     *
+     * Cenário:
+     *     Dado que o serviço informa que o projeto não foi encontrado.
+     *     Quando o método é invocado.
+     *     Então ele deve retornar uma resposta com status 404 (Not Found).
+     *
+     * @see ProjetoController#mudarStatus(Long, MudancaStatusDTO)
+     */
+    @Test
+    public void testMudarStatusWhenProjetoIsNotFound() {
+        // Preparação
+        MudancaStatusDTO mudancaStatusDTO = new MudancaStatusDTO();
+        mudancaStatusDTO.setStatus(StatusProjeto.INICIADO);
+        doThrow(new IllegalArgumentException("Projeto não encontrado"))
+                .when(projetoService).mudarStatus(99L, StatusProjeto.INICIADO);
+
+        // Ação
+        ResponseEntity<?> response = projetoController.mudarStatus(99L, mudancaStatusDTO);
+
+        // Verificações
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
+    /**
+     * Testa o método {@code mudarStatusEmLote} com IDs aceitos e rejeitados.
+     *
+     * Cenário:
+     *     Dado que o serviço altera parte dos projetos e rejeita os demais.
+     *     Quando o método é invocado com a lista de IDs e o novo status.
+     *     Então ele deve retornar uma resposta com status 200 (OK).
+     *     E o corpo da resposta deve informar os IDs alterados e rejeitados.
+     *
+     * @see ProjetoController#mudarStatusEmLote(MudancaStatusLoteDTO)
+     */
+    @Test
+    public void testMudarStatusEmLote() {
+        // Preparação
+        MudancaStatusLoteDTO mudancaStatusLoteDTO = new MudancaStatusLoteDTO();
+        mudancaStatusLoteDTO.setIds(Arrays.asList(1L, 2L, 3L));
+        mudancaStatusLoteDTO.setStatus(StatusProjeto.CANCELADO);
+
+        ResultadoMudancaStatusDTO resultado = new ResultadoMudancaStatusDTO(Arrays.asList(1L, 3L), Collections.singletonList(2L));
+        when(projetoService.mudarStatusEmLote(mudancaStatusLoteDTO.getIds(), StatusProjeto.CANCELADO)).thenReturn(resultado);
+
+        // Ação
+        ResponseEntity<?> response = projetoController.mudarStatusEmLote(mudancaStatusLoteDTO);
+
+        // Verificações
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(resultado, response.getBody());
+    }
 
 }
@@ -0,0 +1,96 @@
+package com.codeitsolution.desafiotecnicocodegroup.jobs;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Tabelas e sequências como o ddl-auto as deixa num banco que usava IDENTITY: registros já gravados
+// e sequências recém-criadas, com incremento igual ao allocationSize (50).
+public class AjusteSequenciasJobTest {
+
+    private static final int INCREMENTO = 50;
+
+    private EmbeddedPostgres postgres;
+    private JdbcTemplate jdbcTemplate;
+    private AjusteSequenciasJob job;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        jdbcTemplate.execute("CREATE TABLE pessoas (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE membros_projeto (id BIGINT PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE SEQUENCE pessoas_seq START WITH 1 INCREMENT BY " + INCREMENTO);
+        jdbcTemplate.execute("CREATE SEQUENCE membros_projeto_seq START WITH 1 INCREMENT BY " + INCREMENTO);
+
+        job = new AjusteSequenciasJob();
+        ReflectionTestUtils.setField(job, "jdbcTemplate", jdbcTemplate);
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        postgres.close();
+    }
+
+    /**
+     * Testa se a sequência de uma tabela com IDs anteriores é adiantada para além deles.
+     *
+     * Cenário:
+     *     Dado 120 pessoas gravadas com IDs de 1 a 120 e a sequência ainda no valor inicial.
+     *     Quando o ajuste é executado.
+     *     Então a próxima faixa de IDs entregue ao Hibernate deve começar acima de 120.
+     *     E a sequência de membros, com a tabela vazia, não deve ser alterada.
+     *
+     * @see AjusteSequenciasJob#ajustar()
+     */
+    @Test
+    public void testSequenceBehindExistingIdsIsAdvanced() {
+        // Preparação
+        jdbcTemplate.update("INSERT INTO pessoas (id) SELECT generate_series(1, 120)");
+
+        // Ação
+        job.ajustar();
+
+        // Verificações
+        assertTrue(inicioDaProximaFaixa("pessoas_seq") > 120);
+        assertEquals(1L, jdbcTemplate.queryForObject("SELECT nextval('membros_projeto_seq')", Long.class));
+    }
+
+    /**
+     * Testa se uma sequência já à frente dos IDs gravados não é recuada.
+     *
+     * Cenário:
+     *     Dado uma sequência que já entregou faixas até 500 e pessoas gravadas até o ID 120.
+     *     Quando o ajuste é executado.
+     *     Então a próxima faixa deve começar em 501, como sem o ajuste.
+     *
+     * @see AjusteSequenciasJob#ajustar()
+     */
+    @Test
+    public void testSequenceAheadOfIdsIsKept() {
+        // Preparação
+        jdbcTemplate.queryForObject("SELECT setval('pessoas_seq', 500)", Long.class);
+        jdbcTemplate.update("INSERT INTO pessoas (id) SELECT generate_series(1, 120)");
+
+        // Ação
+        job.ajustar();
+
+        // Verificações
+        assertEquals(501L, inicioDaProximaFaixa("pessoas_seq"));
+    }
+
+    // O otimizador "pooled" do Hibernate usa o valor da sequência como fim da faixa de IDs.
+    private long inicioDaProximaFaixa(String sequencia) {
+        Long valor = jdbcTemplate.queryForObject("SELECT nextval('" + sequencia + "')", Long.class);
+        return valor - INCREMENTO + 1;
+    }
+
+}
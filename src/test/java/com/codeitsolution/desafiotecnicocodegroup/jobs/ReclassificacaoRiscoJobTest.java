@@ -0,0 +1,107 @@
+package com.codeitsolution.desafiotecnicocodegroup.jobs;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.EstatisticasProjetosDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.EstatisticaProjetoServiceImpl;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.ProjetoServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.DefaultApplicationArguments;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class ReclassificacaoRiscoJobTest {
+
+    @Mock
+    private ProjetoRepository projetoRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private EstatisticaProjetoServiceImpl estatisticaProjetoService;
+    private ReclassificacaoRiscoJob job;
+
+    @BeforeEach
+    public void setUp() {
+        estatisticaProjetoService = new EstatisticaProjetoServiceImpl();
+        ReflectionTestUtils.setField(estatisticaProjetoService, "projetoRepository", projetoRepository);
+        ReflectionTestUtils.setField(estatisticaProjetoService, "meterRegistry", new SimpleMeterRegistry());
+
+        job = new ReclassificacaoRiscoJob();
+        ReflectionTestUtils.setField(job, "projetoRepository", projetoRepository);
+        ReflectionTestUtils.setField(job, "projetoService", new ProjetoServiceImpl());
+        ReflectionTestUtils.setField(job, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(job, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(job, "estatisticaProjetoService", estatisticaProjetoService);
+        ReflectionTestUtils.setField(job, "tamanhoLote", 500);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocacao ->
+                invocacao.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    /**
+     * Testa se a reclassificação atualiza a contagem de projetos por risco.
+     *
+     * Cenário:
+     *     Dado dois projetos gravados com risco baixo, um deles com orçamento de alto risco.
+     *     E as estatísticas carregadas a partir do banco.
+     *     Quando a reclassificação é executada.
+     *     Então as estatísticas devem trazer um projeto de risco baixo e um de risco alto.
+     *     E o total e o orçamento não devem mudar.
+     *
+     * @see ReclassificacaoRiscoJob#run
+     */
+    @Test
+    public void testRunReportsEachChangeToStatistics() {
+        // Preparação
+        Projeto desatualizado = projeto(1L, 600000f);
+        Projeto correto = projeto(2L, 50000f);
+        when(projetoRepository.agruparPorStatusERisco()).thenReturn(List.<Object[]>of(
+                new Object[] { StatusProjeto.EM_ANALISE, Risco.BAIXO, 2L, 650000d, 2L }));
+        when(projetoRepository.findPagina(any(), any(), any(), any(), any(), any(), any()))
+                .thenReturn(List.of(desatualizado, correto));
+        estatisticaProjetoService.carregar();
+
+        // Ação
+        job.run(new DefaultApplicationArguments());
+
+        // Verificações
+        EstatisticasProjetosDTO estatisticas = estatisticaProjetoService.obter();
+        assertEquals(Risco.ALTO, desatualizado.getRisco());
+        assertEquals(1L, estatisticas.getPorRisco().get(Risco.BAIXO));
+        assertEquals(0L, estatisticas.getPorRisco().get(Risco.MEDIO));
+        assertEquals(1L, estatisticas.getPorRisco().get(Risco.ALTO));
+        assertEquals(2L, estatisticas.getTotal());
+        assertEquals(650000d, estatisticas.getOrcamentoTotal(), 0.01);
+    }
+
+    private static Projeto projeto(Long id, Float orcamento) {
+        Projeto projeto = new Projeto();
+        projeto.setId(id);
+        projeto.setStatus(StatusProjeto.EM_ANALISE);
+        projeto.setRisco(Risco.BAIXO);
+        projeto.setOrcamento(orcamento);
+        projeto.setVersao(0L);
+        return projeto;
+    }
+
+}
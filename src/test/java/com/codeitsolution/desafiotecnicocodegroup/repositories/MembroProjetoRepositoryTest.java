@@ -0,0 +1,122 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories;
+
+import com.codeitsolution.desafiotecnicocodegroup.ConsultasConfig;
+import com.codeitsolution.desafiotecnicocodegroup.ContadorConsultas;
+import com.codeitsolution.desafiotecnicocodegroup.entities.MembroProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.MembroResumoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoResumoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Conta os comandos SQL pelo proxy do DataSource (ContadorConsultas), o mesmo usado nas requisições.
+@DataJpaTest
+@Import(ConsultasConfig.class)
+public class MembroProjetoRepositoryTest {
+
+    private static final int QUANTIDADE_MEMBROS = 20;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MembroProjetoRepository membroProjetoRepository;
+
+    private Projeto projeto;
+    private List<Long> pessoaIds;
+
+    @BeforeEach
+    public void setUp() {
+        Pessoa gerente = new Pessoa();
+        gerente.setNome("Gerente");
+        gerente.setAtribuicao("gerente");
+        entityManager.persist(gerente);
+
+        projeto = new Projeto();
+        projeto.setNome("Projeto");
+        projeto.setStatus(StatusProjeto.EM_ANALISE);
+        projeto.setGerente(gerente);
+        entityManager.persist(projeto);
+
+        pessoaIds = new ArrayList<>();
+        for (int i = 0; i < QUANTIDADE_MEMBROS; i++) {
+            Pessoa pessoa = new Pessoa();
+            pessoa.setNome("Funcionário " + i);
+            pessoa.setAtribuicao("funcionario");
+            entityManager.persist(pessoa);
+            pessoaIds.add(pessoa.getId());
+
+            MembroProjeto membro = new MembroProjeto();
+            membro.setProjeto(projeto);
+            membro.setPessoa(pessoa);
+            entityManager.persist(membro);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        ContadorConsultas.iniciar();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ContadorConsultas.encerrar();
+    }
+
+    /**
+     * Testa se {@code findMembros} lista a página de membros com um único comando SQL.
+     *
+     * Cenário:
+     *     Dado um projeto com 20 membros.
+     *     Quando a primeira página de membros é consultada.
+     *     Então exatamente um comando SQL deve ser executado.
+     *
+     * @see MembroProjetoRepository#findMembros
+     */
+    @Test
+    public void testFindMembrosUsesSingleStatement() {
+        // Ação
+        List<MembroResumoDTO> membros = membroProjetoRepository.findMembros(projeto.getId(), 0L,
+                PageRequest.of(0, QUANTIDADE_MEMBROS + 1));
+        ContadorConsultas contador = ContadorConsultas.encerrar();
+
+        // Verificações
+        assertEquals(QUANTIDADE_MEMBROS, membros.size());
+        assertEquals(1, contador.getQuantidade());
+    }
+
+    /**
+     * Testa se {@code findProjetos} lista os projetos de uma pessoa com um único comando SQL.
+     *
+     * Cenário:
+     *     Dado um funcionário membro de um projeto.
+     *     Quando os projetos do funcionário são consultados.
+     *     Então exatamente um comando SQL deve ser executado.
+     *
+     * @see MembroProjetoRepository#findProjetos
+     */
+    @Test
+    public void testFindProjetosUsesSingleStatement() {
+        // Ação
+        List<ProjetoResumoDTO> projetos = membroProjetoRepository.findProjetos(pessoaIds.get(0), 0L,
+                PageRequest.of(0, 10));
+        ContadorConsultas contador = ContadorConsultas.encerrar();
+
+        // Verificações
+        assertEquals(1, projetos.size());
+        assertEquals(1, contador.getQuantidade());
+    }
+
+}
@@ -0,0 +1,106 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Sem a transação do teste: o cache de segundo nível só recebe as entidades após o commit.
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PessoaRepositoryTest {
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Pessoa gerente;
+    private Statistics estatisticas;
+
+    @BeforeEach
+    public void setUp() {
+        gerente = new Pessoa();
+        gerente.setNome("Gerente");
+        gerente.setAtribuicao("gerente");
+        gerente = pessoaRepository.save(gerente);
+
+        estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        projetoRepository.deleteAll();
+        pessoaRepository.deleteAll();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    /**
+     * Testa se {@code findById} é atendido pelo cache de segundo nível.
+     *
+     * Cenário:
+     *     Dado uma pessoa recém-gravada.
+     *     Quando ela é consultada por ID duas vezes, em transações diferentes.
+     *     Então nenhum comando SQL deve ser executado.
+     *     E as duas consultas devem ser acertos no cache.
+     *
+     * @see PessoaRepository#findById(Object)
+     */
+    @Test
+    public void testFindByIdIsServedFromSecondLevelCache() {
+        // Ação
+        pessoaRepository.findById(gerente.getId());
+        pessoaRepository.findById(gerente.getId());
+
+        // Verificações
+        assertEquals(0, estatisticas.getPrepareStatementCount());
+        assertEquals(2, estatisticas.getSecondLevelCacheHitCount());
+    }
+
+    /**
+     * Testa se o gerente de um projeto carregado por ID vem do cache de segundo nível.
+     *
+     * Cenário:
+     *     Dado um projeto cujo gerente já está no cache.
+     *     Quando o projeto é consultado por ID.
+     *     Então apenas o comando SQL do projeto deve ser executado.
+     *     E o gerente deve ser um acerto no cache.
+     *
+     * @see ProjetoRepository#findById(Object)
+     */
+    @Test
+    public void testGerenteIsResolvedFromSecondLevelCache() {
+        // Preparação
+        Projeto projeto = new Projeto();
+        projeto.setNome("Projeto");
+        projeto.setStatus(StatusProjeto.EM_ANALISE);
+        projeto.setGerente(gerente);
+        projeto = projetoRepository.save(projeto);
+        estatisticas.clear();
+
+        // Ação
+        Projeto carregado = projetoRepository.findById(projeto.getId()).orElseThrow();
+
+        // Verificações
+        assertEquals("Gerente", carregado.getGerente().getNome());
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+        assertEquals(1, estatisticas.getSecondLevelCacheHitCount());
+    }
+
+}
@@ -0,0 +1,254 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.EstatisticasProjetosDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.Risco;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.EstatisticaProjetoServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Gravações concorrentes na mesma linha, cada uma na sua transação e na sua conexão. Os testes não
+// rodam dentro da transação do @DataJpaTest: a segunda gravação precisa esperar o commit da primeira.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ProjetoEscritaRepositoryPostgresTest {
+
+    @TestConfiguration
+    static class PostgresEmbutido {
+
+        @Bean(destroyMethod = "close")
+        public EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.builder().start();
+        }
+
+        @Bean
+        public DataSource dataSource(EmbeddedPostgres postgres) {
+            return postgres.getPostgresDatabase();
+        }
+    }
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private PessoaRepository pessoaRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private TransactionTemplate transacao;
+    private ExecutorService threads;
+    private Projeto projeto;
+
+    @BeforeEach
+    public void setUp() {
+        transacao = new TransactionTemplate(transactionManager);
+        threads = Executors.newFixedThreadPool(2);
+        projetoRepository.deleteAll();
+
+        Pessoa gerente = new Pessoa();
+        gerente.setNome("Gerente");
+        gerente.setAtribuicao("gerente");
+        gerente = pessoaRepository.save(gerente);
+
+        projeto = new Projeto();
+        projeto.setNome("Projeto");
+        projeto.setOrcamento(50000f);
+        projeto.setRisco(Risco.BAIXO);
+        projeto.setStatus(StatusProjeto.EM_ANALISE);
+        projeto.setGerente(gerente);
+        projeto = projetoRepository.save(projeto);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        threads.shutdownNow();
+    }
+
+    /**
+     * Testa se duas atualizações simultâneas do mesmo projeto retornam, cada uma, o estado que substituíram.
+     *
+     * Cenário:
+     *     Dado um projeto de risco baixo e as estatísticas carregadas do banco.
+     *     E uma primeira atualização, para risco médio, que ainda não fez commit.
+     *     Quando uma segunda atualização, para risco alto, espera pelo bloqueio da linha e só então é aplicada.
+     *     Então a segunda deve retornar como anterior o estado gravado pela primeira, com a versão 1.
+     *     E as estatísticas alimentadas pelas duas devem coincidir com as recarregadas do banco.
+     *
+     * @see ProjetoRepository#atualizar(Projeto)
+     */
+    @Test
+    public void testConcurrentUpdatesReturnTheStateEachReplaced() throws Exception {
+        // Preparação
+        EstatisticaProjetoServiceImpl estatisticas = estatisticas();
+        Projeto medio = alteracao(200000f, Risco.MEDIO);
+        Projeto alto = alteracao(600000f, Risco.ALTO);
+
+        // Ação
+        List<ProjetoEstadoDTO> anteriores = concorrentes(
+                () -> projetoRepository.atualizar(medio).orElseThrow(),
+                () -> projetoRepository.atualizar(alto).orElseThrow());
+        estatisticas.registrar(anteriores.get(0), estado(medio));
+        estatisticas.registrar(anteriores.get(1), estado(alto));
+
+        // Verificações
+        assertEquals(new ProjetoEstadoDTO(StatusProjeto.EM_ANALISE, Risco.BAIXO, 50000f, 0L), anteriores.get(0));
+        assertEquals(new ProjetoEstadoDTO(StatusProjeto.EM_ANALISE, Risco.MEDIO, 200000f, 1L), anteriores.get(1));
+        assertMesmasEstatisticas(estatisticas(), estatisticas);
+    }
+
+    /**
+     * Testa se duas transições de status simultâneas do mesmo projeto retornam, cada uma, o status que substituíram.
+     *
+     * Cenário:
+     *     Dado um projeto em análise e as estatísticas carregadas do banco.
+     *     E uma primeira transição, para análise realizada, que ainda não fez commit.
+     *     Quando uma segunda transição, para cancelado, espera pelo bloqueio da linha e só então é aplicada.
+     *     Então a segunda deve retornar análise realizada como status anterior, com a versão 2.
+     *     E as estatísticas alimentadas pelas duas devem coincidir com as recarregadas do banco.
+     *
+     * @see ProjetoRepository#mudarStatusSePermitido
+     */
+    @Test
+    public void testConcurrentStatusChangesReturnTheStatusEachReplaced() throws Exception {
+        // Preparação
+        EstatisticaProjetoServiceImpl estatisticas = estatisticas();
+        List<Long> ids = List.of(projeto.getId());
+
+        // Ação
+        List<List<Object[]>> linhas = concorrentes(
+                () -> projetoRepository.mudarStatusSePermitido(ids, StatusProjeto.ANALISE_REALIZADA.name(),
+                        List.of(StatusProjeto.EM_ANALISE.name()), false),
+                () -> projetoRepository.mudarStatusSePermitido(ids, StatusProjeto.CANCELADO.name(),
+                        List.of(StatusProjeto.EM_ANALISE.name(), StatusProjeto.ANALISE_REALIZADA.name()), false));
+        estatisticas.registrar(estadoStatus((String) linhas.get(0).get(0)[1]), estadoStatus(StatusProjeto.ANALISE_REALIZADA.name()));
+        estatisticas.registrar(estadoStatus((String) linhas.get(1).get(0)[1]), estadoStatus(StatusProjeto.CANCELADO.name()));
+
+        // Verificações
+        assertEquals(1, linhas.get(0).size());
+        assertEquals(StatusProjeto.EM_ANALISE.name(), linhas.get(0).get(0)[1]);
+        assertEquals(1, linhas.get(1).size());
+        assertEquals(StatusProjeto.ANALISE_REALIZADA.name(), linhas.get(1).get(0)[1]);
+        assertEquals(2L, ((Number) linhas.get(1).get(0)[2]).longValue());
+        assertMesmasEstatisticas(estatisticas(), estatisticas);
+    }
+
+    // Executa "primeira" e "segunda" em transações simultâneas: a primeira grava e segura o commit
+    // até a segunda estar parada no bloqueio da linha. Retorna os resultados das duas, nessa ordem.
+    private <T> List<T> concorrentes(Callable<T> primeira, Callable<T> segunda) throws Exception {
+        CountDownLatch gravou = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        Future<T> resultadoPrimeira = threads.submit(() -> transacao.execute(status -> {
+            try {
+                T resultado = primeira.call();
+                gravou.countDown();
+                assertTrue(liberar.await(10, TimeUnit.SECONDS));
+                return resultado;
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        assertTrue(gravou.await(10, TimeUnit.SECONDS));
+
+        Future<T> resultadoSegunda = threads.submit(() -> transacao.execute(status -> {
+            try {
+                return segunda.call();
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }));
+        aguardar(() -> consultasBloqueadas() == 1);
+        liberar.countDown();
+
+        return List.of(resultadoPrimeira.get(10, TimeUnit.SECONDS), resultadoSegunda.get(10, TimeUnit.SECONDS));
+    }
+
+    private Projeto alteracao(Float orcamento, Risco risco) {
+        Projeto alteracao = new Projeto();
+        alteracao.setId(projeto.getId());
+        alteracao.setNome(projeto.getNome());
+        alteracao.setOrcamento(orcamento);
+        alteracao.setRisco(risco);
+        alteracao.setStatus(projeto.getStatus());
+        alteracao.setGerente(projeto.getGerente());
+        return alteracao;
+    }
+
+    private static ProjetoEstadoDTO estado(Projeto projeto) {
+        return new ProjetoEstadoDTO(projeto.getStatus(), projeto.getRisco(), projeto.getOrcamento(), null);
+    }
+
+    // Como em ProjetoServiceImpl#mudarStatusEmLote, a transição só informa o status.
+    private static ProjetoEstadoDTO estadoStatus(String status) {
+        return new ProjetoEstadoDTO(StatusProjeto.valueOf(status), null, null, null);
+    }
+
+    // Estatísticas carregadas do estado atual do banco.
+    private EstatisticaProjetoServiceImpl estatisticas() {
+        EstatisticaProjetoServiceImpl estatisticas = new EstatisticaProjetoServiceImpl();
+        ReflectionTestUtils.setField(estatisticas, "projetoRepository", projetoRepository);
+        ReflectionTestUtils.setField(estatisticas, "meterRegistry", new SimpleMeterRegistry());
+        estatisticas.carregar();
+        return estatisticas;
+    }
+
+    private static void assertMesmasEstatisticas(EstatisticaProjetoServiceImpl esperadas, EstatisticaProjetoServiceImpl obtidas) {
+        EstatisticasProjetosDTO esperado = esperadas.obter();
+        EstatisticasProjetosDTO obtido = obtidas.obter();
+        assertEquals(esperado.getTotal(), obtido.getTotal());
+        assertEquals(esperado.getPorStatus(), obtido.getPorStatus());
+        assertEquals(esperado.getPorRisco(), obtido.getPorRisco());
+        assertEquals(esperado.getOrcamentoTotal(), obtido.getOrcamentoTotal(), 0.01);
+    }
+
+    // Comandos parados no banco à espera de um bloqueio.
+    private int consultasBloqueadas() {
+        Integer bloqueadas = new JdbcTemplate(dataSource).queryForObject(
+                "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'", Integer.class);
+        return bloqueadas != null ? bloqueadas : 0;
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long prazo = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condicao.getAsBoolean()) {
+            assertTrue(System.nanoTime() < prazo, "Condição não atingida em 10 segundos");
+            Thread.sleep(10);
+        }
+    }
+
+}
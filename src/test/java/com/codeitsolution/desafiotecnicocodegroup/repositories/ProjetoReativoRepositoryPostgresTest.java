@@ -0,0 +1,196 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.impls.ProjetoReativoRepositoryImpl;
+import io.r2dbc.spi.Closeable;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Requisições em andamento contra threads ocupadas, com o driver R2DBC que a aplicação usa em
+// produção. As consultas ficam presas num LOCK TABLE mantido pelo teste, de modo que a medição
+// acontece enquanto nenhuma delas consegue terminar.
+public class ProjetoReativoRepositoryPostgresTest {
+
+    private static final int QUANTIDADE_PROJETOS = 100;
+    private static final int REQUISICOES_SIMULTANEAS = 500;
+
+    // Mesmo número de conexões nos dois caminhos: o pool R2DBC e as threads do caminho bloqueante.
+    private static final int CONEXOES = 10;
+
+    private static final String SELECT_POR_ID = "SELECT p.id, p.orcamento, g.nome FROM projetos p " +
+            "LEFT JOIN pessoas g ON g.id = p.idgerente WHERE p.id = ?";
+
+    private static EmbeddedPostgres postgres;
+    private static ConnectionFactory connectionFactory;
+    private static ProjetoReativoRepository projetoReativoRepository;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    public static void iniciarPostgres() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        jdbcTemplate.execute("CREATE TABLE pessoas (id BIGINT PRIMARY KEY, nome VARCHAR(100) NOT NULL, " +
+                "datanascimento TIMESTAMP, cpf VARCHAR(14), funcionario BOOLEAN, atribuicao VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE projetos (id BIGINT PRIMARY KEY, nome VARCHAR(200) NOT NULL, " +
+                "data_inicio TIMESTAMP, data_previsao_fim TIMESTAMP, data_fim TIMESTAMP, descricao VARCHAR(5000), " +
+                "orcamento REAL, risco VARCHAR(45), status VARCHAR(45), iniciado BOOLEAN, versao BIGINT NOT NULL, idgerente BIGINT NOT NULL)");
+        jdbcTemplate.update("INSERT INTO pessoas (id, nome, atribuicao) VALUES (1, 'Gerente', 'gerente')");
+        jdbcTemplate.update("INSERT INTO projetos (id, nome, orcamento, status, versao, idgerente) " +
+                "SELECT id, 'Projeto ' || id, 250000, 'EM_ANALISE', 0, 1 FROM generate_series(1, ?) AS id",
+                QUANTIDADE_PROJETOS);
+
+        connectionFactory = ConnectionFactories.get(ConnectionFactoryOptions.parse(
+                        "r2dbc:pool:postgresql://localhost:" + postgres.getPort() + "/postgres" +
+                                "?initialSize=" + CONEXOES + "&maxSize=" + CONEXOES)
+                .mutate()
+                .option(ConnectionFactoryOptions.USER, "postgres")
+                .build());
+        projetoReativoRepository = new ProjetoReativoRepositoryImpl(connectionFactory);
+    }
+
+    @AfterAll
+    public static void encerrarPostgres() throws IOException {
+        Mono.from(((Closeable) connectionFactory).close()).block();
+        postgres.close();
+    }
+
+    /**
+     * Testa se o caminho reativo mantém mais requisições em andamento do que threads ocupadas.
+     *
+     * Cenário:
+     *     Dado que a tabela de projetos está bloqueada por outra transação.
+     *     E que as conexões do pool e as threads do driver já foram criadas.
+     *     Quando 500 consultas por ID são disparadas de uma só vez.
+     *     Então todas devem continuar em andamento enquanto o bloqueio durar.
+     *     E a JVM deve ganhar menos de 50 threads para atendê-las.
+     *     E, liberado o bloqueio, as 500 devem retornar o projeto.
+     *
+     * @see ProjetoReativoRepository#findById(Long)
+     */
+    @Test
+    public void testReactiveRequestsInFlightExceedThreads() throws Exception {
+        // Preparação
+        Flux.range(1, CONEXOES * 2)
+                .flatMap(id -> projetoReativoRepository.findById((long) id))
+                .blockLast();
+        int threadsAntes = ManagementFactory.getThreadMXBean().getThreadCount();
+        List<Projeto> projetos = new CopyOnWriteArrayList<>();
+        AtomicInteger concluidas = new AtomicInteger();
+
+        try (Connection bloqueio = bloquearProjetos()) {
+            // Ação
+            Disposable consultas = Flux.range(0, REQUISICOES_SIMULTANEAS)
+                    .flatMap(i -> projetoReativoRepository.findById((long) (i % QUANTIDADE_PROJETOS) + 1)
+                            .doOnNext(projetos::add)
+                            .doFinally(sinal -> concluidas.incrementAndGet()),
+                            REQUISICOES_SIMULTANEAS)
+                    .subscribe();
+            aguardar(() -> consultasBloqueadas() == CONEXOES);
+            int emAndamento = REQUISICOES_SIMULTANEAS - concluidas.get();
+            int threadsNovas = ManagementFactory.getThreadMXBean().getThreadCount() - threadsAntes;
+            bloqueio.rollback();
+
+            // Verificações
+            assertEquals(REQUISICOES_SIMULTANEAS, emAndamento);
+            assertTrue(threadsNovas < REQUISICOES_SIMULTANEAS / 10,
+                    "Threads criadas para " + emAndamento + " requisições: " + threadsNovas);
+            aguardar(() -> concluidas.get() == REQUISICOES_SIMULTANEAS);
+            consultas.dispose();
+        }
+        assertEquals(REQUISICOES_SIMULTANEAS, projetos.size());
+        projetos.forEach(projeto -> assertEquals("Gerente", projeto.getGerente().getNome()));
+    }
+
+    /**
+     * Testa, como referência, que no caminho bloqueante cada requisição em andamento ocupa uma thread.
+     *
+     * Cenário:
+     *     Dado que a tabela de projetos está bloqueada por outra transação.
+     *     E um executor com 10 threads fazendo a mesma consulta por JDBC.
+     *     Quando 500 consultas por ID são submetidas de uma só vez.
+     *     Então apenas 10 devem estar em andamento, uma por thread; as demais aguardam na fila.
+     *     E, liberado o bloqueio, as 500 devem terminar.
+     *
+     * @see ProjetoRepository#findById(Object)
+     */
+    @Test
+    public void testBlockingRequestsInFlightMatchThreads() throws Exception {
+        // Preparação
+        ExecutorService threads = Executors.newFixedThreadPool(CONEXOES);
+        AtomicInteger iniciadas = new AtomicInteger();
+        List<Future<?>> consultas = new ArrayList<>();
+
+        try (Connection bloqueio = bloquearProjetos()) {
+            // Ação
+            for (int i = 0; i < REQUISICOES_SIMULTANEAS; i++) {
+                long id = (i % QUANTIDADE_PROJETOS) + 1;
+                consultas.add(threads.submit(() -> {
+                    iniciadas.incrementAndGet();
+                    return jdbcTemplate.queryForMap(SELECT_POR_ID, id);
+                }));
+            }
+            aguardar(() -> consultasBloqueadas() == CONEXOES);
+            int emAndamento = iniciadas.get();
+            bloqueio.rollback();
+
+            // Verificações
+            assertEquals(CONEXOES, emAndamento);
+            for (Future<?> consulta : consultas) {
+                consulta.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+        assertEquals(REQUISICOES_SIMULTANEAS, iniciadas.get());
+    }
+
+    // Mantém a tabela bloqueada até o rollback (ou o fechamento) da conexão retornada.
+    private static Connection bloquearProjetos() throws SQLException {
+        Connection conexao = postgres.getPostgresDatabase().getConnection();
+        conexao.setAutoCommit(false);
+        conexao.createStatement().execute("LOCK TABLE projetos IN ACCESS EXCLUSIVE MODE");
+        return conexao;
+    }
+
+    // Consultas paradas no banco à espera do bloqueio da tabela.
+    private static int consultasBloqueadas() {
+        Integer bloqueadas = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_stat_activity WHERE wait_event_type = 'Lock'", Integer.class);
+        return bloqueadas != null ? bloqueadas : 0;
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long prazo = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condicao.getAsBoolean()) {
+            assertTrue(System.nanoTime() < prazo, "Condição não atingida em 10 segundos");
+            Thread.sleep(10);
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoFiltroDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.impls.ProjetoReativoRepositoryImpl;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ProjetoReativoRepositoryTest {
+
+    private static final int QUANTIDADE_PROJETOS = 300;
+
+    private ProjetoReativoRepository projetoReativoRepository;
+
+    private DatabaseClient client;
+
+    @BeforeEach
+    public void setUp() {
+        ConnectionFactory connectionFactory = ConnectionFactories.get(
+                "r2dbc:h2:mem:///" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1");
+        client = DatabaseClient.create(connectionFactory);
+
+        client.sql("CREATE TABLE pessoas (id BIGINT PRIMARY KEY, nome VARCHAR(100) NOT NULL, datanascimento TIMESTAMP, " +
+                "cpf VARCHAR(14), funcionario BOOLEAN, atribuicao VARCHAR(100))").then().block();
+        client.sql("CREATE TABLE projetos (id BIGINT PRIMARY KEY, nome VARCHAR(200) NOT NULL, data_inicio TIMESTAMP, " +
+                "data_previsao_fim TIMESTAMP, data_fim TIMESTAMP, descricao VARCHAR(5000), orcamento REAL, " +
+                "risco VARCHAR(45), status VARCHAR(45), iniciado BOOLEAN, versao BIGINT NOT NULL, idgerente BIGINT NOT NULL)").then().block();
+        client.sql("INSERT INTO pessoas (id, nome, atribuicao) VALUES (1, 'Gerente', 'gerente')").then().block();
+        Flux.range(1, QUANTIDADE_PROJETOS)
+                .concatMap(id -> client.sql("INSERT INTO projetos (id, nome, orcamento, status, versao, idgerente) " +
+                                "VALUES (:id, :nome, 250000, 'EM_ANALISE', 0, 1)")
+                        .bind("id", (long) id)
+                        .bind("nome", "Projeto " + id)
+                        .then())
+                .blockLast();
+
+        projetoReativoRepository = new ProjetoReativoRepositoryImpl(connectionFactory);
+    }
+
+    /**
+     * Testa se {@code findAll} transmite todos os projetos em ordem, com o gerente preenchido.
+     *
+     * Cenário:
+     *     Dado que existem 300 projetos de um mesmo gerente.
+     *     Quando todos os projetos são consumidos.
+     *     Então os 300 projetos devem chegar ordenados por ID.
+     *     E cada um deve trazer o nome do gerente.
+     *
+     * @see ProjetoReativoRepository#findAll(Long, ProjetoFiltroDTO)
+     */
+    @Test
+    public void testFindAllStreamsProjetosWithGerente() {
+        // Ação
+        List<Projeto> projetos = projetoReativoRepository.findAll(null, null).collectList().block(Duration.ofSeconds(10));
+
+        // Verificações
+        assertNotNull(projetos);
+        assertEquals(QUANTIDADE_PROJETOS, projetos.size());
+        for (int i = 0; i < projetos.size(); i++) {
+            assertEquals(i + 1L, projetos.get(i).getId());
+            assertEquals("Gerente", projetos.get(i).getGerente().getNome());
+        }
+    }
+
+    /**
+     * Testa se {@code findAll} respeita a demanda do assinante.
+     *
+     * Cenário:
+     *     Dado um assinante que solicita apenas 5 projetos.
+     *     Quando a transmissão é iniciada.
+     *     Então exatamente 5 projetos devem ser entregues, mesmo havendo 300 no banco.
+     *
+     * @see ProjetoReativoRepository#findAll(Long, ProjetoFiltroDTO)
+     */
+    @Test
+    public void testFindAllHonoursBackpressure() throws InterruptedException {
+        // Preparação
+        List<Projeto> recebidos = new CopyOnWriteArrayList<>();
+        BaseSubscriber<Projeto> assinante = new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+                request(5);
+            }
+
+            @Override
+            protected void hookOnNext(Projeto projeto) {
+                recebidos.add(projeto);
+            }
+        };
+
+        // Ação
+        projetoReativoRepository.findAll(null, null).subscribe(assinante);
+        long limite = System.currentTimeMillis() + 5000;
+        while (recebidos.size() < 5 && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(200);
+        assinante.dispose();
+
+        // Verificações
+        assertEquals(5, recebidos.size());
+    }
+
+    /**
+     * Testa se {@code findAll} aplica o cursor e os filtros de GET /projetos.
+     *
+     * Cenário:
+     *     Dado que os projetos com ID múltiplo de 3 estão iniciados.
+     *     Quando são buscados os projetos iniciados depois do ID 150.
+     *     Então devem chegar apenas os 50 projetos iniciados de ID 153 a 300, em ordem.
+     *     E um filtro por gerente inexistente não deve retornar projetos.
+     *
+     * @see ProjetoReativoRepository#findAll(Long, ProjetoFiltroDTO)
+     */
+    @Test
+    public void testFindAllAppliesCursorAndFilters() {
+        // Preparação
+        client.sql("UPDATE projetos SET status = 'INICIADO' WHERE MOD(id, 3) = 0").then().block();
+        ProjetoFiltroDTO iniciados = new ProjetoFiltroDTO();
+        iniciados.setStatus(StatusProjeto.INICIADO);
+        ProjetoFiltroDTO outroGerente = new ProjetoFiltroDTO();
+        outroGerente.setGerenteId(2L);
+
+        // Ação
+        List<Projeto> projetos = projetoReativoRepository.findAll(150L, iniciados)
+                .collectList().block(Duration.ofSeconds(10));
+        List<Projeto> doOutroGerente = projetoReativoRepository.findAll(null, outroGerente)
+                .collectList().block(Duration.ofSeconds(10));
+
+        // Verificações
+        assertNotNull(projetos);
+        assertEquals(50, projetos.size());
+        for (int i = 0; i < projetos.size(); i++) {
+            assertEquals(153L + 3L * i, projetos.get(i).getId());
+            assertEquals(StatusProjeto.INICIADO, projetos.get(i).getStatus());
+        }
+        assertNotNull(doOutroGerente);
+        assertTrue(doOutroGerente.isEmpty());
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Mesmas consultas de ProjetoRepositoryTest, mas no PostgreSQL (embutido), que é mais estrito que o H2
+// quanto aos tipos dos parâmetros.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+public class ProjetoRepositoryPostgresTest {
+
+    @TestConfiguration
+    static class PostgresEmbutido {
+
+        @Bean(destroyMethod = "close")
+        public EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.builder().start();
+        }
+
+        @Bean
+        public DataSource dataSource(EmbeddedPostgres postgres) {
+            return postgres.getPostgresDatabase();
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    private Pessoa gerente;
+
+    @BeforeEach
+    public void setUp() {
+        gerente = new Pessoa();
+        gerente.setNome("Gerente");
+        gerente.setAtribuicao("gerente");
+        entityManager.persist(gerente);
+
+        Pessoa outroGerente = new Pessoa();
+        outroGerente.setNome("Outro gerente");
+        outroGerente.setAtribuicao("gerente");
+        entityManager.persist(outroGerente);
+
+        for (int i = 1; i <= 10; i++) {
+            Projeto projeto = new Projeto();
+            projeto.setNome("Projeto " + i);
+            projeto.setOrcamento(50000f);
+            projeto.setStatus(StatusProjeto.EM_ANALISE);
+            projeto.setDataInicio(new Date(1_700_000_000_000L + i * 86_400_000L));
+            projeto.setGerente(i % 2 == 0 ? gerente : outroGerente);
+            entityManager.persist(projeto);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Testa {@code findPagina} sem nenhum filtro, como na listagem padrão e na reclassificação de risco.
+     *
+     * Cenário:
+     *     Dado que existem 10 projetos.
+     *     Quando a primeira página é consultada com todos os filtros nulos.
+     *     Então a consulta deve ser aceita pelo PostgreSQL e retornar os 10 projetos em ordem de ID.
+     *
+     * @see ProjetoRepository#findPagina
+     */
+    @Test
+    public void testFindPaginaWithoutFilters() {
+        // Ação
+        List<Projeto> projetos = projetoRepository.findPagina(0L, null, null, null, null, null, PageRequest.of(0, 20));
+
+        // Verificações
+        assertEquals(10, projetos.size());
+        for (int i = 1; i < projetos.size(); i++) {
+            assertTrue(projetos.get(i - 1).getId() < projetos.get(i).getId());
+        }
+    }
+
+    /**
+     * Testa {@code findPagina} com parte dos filtros informada.
+     *
+     * Cenário:
+     *     Dado que metade dos projetos pertence ao mesmo gerente, com datas de início em dias seguidos.
+     *     Quando a página é consultada pelo gerente e pela data de início mínima, com os demais filtros nulos.
+     *     Então apenas os projetos desse gerente a partir daquela data devem ser retornados.
+     *
+     * @see ProjetoRepository#findPagina
+     */
+    @Test
+    public void testFindPaginaWithSomeFilters() {
+        // Preparação
+        Date aPartirDe = new Date(1_700_000_000_000L + 6 * 86_400_000L);
+
+        // Ação
+        List<Projeto> projetos = projetoRepository.findPagina(0L, null, null, gerente.getId(), aPartirDe, null,
+                PageRequest.of(0, 20));
+
+        // Verificações
+        assertEquals(List.of("Projeto 6", "Projeto 8", "Projeto 10"), projetos.stream().map(Projeto::getNome).toList());
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.codeitsolution.desafiotecnicocodegroup.repositories;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class ProjetoRepositoryTest {
+
+    private static final int QUANTIDADE_GERENTES = 3;
+    private static final int QUANTIDADE_PROJETOS = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    private Statistics estatisticas;
+
+    @BeforeEach
+    public void setUp() {
+        for (int g = 0; g < QUANTIDADE_GERENTES; g++) {
+            Pessoa gerente = new Pessoa();
+            gerente.setNome("Gerente " + g);
+            gerente.setAtribuicao("gerente");
+            entityManager.persist(gerente);
+
+            for (int p = 0; p < QUANTIDADE_PROJETOS / QUANTIDADE_GERENTES; p++) {
+                Projeto projeto = new Projeto();
+                projeto.setNome("Projeto " + g + "-" + p);
+                projeto.setOrcamento(50000f);
+                projeto.setStatus(StatusProjeto.EM_ANALISE);
+                projeto.setGerente(gerente);
+                entityManager.persist(projeto);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        estatisticas = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estatisticas.clear();
+    }
+
+    /**
+     * Testa se {@code findPagina} carrega os projetos e seus gerentes com um único comando SQL.
+     *
+     * Cenário:
+     *     Dado que existem 30 projetos distribuídos entre 3 gerentes.
+     *     Quando a página com todos os projetos é consultada.
+     *     Então exatamente um comando SQL deve ser executado.
+     *     E todos os projetos devem vir com o gerente carregado.
+     *
+     * @see ProjetoRepository#findPagina
+     */
+    @Test
+    public void testFindPaginaLoadsGerenteWithSingleStatement() {
+        // Ação
+        List<Projeto> projetos = projetoRepository.findPagina(0L, null, null, null, null, null,
+                PageRequest.of(0, QUANTIDADE_PROJETOS + 1));
+
+        // Verificações
+        assertEquals(QUANTIDADE_PROJETOS, projetos.size());
+        projetos.forEach(projeto -> assertNotNull(projeto.getGerente().getNome()));
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+    }
+
+    /**
+     * Testa se {@code findAll} carrega os projetos e seus gerentes com um único comando SQL.
+     *
+     * Cenário:
+     *     Dado que existem 30 projetos distribuídos entre 3 gerentes.
+     *     Quando todos os projetos são consultados.
+     *     Então exatamente um comando SQL deve ser executado.
+     *
+     * @see ProjetoRepository#findAll()
+     */
+    @Test
+    public void testFindAllLoadsGerenteWithSingleStatement() {
+        // Ação
+        List<Projeto> projetos = projetoRepository.findAll();
+
+        // Verificações
+        assertEquals(QUANTIDADE_PROJETOS, projetos.size());
+        assertEquals(1, estatisticas.getPrepareStatementCount());
+    }
+
+}
@@ -0,0 +1,238 @@
+package com.codeitsolution.desafiotecnicocodegroup.services;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.AcaoHistorico;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.HistoricoProjetoServiceImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+// A transferência dos pendentes usa DELETE ... RETURNING dentro de uma CTE e FOR UPDATE SKIP LOCKED, que o H2 não
+// suporta; por isso roda no PostgreSQL embutido.
+public class HistoricoProjetoServiceTest {
+
+    private static final String COLUNAS = "id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " +
+            "idprojeto BIGINT NOT NULL, acao VARCHAR(20) NOT NULL, status_anterior VARCHAR(45), " +
+            "status_novo VARCHAR(45), versao BIGINT, data_hora TIMESTAMP NOT NULL";
+
+    private static EmbeddedPostgres postgres;
+
+    private HistoricoProjetoServiceImpl historicoProjetoService;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeAll
+    public static void iniciarPostgres() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+    }
+
+    @AfterAll
+    public static void encerrarPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+        jdbcTemplate.execute("DROP TABLE IF EXISTS projeto_historico, projeto_historico_pendente");
+        jdbcTemplate.execute("CREATE TABLE projeto_historico (" + COLUNAS + ")");
+        jdbcTemplate.execute("CREATE TABLE projeto_historico_pendente (" + COLUNAS + ")");
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(postgres.getPostgresDatabase()));
+        meterRegistry = new SimpleMeterRegistry();
+
+        historicoProjetoService = new HistoricoProjetoServiceImpl();
+        ReflectionTestUtils.setField(historicoProjetoService, "jdbcTemplate", jdbcTemplate);
+        ReflectionTestUtils.setField(historicoProjetoService, "transactionTemplate", transactionTemplate);
+        ReflectionTestUtils.setField(historicoProjetoService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(historicoProjetoService, "capacidade", 10000);
+        ReflectionTestUtils.setField(historicoProjetoService, "esperaMs", 50L);
+        ReflectionTestUtils.setField(historicoProjetoService, "tamanhoLote", 200);
+        ReflectionTestUtils.setField(historicoProjetoService, "intervaloMs", 1000L);
+        ReflectionTestUtils.setField(historicoProjetoService, "prazoEncerramentoMs", 30000L);
+        historicoProjetoService.configurar();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        historicoProjetoService.stop();
+    }
+
+    /**
+     * Testa se o encerramento grava todos os registros da fila.
+     *
+     * Cenário:
+     *     Dado que 1000 alterações foram registradas com o escritor em execução.
+     *     Quando o escritor é encerrado.
+     *     Então as 1000 linhas devem estar no histórico e nenhuma pendente.
+     *     E a fila deve estar vazia.
+     *
+     * @see HistoricoProjetoServiceImpl#stop()
+     */
+    @Test
+    public void testStopDrainsQueue() {
+        // Preparação
+        historicoProjetoService.start();
+        for (long id = 1; id <= 1000; id++) {
+            historicoProjetoService.registrar(id, AcaoHistorico.STATUS_ALTERADO,
+                    new ProjetoEstadoDTO(StatusProjeto.EM_ANALISE, null, null, 0L),
+                    new ProjetoEstadoDTO(StatusProjeto.ANALISE_REALIZADA, null, null, 1L));
+        }
+
+        // Ação
+        historicoProjetoService.stop();
+
+        // Verificações
+        assertEquals(1000, contarLinhas("projeto_historico"));
+        assertEquals(0, contarLinhas("projeto_historico_pendente"));
+        assertEquals(1L, jdbcTemplate.queryForObject(
+                "SELECT versao FROM projeto_historico WHERE idprojeto = 1 AND status_novo = 'ANALISE_REALIZADA'", Long.class));
+        assertEquals(1000d, meterRegistry.get("projetos.historico.gravados").counter().count());
+        assertEquals(0d, meterRegistry.get("projetos.historico.fila").gauge().value());
+    }
+
+    /**
+     * Testa se os registros pendentes de uma execução anterior são transferidos na inicialização.
+     *
+     * Cenário:
+     *     Dado a fila desativada (capacidade 0) e 15 alterações registradas sem que o escritor esteja em
+     *     execução (como após uma queda).
+     *     Quando o escritor é iniciado e encerrado.
+     *     Então as 15 linhas devem estar no histórico.
+     *
+     * @see HistoricoProjetoServiceImpl#start()
+     */
+    @Test
+    public void testPendingRowsAreTransferredOnStart() {
+        // Preparação
+        ReflectionTestUtils.setField(historicoProjetoService, "capacidade", 0);
+        for (long id = 1; id <= 15; id++) {
+            historicoProjetoService.registrar(id, AcaoHistorico.CRIADO, null,
+                    new ProjetoEstadoDTO(StatusProjeto.EM_ANALISE, null, null, 0L));
+        }
+        assertEquals(15, contarLinhas("projeto_historico_pendente"));
+
+        // Ação
+        historicoProjetoService.start();
+        historicoProjetoService.stop();
+
+        // Verificações
+        assertEquals(15, contarLinhas("projeto_historico"));
+        assertEquals(0, contarLinhas("projeto_historico_pendente"));
+    }
+
+    /**
+     * Testa se apenas as alterações de transações confirmadas entram no histórico.
+     *
+     * Cenário:
+     *     Dado uma transação desfeita e outra confirmada, cada uma registrando uma exclusão.
+     *     Quando o escritor é encerrado.
+     *     Então apenas a exclusão da transação confirmada deve estar no histórico.
+     *
+     * @see HistoricoProjetoServiceImpl#registrar
+     */
+    @Test
+    public void testOnlyCommittedChangesAreRecorded() {
+        // Preparação
+        historicoProjetoService.start();
+        ProjetoEstadoDTO excluido = new ProjetoEstadoDTO(StatusProjeto.CANCELADO, null, null, 3L);
+
+        // Ação
+        transactionTemplate.executeWithoutResult(status -> {
+            historicoProjetoService.registrar(1L, AcaoHistorico.EXCLUIDO, excluido, null);
+            status.setRollbackOnly();
+        });
+        transactionTemplate.executeWithoutResult(status ->
+                historicoProjetoService.registrar(2L, AcaoHistorico.EXCLUIDO, excluido, null));
+        historicoProjetoService.stop();
+
+        // Verificações
+        assertEquals(1, contarLinhas("projeto_historico"));
+        assertEquals(2L, jdbcTemplate.queryForObject("SELECT idprojeto FROM projeto_historico", Long.class));
+        assertFalse(historicoProjetoService.isRunning());
+    }
+
+    /**
+     * Testa se um registro rejeitado pelo histórico não impede a transferência dos demais do lote.
+     *
+     * Cenário:
+     *     Dado um histórico que rejeita versões negativas e 10 alterações na fila, uma delas com versão -1.
+     *     Quando o escritor é iniciado e encerrado.
+     *     Então as 9 válidas devem estar no histórico.
+     *     E a inválida deve continuar pendente e ser contada como falha.
+     *
+     * @see HistoricoProjetoServiceImpl#stop()
+     */
+    @Test
+    public void testRejectedRowStaysPendingWithoutDroppingBatch() {
+        // Preparação
+        jdbcTemplate.execute("ALTER TABLE projeto_historico ADD CONSTRAINT ck_versao CHECK (versao >= 0)");
+        for (long id = 1; id <= 10; id++) {
+            historicoProjetoService.registrar(id, AcaoHistorico.CRIADO, null,
+                    new ProjetoEstadoDTO(StatusProjeto.EM_ANALISE, null, null, id == 5 ? -1L : 0L));
+        }
+
+        // Ação
+        historicoProjetoService.start();
+        historicoProjetoService.stop();
+
+        // Verificações
+        assertEquals(9, contarLinhas("projeto_historico"));
+        assertEquals(5L, jdbcTemplate.queryForObject("SELECT idprojeto FROM projeto_historico_pendente", Long.class));
+        assertEquals(1d, meterRegistry.get("projetos.historico.falhas").counter().count());
+    }
+
+    /**
+     * Testa se, com a fila cheia, os registros excedentes vão para os pendentes em vez de se perderem.
+     *
+     * Cenário:
+     *     Dado uma fila de capacidade 10, sem espera, e o escritor parado.
+     *     Quando 25 alterações são registradas.
+     *     Então 10 devem ficar na fila e 15 em projeto_historico_pendente, contadas como transbordadas.
+     *     E, depois que o escritor é iniciado e encerrado, as 25 devem estar no histórico.
+     *
+     * @see HistoricoProjetoServiceImpl#registrar
+     */
+    @Test
+    public void testFullQueueOverflowsToPendingRows() {
+        // Preparação
+        ReflectionTestUtils.setField(historicoProjetoService, "capacidade", 10);
+        ReflectionTestUtils.setField(historicoProjetoService, "esperaMs", 0L);
+
+        // Ação
+        for (long id = 1; id <= 25; id++) {
+            historicoProjetoService.registrar(id, AcaoHistorico.CRIADO, null,
+                    new ProjetoEstadoDTO(StatusProjeto.EM_ANALISE, null, null, 0L));
+        }
+
+        // Verificações
+        assertEquals(10d, meterRegistry.get("projetos.historico.fila").gauge().value());
+        assertEquals(15, contarLinhas("projeto_historico_pendente"));
+        assertEquals(15d, meterRegistry.get("projetos.historico.transbordados").counter().count());
+        assertEquals(0d, meterRegistry.get("projetos.historico.descartados").counter().count());
+
+        historicoProjetoService.start();
+        historicoProjetoService.stop();
+        assertEquals(25, contarLinhas("projeto_historico"));
+        assertEquals(0, contarLinhas("projeto_historico_pendente"));
+    }
+
+    private int contarLinhas(String tabela) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + tabela, Integer.class);
+    }
+
+}
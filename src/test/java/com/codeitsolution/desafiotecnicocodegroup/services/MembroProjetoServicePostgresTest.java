@@ -0,0 +1,181 @@
+package com.codeitsolution.desafiotecnicocodegroup.services;
+
+import com.codeitsolution.desafiotecnicocodegroup.ConsultasConfig;
+import com.codeitsolution.desafiotecnicocodegroup.ContadorConsultas;
+import com.codeitsolution.desafiotecnicocodegroup.entities.MembroProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ResultadoMembroDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.ResultadoAssociacao;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.MembroProjetoServiceImpl;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Orçamento de comandos SQL da inclusão de membros, medido na chamada ao serviço pelo mesmo proxy
+// do DataSource usado nas requisições (ContadorConsultas). A inclusão usa SQL exclusivo do
+// PostgreSQL, por isso roda no PostgreSQL embutido.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ConsultasConfig.class, MembroProjetoServiceImpl.class})
+public class MembroProjetoServicePostgresTest {
+
+    // Orçamento por chamada, qualquer que seja o resultado de cada pessoa.
+    private static final int ORCAMENTO_COMANDOS = 2;
+
+    @TestConfiguration
+    static class PostgresEmbutido {
+
+        @Bean(destroyMethod = "close")
+        public EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.builder().start();
+        }
+
+        @Bean
+        public DataSource dataSource(EmbeddedPostgres postgres) {
+            return postgres.getPostgresDatabase();
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private MembroProjetoService membroProjetoService;
+
+    private Projeto projeto;
+    private Pessoa novoFuncionario;
+    private Pessoa membroExistente;
+    private Pessoa gerente;
+
+    @BeforeEach
+    public void setUp() {
+        gerente = pessoa("Gerente", "gerente");
+
+        projeto = new Projeto();
+        projeto.setNome("Projeto");
+        projeto.setStatus(StatusProjeto.EM_ANALISE);
+        projeto.setGerente(gerente);
+        entityManager.persist(projeto);
+
+        novoFuncionario = pessoa("Novo funcionário", "funcionario");
+        membroExistente = pessoa("Membro existente", "funcionario");
+
+        MembroProjeto membro = new MembroProjeto();
+        membro.setProjeto(projeto);
+        membro.setPessoa(membroExistente);
+        entityManager.persist(membro);
+        entityManager.flush();
+        entityManager.clear();
+
+        ContadorConsultas.iniciar();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        ContadorConsultas.encerrar();
+    }
+
+    /**
+     * Testa se {@code adicionarMembro} inclui um funcionário com um único comando SQL.
+     *
+     * Cenário:
+     *     Dado um projeto e um funcionário que ainda não é membro.
+     *     Quando o funcionário é adicionado ao projeto.
+     *     Então o resultado deve ser ADICIONADO.
+     *     E exatamente um comando SQL deve ser executado, dentro do orçamento de dois.
+     *
+     * @see MembroProjetoService#adicionarMembro
+     */
+    @Test
+    public void testAdicionarMembroUsesSingleStatement() {
+        // Ação
+        ResultadoMembroDTO resultado = membroProjetoService.adicionarMembro(projeto.getId(), novoFuncionario.getId());
+        ContadorConsultas contador = ContadorConsultas.encerrar();
+
+        // Verificações
+        assertEquals(ResultadoAssociacao.ADICIONADO, resultado.getResultado());
+        assertEquals(1, contador.getQuantidade());
+    }
+
+    /**
+     * Testa se os motivos de rejeição de {@code adicionarMembros} não custam comandos SQL adicionais.
+     *
+     * Cenário:
+     *     Dado um lote com um funcionário novo, um membro existente, um gerente, um ID inexistente e um ID repetido.
+     *     Quando o lote é adicionado ao projeto.
+     *     Então cada ID deve receber o seu resultado.
+     *     E o total de comandos SQL não deve passar do orçamento de dois.
+     *
+     * @see MembroProjetoService#adicionarMembros
+     */
+    @Test
+    public void testAdicionarMembrosFailurePathStaysWithinBudget() {
+        // Preparação
+        List<Long> pessoaIds = Arrays.asList(novoFuncionario.getId(), membroExistente.getId(), gerente.getId(),
+                Long.MAX_VALUE, novoFuncionario.getId());
+
+        // Ação
+        List<ResultadoMembroDTO> resultados = membroProjetoService.adicionarMembros(projeto.getId(), pessoaIds);
+        ContadorConsultas contador = ContadorConsultas.encerrar();
+
+        // Verificações
+        assertEquals(ResultadoAssociacao.ADICIONADO, resultados.get(0).getResultado());
+        assertEquals(ResultadoAssociacao.JA_MEMBRO, resultados.get(1).getResultado());
+        assertEquals(ResultadoAssociacao.NAO_FUNCIONARIO, resultados.get(2).getResultado());
+        assertEquals(ResultadoAssociacao.PESSOA_NAO_ENCONTRADA, resultados.get(3).getResultado());
+        assertEquals(ResultadoAssociacao.DUPLICADO, resultados.get(4).getResultado());
+        assertEquals(1, contador.getQuantidade());
+        assertTrue(contador.getQuantidade() <= ORCAMENTO_COMANDOS);
+    }
+
+    /**
+     * Testa se {@code adicionarMembro} identifica o projeto inexistente sem comandos SQL adicionais.
+     *
+     * Cenário:
+     *     Dado um ID de projeto inexistente.
+     *     Quando um funcionário é adicionado a ele.
+     *     Então deve ser lançada IllegalArgumentException.
+     *     E o total de comandos SQL não deve passar do orçamento de dois.
+     *
+     * @see MembroProjetoService#adicionarMembro
+     */
+    @Test
+    public void testAdicionarMembroToMissingProjectStaysWithinBudget() {
+        // Ação
+        assertThrows(IllegalArgumentException.class,
+                () -> membroProjetoService.adicionarMembro(Long.MAX_VALUE, novoFuncionario.getId()));
+        ContadorConsultas contador = ContadorConsultas.encerrar();
+
+        // Verificações
+        assertEquals(1, contador.getQuantidade());
+        assertTrue(contador.getQuantidade() <= ORCAMENTO_COMANDOS);
+    }
+
+    private Pessoa pessoa(String nome, String atribuicao) {
+        Pessoa pessoa = new Pessoa();
+        pessoa.setNome(nome);
+        pessoa.setAtribuicao(atribuicao);
+        entityManager.persist(pessoa);
+        return pessoa;
+    }
+
+}
@@ -0,0 +1,112 @@
+package com.codeitsolution.desafiotecnicocodegroup.services;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.PessoaRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.PessoaServiceImpl;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.ProjetoServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+public class PessoaServiceTest {
+
+    @InjectMocks
+    private PessoaServiceImpl pessoaService;
+
+    @Mock
+    private PessoaRepository pessoaRepository;
+
+    @Mock
+    private RespostaProjetoService respostaProjetoService;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cacheProjetos;
+
+    @BeforeEach
+    public void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    public void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    /**
+     * Testa se a alteração de uma pessoa descarta os projetos e o JSON em cache só após o commit.
+     *
+     * Cenário:
+     *     Dado uma pessoa existente sendo alterada dentro de uma transação.
+     *     Quando a pessoa é salva.
+     *     Então nenhum cache deve ser descartado antes do commit.
+     *     E, após o commit, os projetos em cache devem ser descartados antes do JSON serializado.
+     *
+     * @see PessoaServiceImpl#save(Pessoa)
+     */
+    @Test
+    public void testSaveEvictsProjectCachesAfterCommit() {
+        // Preparação
+        Pessoa pessoa = new Pessoa();
+        pessoa.setId(1L);
+        pessoa.setNome("Gerente");
+        when(pessoaRepository.save(pessoa)).thenReturn(pessoa);
+        when(cacheManager.getCache(ProjetoServiceImpl.CACHE_PROJETOS)).thenReturn(cacheProjetos);
+
+        // Ação
+        pessoaService.save(pessoa);
+
+        // Verificações
+        verifyNoInteractions(cacheProjetos);
+        verify(respostaProjetoService, never()).invalidarTodos();
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        InOrder ordem = inOrder(cacheProjetos, respostaProjetoService);
+        ordem.verify(cacheProjetos).clear();
+        ordem.verify(respostaProjetoService).invalidarTodos();
+    }
+
+    /**
+     * Testa se o cadastro de uma nova pessoa não descarta os caches de projetos.
+     *
+     * Cenário:
+     *     Dado uma pessoa sem ID.
+     *     Quando a pessoa é salva e a transação confirmada.
+     *     Então nenhum cache deve ser descartado.
+     *
+     * @see PessoaServiceImpl#save(Pessoa)
+     */
+    @Test
+    public void testSaveNewPersonKeepsCaches() {
+        // Preparação
+        Pessoa pessoa = new Pessoa();
+        pessoa.setNome("Analista");
+        when(pessoaRepository.save(pessoa)).thenReturn(pessoa);
+
+        // Ação
+        pessoaService.save(pessoa);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        // Verificações
+        verifyNoInteractions(cacheManager, respostaProjetoService);
+    }
+
+}
@@ -0,0 +1,323 @@
+package com.codeitsolution.desafiotecnicocodegroup.services;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.ProjetoServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.Ordered;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// Cache "projetos" com o mesmo arranjo de proxies da aplicação: cache por
+// fora da transação (@EnableCaching com a maior precedência), para que o descarte só aconteça
+// depois do commit. O gerenciador de transações não tem banco; só abre e fecha as sincronizações.
+@SpringJUnitConfig(ProjetoServiceCacheTest.Configuracao.class)
+public class ProjetoServiceCacheTest {
+
+    private static final Long ID = 1L;
+
+    @Configuration
+    @EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+    @EnableTransactionManagement
+    @Import(ProjetoServiceImpl.class)
+    static class Configuracao {
+
+        @Bean
+        public CacheManager cacheManager() {
+            return new CaffeineCacheManager(ProjetoServiceImpl.CACHE_PROJETOS);
+        }
+
+        @Bean
+        public PlatformTransactionManager transactionManager() {
+            return new TransacaoSemBanco();
+        }
+
+        @Bean
+        public ProjetoRepository projetoRepository() {
+            return mock(ProjetoRepository.class);
+        }
+
+        @Bean
+        public HistoricoProjetoService historicoProjetoService() {
+            return mock(HistoricoProjetoService.class);
+        }
+
+        @Bean
+        public EntityManager entityManager() {
+            return mock(EntityManager.class);
+        }
+
+        @Bean
+        public ObjectMapper objectMapper() {
+            return new ObjectMapper();
+        }
+
+        @Bean
+        public EstatisticaProjetoService estatisticaProjetoService() {
+            return mock(EstatisticaProjetoService.class);
+        }
+
+        @Bean
+        public BuscaProjetoService buscaProjetoService() {
+            return mock(BuscaProjetoService.class);
+        }
+
+        @Bean
+        public EventoProjetoService eventoProjetoService() {
+            return mock(EventoProjetoService.class);
+        }
+
+        @Bean
+        public RespostaProjetoService respostaProjetoService() {
+            return mock(RespostaProjetoService.class);
+        }
+    }
+
+    static class TransacaoSemBanco extends AbstractPlatformTransactionManager {
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transacao, TransactionDefinition definicao) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    @Autowired
+    private ProjetoService projetoService;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private HistoricoProjetoService historicoProjetoService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Projeto projeto;
+
+    // Caches que ainda tinham o projeto no momento do commit.
+    private final Set<String> emCacheAntesDoCommit = new HashSet<>();
+
+    @BeforeEach
+    public void setUp() {
+        cacheManager.getCacheNames().forEach(nome -> cacheManager.getCache(nome).clear());
+        reset(projetoRepository, historicoProjetoService);
+        emCacheAntesDoCommit.clear();
+
+        projeto = new Projeto();
+        projeto.setId(ID);
+        projeto.setNome("Projeto");
+        projeto.setOrcamento(1000f);
+        projeto.setStatus(StatusProjeto.EM_ANALISE);
+        projeto.setVersao(0L);
+        when(projetoRepository.findById(ID)).thenReturn(Optional.of(projeto));
+    }
+
+    /**
+     * Testa se a consulta por ID é respondida pelo cache a partir da segunda chamada.
+     *
+     * Cenário:
+     *     Dado um projeto existente.
+     *     Quando findById é chamado duas vezes.
+     *     Então o repositório deve ser consultado uma única vez.
+     *
+     * @see ProjetoService#findById(Long)
+     */
+    @Test
+    public void testFindByIdHitsCache() {
+        // Ação
+        projetoService.findById(ID);
+        projetoService.findById(ID);
+
+        // Verificações
+        verify(projetoRepository, times(1)).findById(ID);
+    }
+
+    /**
+     * Testa se a atualização descarta o projeto do cache, só depois do commit.
+     *
+     * Cenário:
+     *     Dado um projeto presente no cache.
+     *     Quando o projeto é atualizado.
+     *     Então o cache deve continuar com o projeto até o commit.
+     *     E, depois do commit, a próxima consulta deve voltar ao repositório.
+     *
+     * @see ProjetoService#save(Projeto)
+     */
+    @Test
+    public void testSaveEvictsCacheAfterCommit() {
+        // Preparação
+        aquecerCache();
+        Pessoa gerente = new Pessoa();
+        gerente.setId(1L);
+        when(entityManager.find(Pessoa.class, 1L)).thenReturn(gerente);
+        when(projetoRepository.atualizar(any())).thenReturn(Optional.of(estado(StatusProjeto.EM_ANALISE, 0L)));
+        doAnswer(invocacao -> verificarAntesDoCommit())
+                .when(historicoProjetoService).registrar(eq(ID), any(), any(), any());
+
+        // Ação
+        Projeto alterado = new Projeto();
+        alterado.setId(ID);
+        alterado.setNome("Projeto alterado");
+        alterado.setOrcamento(2000f);
+        alterado.setGerente(gerente);
+        projetoService.save(alterado);
+
+        // Verificações
+        assertEquals(Set.of(ProjetoServiceImpl.CACHE_PROJETOS), emCacheAntesDoCommit);
+        assertForaDoCache(ProjetoServiceImpl.CACHE_PROJETOS);
+        clearInvocations(projetoRepository); // save relê o projeto gravado
+        projetoService.findById(ID);
+        verify(projetoRepository, times(1)).findById(ID);
+    }
+
+    /**
+     * Testa se a mudança de status descarta o projeto em cache, só depois do commit.
+     *
+     * Cenário:
+     *     Dado um projeto em análise presente no cache.
+     *     Quando o status muda para análise realizada.
+     *     Então o cache deve continuar com ele até o commit e perdê-lo depois.
+     *
+     * @see ProjetoService#mudarStatus(Long, StatusProjeto)
+     */
+    @Test
+    public void testMudarStatusEvictsProjetosCacheAfterCommit() {
+        // Preparação
+        aquecerCache();
+        when(projetoRepository.mudarStatusSePermitido(anyCollection(), eq(StatusProjeto.ANALISE_REALIZADA.name()), anyCollection(), eq(false)))
+                .thenReturn(List.<Object[]>of(new Object[] { ID, StatusProjeto.EM_ANALISE.name(), 1L }));
+        doAnswer(invocacao -> verificarAntesDoCommit())
+                .when(historicoProjetoService).registrarTodos(any());
+
+        // Ação
+        projetoService.mudarStatus(ID, StatusProjeto.ANALISE_REALIZADA);
+
+        // Verificações
+        assertEquals(Set.of(ProjetoServiceImpl.CACHE_PROJETOS), emCacheAntesDoCommit);
+        assertForaDoCache(ProjetoServiceImpl.CACHE_PROJETOS);
+    }
+
+    /**
+     * Testa se a exclusão descarta o projeto do cache, só depois do commit.
+     *
+     * Cenário:
+     *     Dado um projeto presente no cache.
+     *     Quando o projeto é excluído.
+     *     Então o cache deve continuar com o projeto até o commit.
+     *     E, depois do commit, a próxima consulta deve voltar ao repositório.
+     *
+     * @see ProjetoService#delete(Long, Long)
+     */
+    @Test
+    public void testDeleteEvictsCacheAfterCommit() {
+        // Preparação
+        aquecerCache();
+        when(projetoRepository.excluirSePermitido(eq(ID), eq(0L), any()))
+                .thenReturn(Optional.of(estado(StatusProjeto.EM_ANALISE, 0L)));
+        doAnswer(invocacao -> verificarAntesDoCommit())
+                .when(historicoProjetoService).registrar(eq(ID), any(), any(), any());
+
+        // Ação
+        projetoService.delete(ID, 0L);
+
+        // Verificações
+        assertEquals(Set.of(ProjetoServiceImpl.CACHE_PROJETOS), emCacheAntesDoCommit);
+        assertForaDoCache(ProjetoServiceImpl.CACHE_PROJETOS);
+        when(projetoRepository.findById(ID)).thenReturn(Optional.empty());
+        projetoService.findById(ID);
+        verify(projetoRepository, times(2)).findById(ID);
+    }
+
+    // Chamado dentro da transação do serviço; anota o conteúdo dos caches logo antes do commit, já
+    // depois de o método retornar.
+    private Object verificarAntesDoCommit() {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                for (String nome : cacheManager.getCacheNames()) {
+                    if (cacheManager.getCache(nome).get(ID) != null) {
+                        emCacheAntesDoCommit.add(nome);
+                    }
+                }
+            }
+        });
+        return null;
+    }
+
+    private void aquecerCache() {
+        projetoService.findById(ID);
+        assertEmCache(ProjetoServiceImpl.CACHE_PROJETOS);
+    }
+
+    private void assertEmCache(String nome) {
+        Cache cache = cacheManager.getCache(nome);
+        assertNotNull(cache);
+        assertNotNull(cache.get(ID), "Projeto ausente do cache " + nome);
+    }
+
+    private void assertForaDoCache(String nome) {
+        Cache cache = cacheManager.getCache(nome);
+        assertNotNull(cache);
+        assertNull(cache.get(ID), "Projeto ainda no cache " + nome);
+    }
+
+    private static ProjetoEstadoDTO estado(StatusProjeto status, Long versao) {
+        return new ProjetoEstadoDTO(status, null, 1000f, versao);
+    }
+
+}
@@ -0,0 +1,171 @@
+package com.codeitsolution.desafiotecnicocodegroup.services;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Pessoa;
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.codeitsolution.desafiotecnicocodegroup.repositories.ProjetoRepository;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.ProjetoServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Regra de exclusão de ProjetoServiceImpl sobre os comandos reais (exclusivos do PostgreSQL) de
+// mudança de status e exclusão. Os serviços que só reagem às gravações são substituídos por mocks.
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProjetoServiceImpl.class)
+public class ProjetoServicePostgresTest {
+
+    @TestConfiguration
+    static class PostgresEmbutido {
+
+        @Bean(destroyMethod = "close")
+        public EmbeddedPostgres embeddedPostgres() throws IOException {
+            return EmbeddedPostgres.builder().start();
+        }
+
+        @Bean
+        public DataSource dataSource(EmbeddedPostgres postgres) {
+            return postgres.getPostgresDatabase();
+        }
+    }
+
+    @MockBean
+    private ObjectMapper objectMapper;
+
+    @MockBean
+    private EstatisticaProjetoService estatisticaProjetoService;
+
+    @MockBean
+    private BuscaProjetoService buscaProjetoService;
+
+    @MockBean
+    private HistoricoProjetoService historicoProjetoService;
+
+    @MockBean
+    private EventoProjetoService eventoProjetoService;
+
+    @MockBean
+    private RespostaProjetoService respostaProjetoService;
+
+    @MockBean
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ProjetoService projetoService;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    private Long projetoId;
+
+    @BeforeEach
+    public void setUp() {
+        Pessoa gerente = new Pessoa();
+        gerente.setNome("Gerente");
+        gerente.setAtribuicao("gerente");
+        entityManager.persist(gerente);
+
+        Projeto projeto = new Projeto();
+        projeto.setNome("Projeto");
+        projeto.setOrcamento(50000f);
+        projeto.setGerente(gerente);
+        projetoId = projetoService.save(projeto).getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Testa se um projeto iniciado e depois levado a planejado não pode ser excluído.
+     *
+     * Cenário:
+     *     Dado um projeto que passou de em análise até iniciado e, em seguida, para planejado.
+     *     Quando a exclusão é solicitada.
+     *     Então deve ser lançada IllegalStateException.
+     *     E o projeto deve continuar existindo.
+     *
+     * @see ProjetoService#delete(Long, Long)
+     */
+    @Test
+    public void testDeleteIsRejectedAfterIniciadoToPlanejado() {
+        // Preparação
+        avancar(StatusProjeto.ANALISE_REALIZADA, StatusProjeto.ANALISE_APROVADA, StatusProjeto.INICIADO,
+                StatusProjeto.PLANEJADO);
+
+        // Ação e verificações
+        assertThrows(IllegalStateException.class, () -> projetoService.delete(projetoId, null));
+        assertTrue(projetoRepository.existsById(projetoId));
+    }
+
+    /**
+     * Testa se um projeto cancelado depois de iniciado não pode ser excluído.
+     *
+     * Cenário:
+     *     Dado um projeto que passou de em análise até iniciado e, em seguida, foi cancelado.
+     *     Quando a exclusão é solicitada.
+     *     Então deve ser lançada IllegalStateException.
+     *     E o projeto deve continuar existindo.
+     *
+     * @see ProjetoService#delete(Long, Long)
+     */
+    @Test
+    public void testDeleteIsRejectedWhenCanceladoAfterIniciado() {
+        // Preparação
+        avancar(StatusProjeto.ANALISE_REALIZADA, StatusProjeto.ANALISE_APROVADA, StatusProjeto.INICIADO,
+                StatusProjeto.CANCELADO);
+
+        // Ação e verificações
+        assertThrows(IllegalStateException.class, () -> projetoService.delete(projetoId, null));
+        assertTrue(projetoRepository.existsById(projetoId));
+    }
+
+    /**
+     * Testa se um projeto cancelado antes de ser iniciado continua podendo ser excluído.
+     *
+     * Cenário:
+     *     Dado um projeto cancelado ainda em análise.
+     *     Quando a exclusão é solicitada.
+     *     Então o projeto deve ser excluído.
+     *
+     * @see ProjetoService#delete(Long, Long)
+     */
+    @Test
+    public void testDeleteIsAllowedWhenCanceladoBeforeIniciado() {
+        // Preparação
+        avancar(StatusProjeto.CANCELADO);
+
+        // Ação
+        projetoService.delete(projetoId, null);
+
+        // Verificações
+        assertFalse(projetoRepository.existsById(projetoId));
+    }
+
+    private void avancar(StatusProjeto... status) {
+        for (StatusProjeto novoStatus : status) {
+            projetoService.mudarStatus(projetoId, novoStatus);
+        }
+        entityManager.clear();
+    }
+
+}
@@ -0,0 +1,156 @@
+package com.codeitsolution.desafiotecnicocodegroup.services;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.Projeto;
+import com.codeitsolution.desafiotecnicocodegroup.services.impls.RespostaProjetoServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RespostaProjetoServiceTest {
+
+    private RespostaProjetoServiceImpl respostaProjetoService;
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    public void setUp() {
+        objectMapper = new ObjectMapper();
+        respostaProjetoService = new RespostaProjetoServiceImpl();
+        ReflectionTestUtils.setField(respostaProjetoService, "objectMapper", objectMapper);
+        ReflectionTestUtils.setField(respostaProjetoService, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(respostaProjetoService, "tamanhoMaximoBytes", 1024L * 1024);
+        ReflectionTestUtils.setField(respostaProjetoService, "expiraAposMs", 60000L);
+    }
+
+    /**
+     * Testa se o JSON é reaproveitado enquanto a versão do projeto não muda.
+     *
+     * Cenário:
+     *     Dado um projeto na versão 1 já serializado.
+     *     Quando o nome muda sem mudar a versão e o projeto é serializado de novo.
+     *     Então o JSON anterior deve ser devolvido.
+     *     E, quando o projeto passa para a versão 2, o JSON deve trazer o novo nome.
+     *
+     * @see RespostaProjetoServiceImpl#serializar(Projeto)
+     */
+    @Test
+    public void testSerializarReusesBodyWhileVersionIsUnchanged() throws Exception {
+        // Preparação
+        respostaProjetoService.iniciar();
+        Projeto projeto = projeto(1L, "Portal do cliente");
+        String original = objectMapper.writeValueAsString(projeto);
+        respostaProjetoService.serializar(projeto);
+
+        // Ação
+        projeto.setNome("Portal do fornecedor");
+        String mesmaVersao = texto(respostaProjetoService.serializar(projeto));
+        projeto.setVersao(2L);
+        String novaVersao = texto(respostaProjetoService.serializar(projeto));
+
+        // Verificações
+        assertEquals(original, mesmaVersao);
+        assertEquals(objectMapper.writeValueAsString(projeto), novaVersao);
+        assertTrue(novaVersao.contains("Portal do fornecedor"));
+    }
+
+    /**
+     * Testa se {@code invalidar} obriga uma nova serialização na mesma versão.
+     *
+     * Cenário:
+     *     Dado um projeto na versão 1 já serializado.
+     *     Quando o nome muda, a entrada é invalidada e o projeto é serializado de novo.
+     *     Então o JSON deve trazer o novo nome.
+     *
+     * @see RespostaProjetoServiceImpl#invalidar(Long)
+     */
+    @Test
+    public void testInvalidarDiscardsBody() {
+        // Preparação
+        respostaProjetoService.iniciar();
+        Projeto projeto = projeto(1L, "Portal do cliente");
+        respostaProjetoService.serializar(projeto);
+        projeto.setNome("Portal do fornecedor");
+
+        // Ação
+        respostaProjetoService.invalidar(1L);
+        String json = texto(respostaProjetoService.serializar(projeto));
+
+        // Verificações
+        assertTrue(json.contains("Portal do fornecedor"));
+    }
+
+    /**
+     * Testa se o JSON expira mesmo sem mudança de versão.
+     *
+     * Cenário:
+     *     Dado que as entradas expiram após 50 ms e um projeto na versão 1 já serializado.
+     *     Quando o nome muda sem mudar a versão e o projeto é serializado de novo após 100 ms.
+     *     Então o JSON deve trazer o novo nome.
+     *
+     * @see RespostaProjetoServiceImpl#serializar(Projeto)
+     */
+    @Test
+    public void testSerializarExpiresBodyWithoutVersionChange() throws Exception {
+        // Preparação
+        ReflectionTestUtils.setField(respostaProjetoService, "expiraAposMs", 50L);
+        respostaProjetoService.iniciar();
+        Projeto projeto = projeto(1L, "Portal do cliente");
+        respostaProjetoService.serializar(projeto);
+        projeto.setNome("Portal do fornecedor");
+
+        // Ação
+        Thread.sleep(100);
+        String json = texto(respostaProjetoService.serializar(projeto));
+
+        // Verificações
+        assertTrue(json.contains("Portal do fornecedor"));
+    }
+
+    /**
+     * Testa se, fora do heap, o JSON é guardado em buffer direto e somente leitura.
+     *
+     * Cenário:
+     *     Dado o armazenamento fora do heap habilitado.
+     *     Quando um projeto é serializado.
+     *     Então o buffer devolvido deve ser direto, somente leitura e conter o JSON do projeto.
+     *
+     * @see RespostaProjetoServiceImpl#serializar(Projeto)
+     */
+    @Test
+    public void testSerializarForaDoHeapUsesDirectBuffer() throws Exception {
+        // Preparação
+        ReflectionTestUtils.setField(respostaProjetoService, "foraDoHeap", true);
+        respostaProjetoService.iniciar();
+        Projeto projeto = projeto(7L, "Integração de pagamentos");
+
+        // Ação
+        ByteBuffer corpo = respostaProjetoService.serializar(projeto);
+
+        // Verificações
+        assertTrue(corpo.isDirect());
+        assertTrue(corpo.isReadOnly());
+        assertFalse(corpo.hasArray());
+        assertEquals(objectMapper.writeValueAsString(projeto), texto(corpo));
+    }
+
+    private static Projeto projeto(Long id, String nome) {
+        Projeto projeto = new Projeto();
+        projeto.setId(id);
+        projeto.setNome(nome);
+        projeto.setVersao(1L);
+        return projeto;
+    }
+
+    private static String texto(ByteBuffer corpo) {
+        return StandardCharsets.UTF_8.decode(corpo.duplicate()).toString();
+    }
+
+}
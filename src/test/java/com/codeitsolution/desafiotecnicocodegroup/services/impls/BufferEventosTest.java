@@ -0,0 +1,61 @@
+package com.codeitsolution.desafiotecnicocodegroup.services.impls;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class BufferEventosTest {
+
+    /**
+     * Testa se {@code desde} devolve, em ordem, apenas os eventos posteriores à sequência informada.
+     *
+     * Cenário:
+     *     Dado um buffer com os eventos 1, 2 e 3.
+     *     Quando são pedidos os eventos depois do 1, depois do 3 e depois do 0.
+     *     Então devem vir "2" e "3", nenhum evento e todos os eventos, respectivamente.
+     *
+     * @see BufferEventos#desde(long)
+     */
+    @Test
+    public void testDesdeReturnsLaterEventsInOrder() {
+        // Preparação
+        BufferEventos buffer = new BufferEventos(8);
+        buffer.acrescentar("1;");
+        buffer.acrescentar("2;");
+        buffer.acrescentar("3;");
+
+        // Ação e verificações
+        assertEquals(3, buffer.ultimo());
+        assertEquals("2;3;", buffer.desde(1));
+        assertEquals("", buffer.desde(3));
+        assertEquals("1;2;3;", buffer.desde(0));
+    }
+
+    /**
+     * Testa se {@code desde} sinaliza quando os eventos pedidos não estão mais no buffer.
+     *
+     * Cenário:
+     *     Dado um buffer com capacidade para 4 eventos, no qual foram acrescentados 10.
+     *     Quando são pedidos os eventos depois do 6, depois do 5, depois do 11 e depois de -1.
+     *     Então devem vir os eventos 7 a 10 no primeiro caso.
+     *     E nulo nos demais, pois o evento 6 foi sobrescrito e as sequências 11 e -1 não existem.
+     *
+     * @see BufferEventos#desde(long)
+     */
+    @Test
+    public void testDesdeReturnsNullWhenEventsWereOverwritten() {
+        // Preparação
+        BufferEventos buffer = new BufferEventos(4);
+        for (int i = 1; i <= 10; i++) {
+            buffer.acrescentar(i + ";");
+        }
+
+        // Ação e verificações
+        assertEquals("7;8;9;10;", buffer.desde(6));
+        assertNull(buffer.desde(5));
+        assertNull(buffer.desde(11));
+        assertNull(buffer.desde(-1));
+    }
+
+}
@@ -0,0 +1,195 @@
+package com.codeitsolution.desafiotecnicocodegroup.services.impls;
+
+import com.codeitsolution.desafiotecnicocodegroup.entities.dtos.ProjetoEstadoDTO;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.AcaoHistorico;
+import com.codeitsolution.desafiotecnicocodegroup.entities.enums.StatusProjeto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class EventoProjetoServiceTest {
+
+    private EventoProjetoServiceImpl eventoProjetoService;
+    private SimpleMeterRegistry meterRegistry;
+    private final CountDownLatch liberarLento = new CountDownLatch(1);
+    private final List<EmitterTeste> emitters = new CopyOnWriteArrayList<>();
+    // Threads que fizeram algum envio, em qualquer assinante.
+    private final Set<Thread> threadsEscrita = ConcurrentHashMap.newKeySet();
+
+    // Registra o que foi enviado; o primeiro emitter criado fica bloqueado no primeiro envio,
+    // como uma conexão cujo cliente parou de ler.
+    private class EmitterTeste extends ResponseBodyEmitter {
+        private final boolean lento;
+        private final List<String> enviados = new CopyOnWriteArrayList<>();
+        private volatile boolean concluido;
+
+        private EmitterTeste(boolean lento) {
+            this.lento = lento;
+        }
+
+        @Override
+        public void send(Object objeto, MediaType tipo) {
+            threadsEscrita.add(Thread.currentThread());
+            if (lento) {
+                try {
+                    liberarLento.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            enviados.add((String) objeto);
+        }
+
+        @Override
+        public void complete() {
+            concluido = true;
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventoProjetoService = new EventoProjetoServiceImpl() {
+            @Override
+            ResponseBodyEmitter novoEmitter() {
+                EmitterTeste emitter = new EmitterTeste(emitters.isEmpty());
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(eventoProjetoService, "objectMapper", new ObjectMapper());
+        ReflectionTestUtils.setField(eventoProjetoService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(eventoProjetoService, "capacidade", 64);
+        ReflectionTestUtils.setField(eventoProjetoService, "maximoAssinantes", 10);
+        ReflectionTestUtils.setField(eventoProjetoService, "timeoutMs", 60000L);
+        ReflectionTestUtils.setField(eventoProjetoService, "intervaloPulsacaoMs", 60000L);
+        ReflectionTestUtils.setField(eventoProjetoService, "filaAssinante", 2);
+        ReflectionTestUtils.setField(eventoProjetoService, "esperaEscritaMs", 60000L);
+        ReflectionTestUtils.setField(eventoProjetoService, "threadsEscrita", 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        liberarLento.countDown();
+        eventoProjetoService.encerrar();
+    }
+
+    /**
+     * Testa se um assinante que parou de ler não atrasa os demais e é desconectado ao encher a sua fila.
+     *
+     * Cenário:
+     *     Dado um assinante bloqueado na escrita e outro em dia, com filas de 2 envios.
+     *     Quando 4 eventos são publicados, um de cada vez.
+     *     Então o assinante em dia deve receber os 4 eventos.
+     *     E o bloqueado deve ser desconectado e finalizado assim que a escrita em andamento terminar.
+     *
+     * @see EventoProjetoServiceImpl#publicar
+     */
+    @Test
+    public void testSlowSubscriberDoesNotBlockOthers() throws InterruptedException {
+        // Preparação
+        eventoProjetoService.iniciar();
+        eventoProjetoService.assinar(null);
+        eventoProjetoService.assinar(null);
+        EmitterTeste lento = emitters.get(0);
+        EmitterTeste emDia = emitters.get(1);
+        aguardar(() -> emDia.enviados.size() == 1);
+
+        // Ação
+        for (long id = 1; id <= 4; id++) {
+            eventoProjetoService.publicar(id, AcaoHistorico.STATUS_ALTERADO,
+                    new ProjetoEstadoDTO(StatusProjeto.INICIADO, null, null, 1L));
+            int esperados = (int) id + 1;
+            aguardar(() -> emDia.enviados.size() == esperados);
+        }
+
+        // Verificações
+        assertTrue(emDia.enviados.get(4).contains("\"projetoId\":4"));
+        assertEquals(1d, meterRegistry.get("projetos.eventos.desconectados").counter().count());
+        assertEquals(1d, meterRegistry.get("projetos.eventos.assinantes").gauge().value());
+        liberarLento.countDown();
+        aguardar(() -> lento.concluido);
+        assertTrue(lento.enviados.size() <= 1);
+    }
+
+    /**
+     * Testa se uma escrita parada por mais do que o limite desconecta o assinante na pulsação seguinte.
+     *
+     * Cenário:
+     *     Dado um assinante bloqueado na escrita, limite de escrita de 50 ms e pulsação a cada 100 ms.
+     *     Quando nenhum evento é publicado.
+     *     Então o assinante deve ser desconectado.
+     *
+     * @see EventoProjetoServiceImpl#assinar
+     */
+    @Test
+    public void testStalledWriteIsDisconnectedOnHeartbeat() throws InterruptedException {
+        // Preparação
+        ReflectionTestUtils.setField(eventoProjetoService, "intervaloPulsacaoMs", 100L);
+        ReflectionTestUtils.setField(eventoProjetoService, "esperaEscritaMs", 50L);
+        eventoProjetoService.iniciar();
+
+        // Ação
+        eventoProjetoService.assinar(null);
+
+        // Verificações
+        aguardar(() -> meterRegistry.get("projetos.eventos.desconectados").counter().count() == 1d);
+        assertEquals(0d, meterRegistry.get("projetos.eventos.assinantes").gauge().value());
+    }
+
+    /**
+     * Testa se muitos assinantes são atendidos pelas threads do pool de escrita, sem uma thread por assinante.
+     *
+     * Cenário:
+     *     Dado 50 assinantes, um deles bloqueado na escrita, e um pool de 2 threads de escrita.
+     *     Quando um evento é publicado.
+     *     Então os 49 assinantes em dia devem recebê-lo.
+     *     E todos os envios devem ter sido feitos por no máximo 2 threads.
+     *
+     * @see EventoProjetoServiceImpl#publicar
+     */
+    @Test
+    public void testManySubscribersShareTheWriterPool() throws InterruptedException {
+        // Preparação
+        ReflectionTestUtils.setField(eventoProjetoService, "maximoAssinantes", 100);
+        ReflectionTestUtils.setField(eventoProjetoService, "filaAssinante", 64);
+        eventoProjetoService.iniciar();
+        for (int i = 0; i < 50; i++) {
+            eventoProjetoService.assinar(null);
+        }
+        List<EmitterTeste> emDia = emitters.subList(1, emitters.size());
+
+        // Ação
+        eventoProjetoService.publicar(1L, AcaoHistorico.STATUS_ALTERADO,
+                new ProjetoEstadoDTO(StatusProjeto.INICIADO, null, null, 1L));
+
+        // Verificações
+        aguardar(() -> emDia.stream().allMatch(emitter -> emitter.enviados.size() == 2));
+        assertTrue(threadsEscrita.size() <= 2, "Threads de escrita: " + threadsEscrita);
+    }
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long prazo = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condicao.getAsBoolean()) {
+            assertTrue(System.nanoTime() < prazo, "Condição não atingida em 5 segundos");
+            Thread.sleep(10);
+        }
+    }
+
+}
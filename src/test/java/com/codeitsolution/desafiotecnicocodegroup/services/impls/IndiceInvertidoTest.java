@@ -0,0 +1,244 @@
+package com.codeitsolution.desafiotecnicocodegroup.services.impls;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class IndiceInvertidoTest {
+
+    /**
+     * Testa se as postagens devolvem os mesmos documentos e frequências gravados em varint.
+     *
+     * Cenário:
+     *     Dado diferenças e frequências nos limites de 1, 2, 3 e 5 bytes.
+     *     Quando as postagens são lidas de volta.
+     *     Então cada documento e frequência devem ser os gravados, na mesma ordem.
+     *     E três documentos seguidos com frequência 1 devem ocupar 6 bytes.
+     *
+     * @see IndiceInvertido.Postagens
+     */
+    @Test
+    public void testPostagensRoundTripVarints() {
+        // Preparação
+        int[] documentos = { 0, 127, 128, 255, 16_511, 2_113_662, Integer.MAX_VALUE - 1 };
+        int[] frequencias = { 1, 127, 128, 16_383, 16_384, 2_097_152, Integer.MAX_VALUE };
+        IndiceInvertido.Postagens postagens = new IndiceInvertido.Postagens();
+        IndiceInvertido.Postagens seguidas = new IndiceInvertido.Postagens();
+
+        // Ação
+        for (int i = 0; i < documentos.length; i++) {
+            postagens.acrescentar(documentos[i], frequencias[i]);
+        }
+        for (int documento = 0; documento < 3; documento++) {
+            seguidas.acrescentar(documento, 1);
+        }
+
+        // Verificações
+        IndiceInvertido.Postagens.Leitor leitor = postagens.leitor();
+        for (int i = 0; i < documentos.length; i++) {
+            assertTrue(leitor.proximo());
+            assertEquals(documentos[i], leitor.documento);
+            assertEquals(frequencias[i], leitor.frequencia);
+        }
+        assertFalse(leitor.proximo());
+        assertEquals(6, seguidas.tamanhoEmBytes());
+    }
+
+    /**
+     * Testa se a pontuação segue a fórmula BM25, com o nome valendo em dobro.
+     *
+     * Cenário:
+     *     Dado um projeto com "Alpha" no nome e outro com "alpha beta gama" na descrição.
+     *     Quando "alpha" é buscado.
+     *     Então o primeiro deve vir antes, com frequência 2 e comprimento 2.
+     *     E as pontuações devem ser as calculadas pela fórmula com comprimento médio 2,5.
+     *
+     * @see IndiceInvertido#buscar
+     */
+    @Test
+    public void testBuscarScoresWithBm25() {
+        // Preparação
+        IndiceInvertido indice = new IndiceInvertido();
+        indice.indexar(1L, "Alpha", null);
+        indice.indexar(2L, null, "alpha beta gama");
+        double idf = Math.log(1 + (2 - 2 + 0.5) / (2 + 0.5));
+
+        // Ação
+        List<IndiceInvertido.Resultado> resultados = indice.buscar("alpha", null, 10);
+
+        // Verificações
+        assertEquals(2, resultados.size());
+        assertEquals(1L, resultados.get(0).id());
+        assertEquals(bm25(idf, 2, 2, 2.5), resultados.get(0).pontuacao(), 1e-12);
+        assertEquals(2L, resultados.get(1).id());
+        assertEquals(bm25(idf, 1, 3, 2.5), resultados.get(1).pontuacao(), 1e-12);
+    }
+
+    /**
+     * Testa se projetos removidos ou alterados deixam de ser encontrados pelo texto antigo.
+     *
+     * Cenário:
+     *     Dado três projetos com "sistema" na descrição.
+     *     Quando um é removido e outro passa a descrever "portal".
+     *     Então "sistema" deve encontrar só o projeto restante, pontuado como num índice de dois documentos.
+     *     E "portal" deve encontrar o projeto alterado.
+     *
+     * @see IndiceInvertido#remover(long)
+     */
+    @Test
+    public void testRemovedAndUpdatedDocumentsAreNotFound() {
+        // Preparação
+        IndiceInvertido indice = new IndiceInvertido();
+        indice.indexar(1L, null, "sistema");
+        indice.indexar(2L, null, "sistema");
+        indice.indexar(3L, null, "sistema");
+
+        // Ação
+        indice.remover(1L);
+        indice.indexar(2L, null, "portal");
+
+        // Verificações
+        List<IndiceInvertido.Resultado> sistema = indice.buscar("sistema", null, 10);
+        assertEquals(1, sistema.size());
+        assertEquals(3L, sistema.get(0).id());
+        assertEquals(bm25(Math.log(1 + 1.5 / 1.5), 1, 1, 1), sistema.get(0).pontuacao(), 1e-12);
+        assertEquals(List.of(2L), ids(indice.buscar("portal", null, 10)));
+        assertEquals(2, indice.tamanho());
+    }
+
+    /**
+     * Testa se a compactação descarta as cópias removidas sem alterar os resultados.
+     *
+     * Cenário:
+     *     Dado 200 projetos indexados, dos quais 150 são removidos.
+     *     Quando a quantidade de removidos dispara a compactação.
+     *     Então o índice deve guardar menos números internos do que os 200 usados.
+     *     E a busca deve retornar os mesmos projetos e pontuações de um índice montado só com os 50 restantes.
+     *
+     * @see IndiceInvertido#remover(long)
+     */
+    @Test
+    public void testCompactionKeepsResults() {
+        // Preparação
+        IndiceInvertido indice = new IndiceInvertido();
+        IndiceInvertido referencia = new IndiceInvertido();
+        for (long id = 1; id <= 200; id++) {
+            indice.indexar(id, "Projeto " + id, descricao(id));
+        }
+        for (long id = 151; id <= 200; id++) {
+            referencia.indexar(id, "Projeto " + id, descricao(id));
+        }
+
+        // Ação
+        for (long id = 1; id <= 150; id++) {
+            indice.remover(id);
+        }
+
+        // Verificações
+        assertTrue(indice.documentosArmazenados() < 200, "Números internos: " + indice.documentosArmazenados());
+        assertEquals(50, indice.tamanho());
+        for (String consulta : List.of("projeto", "integracao", "portal pagamentos")) {
+            assertEquals(referencia.buscar(consulta, null, 100), indice.buscar(consulta, null, 100));
+        }
+    }
+
+    /**
+     * Testa se as páginas encadeadas pelo cursor cobrem o ranking completo, sem repetições.
+     *
+     * Cenário:
+     *     Dado 30 projetos, vários com a mesma pontuação.
+     *     Quando a busca é percorrida em páginas de 7, passando o cursor de uma página para a seguinte.
+     *     Então as páginas, em sequência, devem reproduzir a ordem de uma única busca completa.
+     *
+     * @see IndiceInvertido#buscar
+     */
+    @Test
+    public void testCursorPagesFollowRanking() {
+        // Preparação
+        IndiceInvertido indice = new IndiceInvertido();
+        for (long id = 1; id <= 30; id++) {
+            indice.indexar(id, "Projeto " + id, id % 3 == 0 ? "integracao integracao" : "integracao");
+        }
+        List<Long> esperados = ids(indice.buscar("integracao", null, 100));
+
+        // Ação
+        List<Long> percorridos = new ArrayList<>();
+        String cursor = null;
+        do {
+            List<IndiceInvertido.Resultado> pagina = indice.buscar("integracao",
+                    BuscaProjetoServiceImpl.decodificar(cursor), 8);
+            List<IndiceInvertido.Resultado> itens = pagina.subList(0, Math.min(7, pagina.size()));
+            itens.forEach(resultado -> percorridos.add(resultado.id()));
+            cursor = pagina.size() > 7 ? BuscaProjetoServiceImpl.codificar(itens.get(itens.size() - 1)) : null;
+        } while (cursor != null);
+
+        // Verificações
+        assertEquals(30, esperados.size());
+        assertEquals(esperados, percorridos);
+    }
+
+    /**
+     * Testa se a busca com limite retorna os mesmos primeiros resultados da busca completa.
+     *
+     * Cenário:
+     *     Dado 500 projetos com pontuações variadas.
+     *     Quando a busca é feita com limite 10.
+     *     Então devem vir os 10 primeiros da busca sem limite, na mesma ordem.
+     *
+     * @see IndiceInvertido#buscar
+     */
+    @Test
+    public void testLimitedSearchReturnsTopResults() {
+        // Preparação
+        IndiceInvertido indice = new IndiceInvertido();
+        for (long id = 1; id <= 500; id++) {
+            indice.indexar(id, null, "portal " + "pagamentos ".repeat((int) (id % 7) + 1) + descricao(id));
+        }
+
+        // Ação
+        List<IndiceInvertido.Resultado> primeiros = indice.buscar("portal pagamentos", null, 10);
+
+        // Verificações
+        assertEquals(indice.buscar("portal pagamentos", null, 500).subList(0, 10), primeiros);
+    }
+
+    /**
+     * Testa se um cursor que não foi gerado pela busca é recusado.
+     *
+     * Cenário:
+     *     Dado um cursor em Base64 sem pontuação e ID.
+     *     Quando o cursor é decodificado.
+     *     Então deve ser lançada IllegalArgumentException.
+     *     E a ausência de cursor deve indicar o início do ranking.
+     *
+     * @see BuscaProjetoServiceImpl#decodificar(String)
+     */
+    @Test
+    public void testInvalidCursorIsRejected() {
+        // Ação e verificações
+        assertThrows(IllegalArgumentException.class, () -> BuscaProjetoServiceImpl.decodificar("MTIz"));
+        assertThrows(IllegalArgumentException.class, () -> BuscaProjetoServiceImpl.decodificar("@@@"));
+        assertNull(BuscaProjetoServiceImpl.decodificar(null));
+    }
+
+    private static double bm25(double idf, double tf, double comprimento, double comprimentoMedio) {
+        double normalizacao = IndiceInvertido.K1 * (1 - IndiceInvertido.B + IndiceInvertido.B * comprimento / comprimentoMedio);
+        return idf * tf * (IndiceInvertido.K1 + 1) / (tf + normalizacao);
+    }
+
+    private static String descricao(long id) {
+        return id % 2 == 0 ? "integracao com portal" : "pagamentos e integracao";
+    }
+
+    private static List<Long> ids(List<IndiceInvertido.Resultado> resultados) {
+        return resultados.stream().map(IndiceInvertido.Resultado::id).toList();
+    }
+
+}